@@ -12,6 +12,7 @@
  */
 package org.openhab.automation.jsscripting.internal;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -33,16 +34,27 @@ public class GraalJSScriptEngineConfiguration {
     private static final String CFG_WRAPPER_ENABLED = "wrapperEnabled";
     private static final String CFG_EVENT_CONVERSION_ENABLED = "eventConversionEnabled";
     private static final String CFG_DEPENDENCY_TRACKING_ENABLED = "dependencyTrackingEnabled";
+    private static final String CFG_CONTEXT_POOL_SIZE = "contextPoolSize";
+    private static final String CFG_ENGINE_POOL_MIN_SIZE = "enginePoolMinSize";
+    private static final String CFG_ENGINE_POOL_MAX_SIZE = "enginePoolMaxSize";
+    private static final String CFG_ENGINE_POOL_IDLE_TIMEOUT = "enginePoolIdleTimeout";
 
     private static final int INJECTION_ENABLED_FOR_UI_BASED_SCRIPTS_ONLY = 1;
     private static final int INJECTION_ENABLED_FOR_UI_BASED_SCRIPTS_AND_TRANSFORMATIONS = 2;
     private static final int INJECTION_ENABLED_FOR_ALL_SCRIPTS = 3;
 
+    private static final int MAX_CONTEXT_POOL_SIZE = 8;
+    private static final int MAX_ENGINE_POOL_SIZE = 8;
+
     private int injectionEnabled = INJECTION_ENABLED_FOR_ALL_SCRIPTS;
     private boolean injectionCachingEnabled = true;
     private boolean wrapperEnabled = true;
     private boolean eventConversionEnabled = true;
     private boolean dependencyTrackingEnabled = true;
+    private int contextPoolSize = 1;
+    private int enginePoolMinSize = 0;
+    private int enginePoolMaxSize = 4;
+    private Duration enginePoolIdleTimeout = Duration.ofMinutes(10);
 
     /**
      * Create a new configuration instance from the given parameters.
@@ -110,6 +122,18 @@ public class GraalJSScriptEngineConfiguration {
                 true);
         dependencyTrackingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_DEPENDENCY_TRACKING_ENABLED),
                 Boolean.class, true);
+        int configuredContextPoolSize = ConfigParser.valueAsOrElse(config.get(CFG_CONTEXT_POOL_SIZE), Integer.class,
+                1);
+        contextPoolSize = Math.max(1, Math.min(MAX_CONTEXT_POOL_SIZE, configuredContextPoolSize));
+        int configuredEnginePoolMinSize = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_MIN_SIZE),
+                Integer.class, 0);
+        enginePoolMinSize = Math.max(0, Math.min(MAX_ENGINE_POOL_SIZE, configuredEnginePoolMinSize));
+        int configuredEnginePoolMaxSize = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_MAX_SIZE),
+                Integer.class, 4);
+        enginePoolMaxSize = Math.max(enginePoolMinSize, Math.min(MAX_ENGINE_POOL_SIZE, configuredEnginePoolMaxSize));
+        int configuredEnginePoolIdleTimeout = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_IDLE_TIMEOUT),
+                Integer.class, 600);
+        enginePoolIdleTimeout = Duration.ofSeconds(Math.max(0, configuredEnginePoolIdleTimeout));
     }
 
     public boolean isInjectionEnabledForUiBasedScript() {
@@ -139,4 +163,40 @@ public class GraalJSScriptEngineConfiguration {
     public boolean isDependencyTrackingEnabled() {
         return dependencyTrackingEnabled;
     }
+
+    /**
+     * Get the maximum number of contexts a UI-based script may run in at the same time.
+     *
+     * @return the pool size, 1 if UI-based scripts always run in a single context
+     */
+    public int getContextPoolSize() {
+        return contextPoolSize;
+    }
+
+    /**
+     * Get the number of pre-warmed script engines to keep ready even if they are not used.
+     *
+     * @return the minimum size of the engine pool
+     */
+    public int getEnginePoolMinSize() {
+        return enginePoolMinSize;
+    }
+
+    /**
+     * Get the maximum number of pre-warmed script engines to keep ready.
+     *
+     * @return the maximum size of the engine pool, 0 if engines are only created on demand
+     */
+    public int getEnginePoolMaxSize() {
+        return enginePoolMaxSize;
+    }
+
+    /**
+     * Get the time after which unused pre-warmed script engines above the minimum pool size are closed.
+     *
+     * @return the idle timeout, zero if unused engines are kept
+     */
+    public Duration getEnginePoolIdleTimeout() {
+        return enginePoolIdleTimeout;
+    }
 }
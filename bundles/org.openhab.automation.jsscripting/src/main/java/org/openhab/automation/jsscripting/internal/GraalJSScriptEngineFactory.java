@@ -23,15 +23,21 @@ import javax.script.ScriptEngine;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
+import org.openhab.automation.jsscripting.internal.scriptengine.helper.PreWarmedEnginePool;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +60,8 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     public static final String SCRIPT_TYPE = "application/javascript";
 
+    private static final String ENGINE_POOL_THREADPOOL_NAME = "jsscripting";
+
     private static final GraalJSEngineFactory FACTORY = new GraalJSEngineFactory();
 
     private static final List<String> SCRIPT_TYPES = createScriptTypes();
@@ -70,6 +78,7 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
+    private final PreWarmedEnginePool<OpenhabGraalJSScriptEngine> enginePool;
 
     @Activate
     public GraalJSScriptEngineFactory(final @Reference JSScriptServiceUtil jsScriptServiceUtil,
@@ -79,11 +88,31 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         this.jsDependencyTracker = jsDependencyTracker;
         this.jsScriptServiceUtil = jsScriptServiceUtil;
         this.configuration = new GraalJSScriptEngineConfiguration(config);
+        this.enginePool = new PreWarmedEnginePool<>("js", this::createPreWarmedEngine,
+                ThreadPoolManager.getScheduledPool(ENGINE_POOL_THREADPOOL_NAME));
+        configureEnginePool();
     }
 
     @Modified
     protected void modified(Map<String, ?> config) {
         configuration.modified(config);
+        // pre-warmed engines might have been initialized with the old configuration
+        enginePool.clear();
+        configureEnginePool();
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        enginePool.close();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        enginePool.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        enginePool.setMeterRegistry(null);
     }
 
     @Override
@@ -101,12 +130,34 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         if (!SCRIPT_TYPES.contains(scriptType)) {
             return null;
         }
-        return new DebuggingGraalScriptEngine<>(
-                new OpenhabGraalJSScriptEngine(configuration, jsScriptServiceUtil, jsDependencyTracker));
+        PooledGraalJSScriptEngine scriptEngine = new PooledGraalJSScriptEngine(configuration, enginePool::take);
+        jsScriptServiceUtil.addScriptEngine(scriptEngine);
+        return new DebuggingGraalScriptEngine<>(scriptEngine);
     }
 
     @Override
     public @Nullable ScriptDependencyTracker getDependencyTracker() {
         return jsDependencyTracker;
     }
+
+    private void configureEnginePool() {
+        enginePool.configure(configuration.getEnginePoolMinSize(), configuration.getEnginePoolMaxSize(),
+                configuration.getEnginePoolIdleTimeout());
+    }
+
+    private OpenhabGraalJSScriptEngine createPreWarmedEngine() {
+        OpenhabGraalJSScriptEngine engine = new OpenhabGraalJSScriptEngine(configuration, jsScriptServiceUtil,
+                jsDependencyTracker);
+        try {
+            engine.prewarm();
+        } catch (RuntimeException e) {
+            try {
+                engine.close();
+            } catch (Exception closeException) {
+                logger.debug("Failed to close script engine: {}", closeException.getMessage());
+            }
+            throw e;
+        }
+        return engine;
+    }
 }
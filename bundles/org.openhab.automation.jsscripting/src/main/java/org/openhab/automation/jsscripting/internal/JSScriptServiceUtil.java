@@ -12,6 +12,11 @@
  */
 package org.openhab.automation.jsscripting.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.locks.Lock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -31,6 +36,8 @@ import org.osgi.service.component.annotations.Reference;
 public class JSScriptServiceUtil {
     private final Scheduler scheduler;
     private final ScriptExecution scriptExecution;
+    // engines are removed by the garbage collector after they have been closed
+    private final Set<PooledGraalJSScriptEngine> scriptEngines = Collections.newSetFromMap(new WeakHashMap<>());
 
     @Activate
     public JSScriptServiceUtil(final @Reference Scheduler scheduler, final @Reference ScriptExecution scriptExecution) {
@@ -49,4 +56,23 @@ public class JSScriptServiceUtil {
     public JSRuntimeFeatures getJSRuntimeFeatures(Lock lock) {
         return new JSRuntimeFeatures(lock, this);
     }
+
+    void addScriptEngine(PooledGraalJSScriptEngine scriptEngine) {
+        synchronized (scriptEngines) {
+            scriptEngines.add(scriptEngine);
+        }
+    }
+
+    /**
+     * Get the script engines that have not been closed yet.
+     *
+     * @return the open script engines
+     */
+    List<PooledGraalJSScriptEngine> getScriptEngines() {
+        synchronized (scriptEngines) {
+            List<PooledGraalJSScriptEngine> engines = new ArrayList<>(scriptEngines);
+            engines.removeIf(PooledGraalJSScriptEngine::isClosed);
+            return engines;
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.jsscripting.internal.threading.ContentionTrackingLock.Statistics;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JSScriptingConsoleCommandExtension} provides console commands to inspect the JavaScript script engines.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class JSScriptingConsoleCommandExtension extends AbstractConsoleCommandExtension
+        implements ConsoleCommandCompleter {
+
+    private static final String LOCKS = "locks";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(LOCKS), false);
+
+    private final JSScriptServiceUtil jsScriptServiceUtil;
+
+    @Activate
+    public JSScriptingConsoleCommandExtension(final @Reference JSScriptServiceUtil jsScriptServiceUtil) {
+        super("jsscripting", "JavaScript Scripting console utilities.");
+        this.jsScriptServiceUtil = jsScriptServiceUtil;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && LOCKS.equals(args[0])) {
+            printLocks(console);
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printLocks(Console console) {
+        List<PooledGraalJSScriptEngine> engines = jsScriptServiceUtil.getScriptEngines().stream()
+                .sorted(Comparator.comparingLong(e -> -e.getLockStatistics().totalWaitNanos())).toList();
+        if (engines.isEmpty()) {
+            console.println("No script engines.");
+            return;
+        }
+        console.println(String.format("%-50s %8s %12s %10s %14s %12s", "Engine", "Contexts", "Acquisitions",
+                "Contended", "Total wait ms", "Max wait ms"));
+        for (PooledGraalJSScriptEngine engine : engines) {
+            Statistics statistics = engine.getLockStatistics();
+            console.println(String.format("%-50s %8d %12d %10d %14d %12d", engine.getEngineIdentifier(),
+                    engine.getContextCount(), statistics.acquisitions(), statistics.contended(),
+                    statistics.totalWaitNanos() / 1_000_000, statistics.maxWaitNanos() / 1_000_000));
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(LOCKS, "show how long rules and timers waited for their script engine"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
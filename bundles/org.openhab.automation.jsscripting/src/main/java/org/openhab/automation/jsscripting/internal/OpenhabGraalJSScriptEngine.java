@@ -35,7 +35,6 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -55,6 +54,7 @@ import org.openhab.automation.jsscripting.internal.fs.ReadOnlySeekableByteArrayC
 import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocableAndCompilableAndAutoCloseable;
 import org.openhab.automation.jsscripting.internal.scriptengine.helper.LifecycleTracker;
+import org.openhab.automation.jsscripting.internal.threading.ContentionTrackingLock;
 import org.openhab.core.automation.module.script.ScriptExtensionAccessor;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.QuantityType;
@@ -138,7 +138,7 @@ public class OpenhabGraalJSScriptEngine
     private final Logger logger = LoggerFactory.getLogger(OpenhabGraalJSScriptEngine.class);
 
     /** {@link Lock} synchronization of multi-thread access */
-    private final Lock lock = new ReentrantLock();
+    private final ContentionTrackingLock lock = new ContentionTrackingLock();
     private final JSRuntimeFeatures jsRuntimeFeatures;
     private final LifecycleTracker lifecycleTracker = new LifecycleTracker();
     private final GraalJSScriptEngineConfiguration configuration;
@@ -147,6 +147,7 @@ public class OpenhabGraalJSScriptEngine
     private @Nullable Consumer<String> scriptDependencyListener;
     private String engineIdentifier = "<uninitialized>";
 
+    private boolean globalsInjected = false;
     private boolean initialized = false;
     private boolean closed = false;
 
@@ -296,17 +297,10 @@ public class OpenhabGraalJSScriptEngine
         delegate.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
         delegate.put("require", wrapRequireFn.apply((Function<Object[], Object>) delegate.get("require")));
 
-        // Injections into the JS runtime
-        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
-            logger.debug("Injecting {} into the context of engine '{}' ...", key, engineIdentifier);
-            delegate.put(key, obj);
-        });
-
         initialized = true;
 
         try {
-            logger.debug("Evaluating cached global script for engine '{}' ...", engineIdentifier);
-            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+            injectGlobals();
 
             if (configuration.isInjectionEnabledForAllScripts()
                     || (isUiBasedScript() && configuration.isInjectionEnabledForUiBasedScript())
@@ -378,6 +372,70 @@ public class OpenhabGraalJSScriptEngine
         }
     }
 
+    /**
+     * Creates the context of the engine and injects the runtime features and the global script ahead of the first
+     * invocation. Unlike {@link #initialize()}, this does not need the attributes of the script context, so it can be
+     * called before the engine is assigned to a script.
+     */
+    void prewarm() {
+        lock.lock();
+        try {
+            injectGlobals();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Injects the runtime features and evaluates the cached global script, unless this has already been done.
+     */
+    private void injectGlobals() {
+        if (globalsInjected) {
+            return;
+        }
+        globalsInjected = true;
+
+        // Injections into the JS runtime
+        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
+            logger.debug("Injecting {} into the context of engine '{}' ...", key, engineIdentifier);
+            delegate.put(key, obj);
+        });
+
+        logger.debug("Evaluating cached global script for engine '{}' ...", engineIdentifier);
+        delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+    }
+
+    /**
+     * Initializes the engine ahead of its first invocation, i.e. injects the globals and the openhab-js library.
+     */
+    void initialize() {
+        try {
+            beforeInvocation();
+            afterInvocation("");
+        } catch (RuntimeException e) {
+            afterThrowsInvocation(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the engine identifier or <code>&lt;uninitialized&gt;</code> if the engine has not been invoked yet
+     */
+    public String getEngineIdentifier() {
+        return engineIdentifier;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return the wait time statistics of the engine's lock
+     */
+    public ContentionTrackingLock.Statistics getLockStatistics() {
+        return lock.getStatistics();
+    }
+
     /**
      * Tests if the current script is a UI-based script, i.e. it is neither loaded from a file nor a transformation.
      * 
@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import static org.openhab.core.automation.module.script.ScriptEngineFactory.*;
+import static org.openhab.core.automation.module.script.ScriptTransformationService.OPENHAB_TRANSFORMATION_SCRIPT;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.Invocable;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.jsscripting.internal.threading.ContentionTrackingLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A script engine that runs a UI-based script in up to {@link GraalJSScriptEngineConfiguration#getContextPoolSize()}
+ * {@link OpenhabGraalJSScriptEngine}s, each with its own GraalJS context.
+ *
+ * UI-based scripts wrapped in a self-executing function keep no state between runs, so a run that would have to wait
+ * for the lock of a busy context, e.g. because a timer of the script is running, can use another context instead.
+ * Acquiring the {@link Lock} of this engine checks out a context for the calling thread; all calls of that thread are
+ * forwarded to that context until the lock is released. Calls without the lock, and all calls for file-based scripts
+ * and transformations, are forwarded to the primary context, so these scripts still run strictly one at a time.
+ *
+ * Additional contexts are created from the shared {@link org.graalvm.polyglot.Engine} when needed and are initialized
+ * with the cached globals and openhab-js injection before they are used.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PooledGraalJSScriptEngine implements ScriptEngine, Invocable, Compilable, AutoCloseable, Lock {
+    // context attributes set by the script engine manager, which are copied to additional contexts
+    private static final List<String> SHARED_ATTRIBUTES = List.of(CONTEXT_KEY_ENGINE_IDENTIFIER,
+            CONTEXT_KEY_EXTENSION_ACCESSOR, CONTEXT_KEY_DEPENDENCY_LISTENER, ScriptEngine.FILENAME, "ruleUID");
+
+    private final Logger logger = LoggerFactory.getLogger(PooledGraalJSScriptEngine.class);
+
+    private final GraalJSScriptEngineConfiguration configuration;
+    private final Supplier<OpenhabGraalJSScriptEngine> engineSupplier;
+    private final OpenhabGraalJSScriptEngine primary;
+    private final List<OpenhabGraalJSScriptEngine> engines = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<@Nullable Checkout> checkouts = new ThreadLocal<>();
+    private volatile @Nullable Map<String, Object> sharedAttributes;
+    private volatile boolean closed;
+
+    /**
+     * The context checked out by a thread and the number of times the thread holds its lock
+     */
+    private static class Checkout {
+        private final OpenhabGraalJSScriptEngine engine;
+        private int holds = 1;
+
+        Checkout(OpenhabGraalJSScriptEngine engine) {
+            this.engine = engine;
+        }
+    }
+
+    PooledGraalJSScriptEngine(GraalJSScriptEngineConfiguration configuration,
+            Supplier<OpenhabGraalJSScriptEngine> engineSupplier) {
+        this.configuration = configuration;
+        this.engineSupplier = engineSupplier;
+        this.primary = engineSupplier.get();
+        engines.add(primary);
+    }
+
+    /**
+     * @return the wait time statistics of the locks of all contexts
+     */
+    public ContentionTrackingLock.Statistics getLockStatistics() {
+        return engines.stream().map(OpenhabGraalJSScriptEngine::getLockStatistics)
+                .reduce(ContentionTrackingLock.Statistics.EMPTY, ContentionTrackingLock.Statistics::plus);
+    }
+
+    /**
+     * @return the number of contexts of this engine
+     */
+    public int getContextCount() {
+        return engines.size();
+    }
+
+    public String getEngineIdentifier() {
+        return primary.getEngineIdentifier();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * The engine all calls of the current thread are forwarded to
+     */
+    private OpenhabGraalJSScriptEngine current() {
+        Checkout checkout = checkouts.get();
+        return checkout != null ? checkout.engine : primary;
+    }
+
+    /**
+     * Whether runs of this script may use additional contexts
+     */
+    private boolean isPoolable() {
+        Map<String, Object> attributes = sharedAttributes;
+        if (closed || attributes == null || configuration.getContextPoolSize() <= 1
+                || !configuration.isWrapperEnabled()) {
+            return false;
+        }
+        @Nullable
+        Object identifier = attributes.get(CONTEXT_KEY_ENGINE_IDENTIFIER);
+        return attributes.get(ScriptEngine.FILENAME) == null && identifier != null
+                && !identifier.toString().startsWith(OPENHAB_TRANSFORMATION_SCRIPT);
+    }
+
+    /**
+     * Remember the attributes the script engine manager set on the primary context. Must hold the primary's lock.
+     */
+    private void captureSharedAttributes() {
+        if (sharedAttributes != null) {
+            return;
+        }
+        ScriptContext ctx = primary.getContext();
+        if (ctx == null || ctx.getAttribute(CONTEXT_KEY_ENGINE_IDENTIFIER) == null) {
+            return;
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        for (String name : SHARED_ATTRIBUTES) {
+            Object value = ctx.getAttribute(name);
+            if (value != null) {
+                attributes.put(name, value);
+            }
+        }
+        sharedAttributes = attributes;
+    }
+
+    /**
+     * Lock an idle context without waiting
+     *
+     * @return the locked context or <code>null</code> if all contexts are busy and no more contexts may be created
+     */
+    private @Nullable OpenhabGraalJSScriptEngine lockIdleEngine() {
+        for (OpenhabGraalJSScriptEngine engine : engines) {
+            if (engine.tryLock()) {
+                return engine;
+            }
+        }
+        return createLockedEngine();
+    }
+
+    private @Nullable OpenhabGraalJSScriptEngine createLockedEngine() {
+        Map<String, Object> attributes = sharedAttributes;
+        if (attributes == null) {
+            return null;
+        }
+        synchronized (engines) {
+            if (closed || engines.size() >= configuration.getContextPoolSize()) {
+                return null;
+            }
+            OpenhabGraalJSScriptEngine engine = engineSupplier.get();
+            ScriptContext ctx = engine.getContext();
+            attributes.forEach((name, value) -> ctx.setAttribute(name, value, ScriptContext.ENGINE_SCOPE));
+            try {
+                engine.initialize();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to initialize additional context for engine '{}': {}", getEngineIdentifier(),
+                        e.getMessage());
+                closeEngine(engine);
+                return null;
+            }
+            // lock before the context becomes visible to other threads
+            engine.lock();
+            engines.add(engine);
+            logger.debug("Created context {} of {} for engine '{}'.", engines.size(),
+                    configuration.getContextPoolSize(), getEngineIdentifier());
+            return engine;
+        }
+    }
+
+    @Override
+    public void lock() {
+        Checkout checkout = checkouts.get();
+        if (checkout != null) {
+            checkout.engine.lock();
+            checkout.holds++;
+            return;
+        }
+        OpenhabGraalJSScriptEngine engine = isPoolable() ? lockIdleEngine() : null;
+        if (engine == null) {
+            engine = primary;
+            engine.lock();
+            captureSharedAttributes();
+        }
+        checkouts.set(new Checkout(engine));
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        Checkout checkout = checkouts.get();
+        if (checkout != null) {
+            checkout.engine.lockInterruptibly();
+            checkout.holds++;
+            return;
+        }
+        OpenhabGraalJSScriptEngine engine = isPoolable() ? lockIdleEngine() : null;
+        if (engine == null) {
+            engine = primary;
+            engine.lockInterruptibly();
+            captureSharedAttributes();
+        }
+        checkouts.set(new Checkout(engine));
+    }
+
+    @Override
+    public boolean tryLock() {
+        Checkout checkout = checkouts.get();
+        if (checkout != null) {
+            if (checkout.engine.tryLock()) {
+                checkout.holds++;
+                return true;
+            }
+            return false;
+        }
+        for (OpenhabGraalJSScriptEngine engine : isPoolable() ? engines : List.of(primary)) {
+            if (engine.tryLock()) {
+                if (engine == primary) {
+                    captureSharedAttributes();
+                }
+                checkouts.set(new Checkout(engine));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        Checkout checkout = checkouts.get();
+        if (checkout != null) {
+            if (checkout.engine.tryLock(time, unit)) {
+                checkout.holds++;
+                return true;
+            }
+            return false;
+        }
+        OpenhabGraalJSScriptEngine engine = isPoolable() ? lockIdleEngine() : null;
+        if (engine == null) {
+            engine = primary;
+            if (!engine.tryLock(time, unit)) {
+                return false;
+            }
+            captureSharedAttributes();
+        }
+        checkouts.set(new Checkout(engine));
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        Checkout checkout = checkouts.get();
+        if (checkout == null) {
+            throw new IllegalMonitorStateException("Lock of engine '" + getEngineIdentifier() + "' is not held");
+        }
+        if (--checkout.holds == 0) {
+            checkouts.remove();
+        }
+        checkout.engine.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return current().newCondition();
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (engines) {
+            closed = true;
+        }
+        for (OpenhabGraalJSScriptEngine engine : engines) {
+            closeEngine(engine);
+        }
+    }
+
+    private void closeEngine(OpenhabGraalJSScriptEngine engine) {
+        try {
+            engine.close();
+        } catch (Exception e) {
+            logger.debug("Failed to close context of engine '{}': {}", getEngineIdentifier(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Object eval(@Nullable String script, @Nullable ScriptContext context) throws ScriptException {
+        return current().eval(script, context);
+    }
+
+    @Override
+    public Object eval(@Nullable Reader reader, @Nullable ScriptContext context) throws ScriptException {
+        return current().eval(reader, context);
+    }
+
+    @Override
+    public Object eval(@Nullable String script) throws ScriptException {
+        return current().eval(script);
+    }
+
+    @Override
+    public Object eval(@Nullable Reader reader) throws ScriptException {
+        return current().eval(reader);
+    }
+
+    @Override
+    public Object eval(@Nullable String script, @Nullable Bindings bindings) throws ScriptException {
+        return current().eval(script, bindings);
+    }
+
+    @Override
+    public Object eval(@Nullable Reader reader, @Nullable Bindings bindings) throws ScriptException {
+        return current().eval(reader, bindings);
+    }
+
+    @Override
+    public void put(@Nullable String key, @Nullable Object value) {
+        current().put(key, value);
+    }
+
+    @Override
+    public Object get(@Nullable String key) {
+        return current().get(key);
+    }
+
+    @Override
+    public Bindings getBindings(int scope) {
+        return current().getBindings(scope);
+    }
+
+    @Override
+    public void setBindings(@Nullable Bindings bindings, int scope) {
+        current().setBindings(bindings, scope);
+    }
+
+    @Override
+    public Bindings createBindings() {
+        return current().createBindings();
+    }
+
+    @Override
+    public ScriptContext getContext() {
+        return current().getContext();
+    }
+
+    @Override
+    public void setContext(@Nullable ScriptContext context) {
+        current().setContext(context);
+    }
+
+    @Override
+    public ScriptEngineFactory getFactory() {
+        return primary.getFactory();
+    }
+
+    @Override
+    public Object invokeMethod(@Nullable Object thiz, @Nullable String name, Object @Nullable... args)
+            throws ScriptException, NoSuchMethodException {
+        return current().invokeMethod(thiz, name, args);
+    }
+
+    @Override
+    public Object invokeFunction(@Nullable String name, Object @Nullable... args)
+            throws ScriptException, NoSuchMethodException {
+        return current().invokeFunction(name, args);
+    }
+
+    @Override
+    public <T> T getInterface(@Nullable Class<T> clasz) {
+        return current().getInterface(clasz);
+    }
+
+    @Override
+    public <T> T getInterface(@Nullable Object thiz, @Nullable Class<T> clasz) {
+        return current().getInterface(thiz, clasz);
+    }
+
+    @Override
+    public CompiledScript compile(@Nullable String script) throws ScriptException {
+        String source = Objects.requireNonNull(script);
+        // compile in the current context right away to report syntax errors
+        OpenhabGraalJSScriptEngine engine = current();
+        return new PooledCompiledScript(source, engine, engine.compile(source));
+    }
+
+    @Override
+    public CompiledScript compile(@Nullable Reader reader) throws ScriptException {
+        StringWriter writer = new StringWriter();
+        try {
+            Objects.requireNonNull(reader).transferTo(writer);
+        } catch (IOException e) {
+            throw new ScriptException(e);
+        }
+        return compile(writer.toString());
+    }
+
+    /**
+     * A script compiled separately for every context it is evaluated in
+     */
+    private class PooledCompiledScript extends CompiledScript {
+        private final String script;
+        private final Map<OpenhabGraalJSScriptEngine, CompiledScript> compiledScripts = new ConcurrentHashMap<>();
+
+        PooledCompiledScript(String script, OpenhabGraalJSScriptEngine engine, CompiledScript compiled) {
+            this.script = script;
+            compiledScripts.put(engine, compiled);
+        }
+
+        @Override
+        public Object eval(@Nullable ScriptContext context) throws ScriptException {
+            OpenhabGraalJSScriptEngine engine = current();
+            @Nullable
+            CompiledScript compiled = compiledScripts.get(engine);
+            if (compiled == null) {
+                compiled = engine.compile(script);
+                compiledScripts.put(engine, compiled);
+            }
+            return compiled.eval(context);
+        }
+
+        @Override
+        public ScriptEngine getEngine() {
+            return PooledGraalJSScriptEngine.this;
+        }
+    }
+}
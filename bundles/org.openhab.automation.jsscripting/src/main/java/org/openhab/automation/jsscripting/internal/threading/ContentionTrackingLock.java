@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link ReentrantLock} that records how long threads had to wait to acquire it. This allows to see how much the
+ * rules and timers of a script engine block each other.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ContentionTrackingLock implements Lock {
+
+    /**
+     * Wait time statistics of a lock
+     *
+     * @param acquisitions number of times the lock was acquired
+     * @param contended number of acquisitions that had to wait for another thread
+     * @param totalWaitNanos total time spent waiting for the lock
+     * @param maxWaitNanos longest time spent waiting for the lock
+     */
+    public record Statistics(long acquisitions, long contended, long totalWaitNanos, long maxWaitNanos) {
+        public static final Statistics EMPTY = new Statistics(0, 0, 0, 0);
+
+        public Statistics plus(Statistics other) {
+            return new Statistics(acquisitions + other.acquisitions, contended + other.contended,
+                    totalWaitNanos + other.totalWaitNanos, Math.max(maxWaitNanos, other.maxWaitNanos));
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong contended = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void lock() {
+        if (!lock.tryLock()) {
+            long start = System.nanoTime();
+            lock.lock();
+            recordWait(start);
+        }
+        acquisitions.incrementAndGet();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (!lock.tryLock()) {
+            long start = System.nanoTime();
+            try {
+                lock.lockInterruptibly();
+            } finally {
+                recordWait(start);
+            }
+        }
+        acquisitions.incrementAndGet();
+    }
+
+    @Override
+    public boolean tryLock() {
+        if (lock.tryLock()) {
+            acquisitions.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        if (!lock.tryLock()) {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = lock.tryLock(time, unit);
+            } finally {
+                recordWait(start);
+            }
+            if (!acquired) {
+                return false;
+            }
+        }
+        acquisitions.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        lock.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return lock.newCondition();
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(acquisitions.get(), contended.get(), totalWaitNanos.get(), maxWaitNanos.get());
+    }
+
+    private void recordWait(long start) {
+        long waited = System.nanoTime() - start;
+        contended.incrementAndGet();
+        totalWaitNanos.addAndGet(waited);
+        maxWaitNanos.accumulate(waited);
+    }
+}
@@ -226,6 +226,20 @@ public class PythonScriptEngine
         delegate = GraalPythonScriptEngine.create(ENGINE, contextConfig);
     }
 
+    /**
+     * Creates and initializes the Python context of the engine ahead of the first invocation, which includes importing
+     * the site module. This does not need the attributes of the script context, so it can be called before the engine
+     * is assigned to a script.
+     */
+    void prewarm() {
+        lock.lock();
+        try {
+            delegate.getPolyglotContext().initialize(GraalPythonScriptEngine.LANGUAGE_ID);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     protected void beforeInvocation() {
         lock.lock();
@@ -12,6 +12,7 @@
  */
 package org.openhab.automation.pythonscripting.internal;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,6 +36,11 @@ public class PythonScriptEngineConfiguration {
     private static final String CFG_DEPENDENCY_TRACKING_ENABLED = "dependencyTrackingEnabled";
     private static final String CFG_CACHING_ENABLED = "cachingEnabled";
     private static final String CFG_JYTHON_EMULATION = "jythonEmulation";
+    private static final String CFG_ENGINE_POOL_MIN_SIZE = "enginePoolMinSize";
+    private static final String CFG_ENGINE_POOL_MAX_SIZE = "enginePoolMaxSize";
+    private static final String CFG_ENGINE_POOL_IDLE_TIMEOUT = "enginePoolIdleTimeout";
+
+    private static final int MAX_ENGINE_POOL_SIZE = 8;
 
     public static final int INJECTION_DISABLED = 0;
     public static final int INJECTION_ENABLED_FOR_ALL_SCRIPTS = 1;
@@ -45,6 +51,9 @@ public class PythonScriptEngineConfiguration {
     private boolean dependencyTrackingEnabled = false;
     private boolean cachingEnabled = false;
     private boolean jythonEmulation = false;
+    private int enginePoolMinSize = 0;
+    private int enginePoolMaxSize = 4;
+    private Duration enginePoolIdleTimeout = Duration.ofMinutes(10);
 
     /**
      * Update configuration
@@ -62,6 +71,17 @@ public class PythonScriptEngineConfiguration {
                 Boolean.class, true);
         this.cachingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_CACHING_ENABLED), Boolean.class, true);
         this.jythonEmulation = ConfigParser.valueAsOrElse(config.get(CFG_JYTHON_EMULATION), Boolean.class, false);
+
+        int configuredEnginePoolMinSize = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_MIN_SIZE),
+                Integer.class, 0);
+        this.enginePoolMinSize = Math.max(0, Math.min(MAX_ENGINE_POOL_SIZE, configuredEnginePoolMinSize));
+        int configuredEnginePoolMaxSize = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_MAX_SIZE),
+                Integer.class, 4);
+        this.enginePoolMaxSize = Math.max(enginePoolMinSize,
+                Math.min(MAX_ENGINE_POOL_SIZE, configuredEnginePoolMaxSize));
+        int configuredEnginePoolIdleTimeout = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_IDLE_TIMEOUT),
+                Integer.class, 600);
+        this.enginePoolIdleTimeout = Duration.ofSeconds(Math.max(0, configuredEnginePoolIdleTimeout));
     }
 
     public boolean isScopeEnabled() {
@@ -87,4 +107,16 @@ public class PythonScriptEngineConfiguration {
     public boolean isJythonEmulation() {
         return jythonEmulation;
     }
+
+    public int getEnginePoolMinSize() {
+        return enginePoolMinSize;
+    }
+
+    public int getEnginePoolMaxSize() {
+        return enginePoolMaxSize;
+    }
+
+    public Duration getEnginePoolIdleTimeout() {
+        return enginePoolIdleTimeout;
+    }
 }
@@ -39,10 +39,13 @@ import javax.script.ScriptEngine;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.automation.pythonscripting.internal.fs.watch.PythonDependencyTracker;
+import org.openhab.automation.pythonscripting.internal.scriptengine.helper.PreWarmedEnginePool;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.service.component.annotations.Activate;
@@ -50,6 +53,8 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +72,7 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory {
     private final Logger logger = LoggerFactory.getLogger(PythonScriptEngineFactory.class);
 
     private static final String RESOURCE_SEPARATOR = "/";
+    private static final String ENGINE_POOL_THREADPOOL_NAME = "pythonscripting";
 
     public static final Path PYTHON_DEFAULT_PATH = Paths.get(OpenHAB.getConfigFolder(), "automation", "python");
     public static final Path PYTHON_LIB_PATH = PYTHON_DEFAULT_PATH.resolve("lib");
@@ -81,6 +87,7 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory {
 
     private final PythonDependencyTracker pythonDependencyTracker;
     private final PythonScriptEngineConfiguration pythonScriptEngineConfiguration;
+    private final PreWarmedEnginePool<PythonScriptEngine> enginePool;
 
     @Activate
     public PythonScriptEngineFactory(final @Reference PythonDependencyTracker pythonDependencyTracker,
@@ -89,22 +96,41 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory {
 
         this.pythonDependencyTracker = pythonDependencyTracker;
         this.pythonScriptEngineConfiguration = new PythonScriptEngineConfiguration();
+        this.enginePool = new PreWarmedEnginePool<>("python", this::createPreWarmedEngine,
+                ThreadPoolManager.getScheduledPool(ENGINE_POOL_THREADPOOL_NAME));
 
-        modified(config);
+        this.pythonScriptEngineConfiguration.update(config);
 
         if (this.pythonScriptEngineConfiguration.isHelperEnabled()) {
             initHelperLib();
         }
+
+        // start pre-warming engines once the helper libs are deployed
+        configureEnginePool();
     }
 
     @Deactivate
     public void cleanup() {
         logger.debug("Unloading PythonScriptEngineFactory");
+        enginePool.close();
     }
 
     @Modified
     protected void modified(Map<String, ?> config) {
         this.pythonScriptEngineConfiguration.update(config);
+
+        // pre-warmed engines have been created with the context options of the old configuration
+        enginePool.clear();
+        configureEnginePool();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        enginePool.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        enginePool.setMeterRegistry(null);
     }
 
     @Override
@@ -124,7 +150,7 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory {
         if (!scriptTypes.contains(scriptType)) {
             return null;
         }
-        return new PythonScriptEngine(pythonDependencyTracker, pythonScriptEngineConfiguration);
+        return enginePool.take();
     }
 
     @Override
@@ -132,6 +158,27 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory {
         return pythonDependencyTracker;
     }
 
+    private void configureEnginePool() {
+        enginePool.configure(pythonScriptEngineConfiguration.getEnginePoolMinSize(),
+                pythonScriptEngineConfiguration.getEnginePoolMaxSize(),
+                pythonScriptEngineConfiguration.getEnginePoolIdleTimeout());
+    }
+
+    private PythonScriptEngine createPreWarmedEngine() {
+        PythonScriptEngine engine = new PythonScriptEngine(pythonDependencyTracker, pythonScriptEngineConfiguration);
+        try {
+            engine.prewarm();
+        } catch (RuntimeException e) {
+            try {
+                engine.close();
+            } catch (Exception closeException) {
+                logger.debug("Failed to close script engine: {}", closeException.getMessage());
+            }
+            throw e;
+        }
+        return engine;
+    }
+
     private void initHelperLib() {
         try {
             String pathSeparator = FileSystems.getDefault().getSeparator();
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.pythonscripting.internal.scriptengine.helper;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Keeps script engines ready whose polyglot context has already been created and initialized, so that creating a
+ * script engine for a transformation or a condition does not have to wait for that.
+ *
+ * <p>
+ * A polyglot context cannot be reset, so engines are handed out only once and never return to the pool. Taken engines
+ * are replaced in the background. The pool starts with its minimum size, grows by one engine whenever a request finds
+ * it empty until it reaches its maximum size, and shrinks towards its minimum size again when engines stay unused for
+ * longer than the idle timeout.
+ *
+ * <p>
+ * If a meter registry is set, the pool reports its hits and misses, the number of idle engines and the time it takes
+ * to create an engine.
+ *
+ * @param <E> the type of the script engines
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PreWarmedEnginePool<E extends AutoCloseable> {
+    private static final String METRIC_REQUESTS = "openhab.automation.engine.pool.requests";
+    private static final String METRIC_IDLE = "openhab.automation.engine.pool.idle";
+    private static final String METRIC_CREATION = "openhab.automation.engine.creation";
+
+    private final Logger logger = LoggerFactory.getLogger(PreWarmedEnginePool.class);
+
+    private final String language;
+    private final Supplier<E> engineFactory;
+    private final ScheduledExecutorService scheduler;
+
+    // all fields below are guarded by this
+    private final Deque<IdleEngine<E>> idleEngines = new ArrayDeque<>();
+    private int minSize = 0;
+    private int maxSize = 0;
+    private Duration idleTimeout = Duration.ZERO;
+    private int targetSize = 0;
+    // incremented whenever the idle engines are discarded, so engines created before are not added anymore
+    private int generation = 0;
+    private boolean refilling = false;
+    private boolean closed = false;
+    private @Nullable ScheduledFuture<?> evictionJob;
+    private @Nullable PoolMeters meters;
+
+    private record IdleEngine<E> (E engine, long idleSinceNanos) {
+    }
+
+    /**
+     * Creates an empty pool, which is filled once it is configured.
+     *
+     * @param language the language of the engines, used in log messages and as metrics tag
+     * @param engineFactory creates and initializes a new engine
+     * @param scheduler the scheduler the engines are created and evicted on
+     */
+    public PreWarmedEnginePool(String language, Supplier<E> engineFactory, ScheduledExecutorService scheduler) {
+        this.language = language;
+        this.engineFactory = engineFactory;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the size of the pool and starts to fill it.
+     *
+     * @param minSize the number of engines to keep ready even if they are not used
+     * @param maxSize the maximum number of engines to keep ready, 0 disables the pool
+     * @param idleTimeout the time after which unused engines above the minimum size are closed, zero to never close
+     *            them
+     */
+    public void configure(int minSize, int maxSize, Duration idleTimeout) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            this.minSize = Math.max(0, minSize);
+            this.maxSize = Math.max(this.minSize, maxSize);
+            this.idleTimeout = idleTimeout;
+            targetSize = Math.max(this.minSize, Math.min(this.maxSize, targetSize));
+
+            ScheduledFuture<?> job = evictionJob;
+            if (job != null) {
+                job.cancel(false);
+                evictionJob = null;
+            }
+            if (!idleTimeout.isZero() && this.maxSize > this.minSize) {
+                long interval = Math.max(1, idleTimeout.toSeconds() / 2);
+                evictionJob = scheduler.scheduleWithFixedDelay(this::evictIdleEngines, interval, interval,
+                        TimeUnit.SECONDS);
+            }
+        }
+        evictIdleEngines();
+        scheduleRefill();
+    }
+
+    /**
+     * Takes an engine from the pool or creates a new one if the pool is empty.
+     *
+     * @return an engine that has not been used yet
+     */
+    public E take() {
+        IdleEngine<E> idle;
+        synchronized (this) {
+            // the most recently created engine, so the oldest ones can be evicted when they are not needed
+            idle = idleEngines.pollLast();
+            if (idle == null && targetSize < maxSize) {
+                targetSize++;
+            }
+        }
+        scheduleRefill();
+
+        PoolMeters localMeters = meters;
+        if (idle != null) {
+            if (localMeters != null) {
+                localMeters.hits.increment();
+            }
+            return idle.engine();
+        }
+        if (localMeters != null) {
+            localMeters.misses.increment();
+        }
+        return createEngine();
+    }
+
+    /**
+     * Closes all idle engines, e.g. because the configuration they have been created with changed, and fills the pool
+     * again.
+     */
+    public void clear() {
+        List<E> discarded;
+        synchronized (this) {
+            generation++;
+            discarded = idleEngines.stream().map(IdleEngine::engine).toList();
+            idleEngines.clear();
+        }
+        discarded.forEach(this::closeEngine);
+        scheduleRefill();
+    }
+
+    /**
+     * Closes all idle engines and stops filling the pool.
+     */
+    public void close() {
+        List<E> discarded;
+        synchronized (this) {
+            closed = true;
+            generation++;
+            ScheduledFuture<?> job = evictionJob;
+            if (job != null) {
+                job.cancel(false);
+                evictionJob = null;
+            }
+            discarded = idleEngines.stream().map(IdleEngine::engine).toList();
+            idleEngines.clear();
+        }
+        discarded.forEach(this::closeEngine);
+        setMeterRegistry(null);
+    }
+
+    /**
+     * Sets the registry to report the metrics of the pool to.
+     *
+     * @param meterRegistry the registry or <code>null</code> to stop reporting metrics
+     */
+    public void setMeterRegistry(@Nullable MeterRegistry meterRegistry) {
+        PoolMeters oldMeters;
+        synchronized (this) {
+            oldMeters = meters;
+            meters = meterRegistry != null && !closed ? new PoolMeters(meterRegistry) : null;
+        }
+        if (oldMeters != null) {
+            oldMeters.remove();
+        }
+    }
+
+    private synchronized int getIdleCount() {
+        return idleEngines.size();
+    }
+
+    private E createEngine() {
+        long start = System.nanoTime();
+        E engine = engineFactory.get();
+        PoolMeters localMeters = meters;
+        if (localMeters != null) {
+            localMeters.creation.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return engine;
+    }
+
+    private void scheduleRefill() {
+        synchronized (this) {
+            if (closed || refilling || idleEngines.size() >= targetSize) {
+                return;
+            }
+            refilling = true;
+        }
+        scheduler.execute(this::refill);
+    }
+
+    private void refill() {
+        try {
+            while (true) {
+                int engineGeneration;
+                synchronized (this) {
+                    if (closed || idleEngines.size() >= targetSize) {
+                        refilling = false;
+                        return;
+                    }
+                    engineGeneration = generation;
+                }
+                E engine = createEngine();
+                boolean added = false;
+                synchronized (this) {
+                    if (!closed && engineGeneration == generation && idleEngines.size() < targetSize) {
+                        idleEngines.addLast(new IdleEngine<>(engine, System.nanoTime()));
+                        added = true;
+                    }
+                }
+                if (!added) {
+                    closeEngine(engine);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to create pre-warmed {} script engine: {}", language, e.getMessage());
+            synchronized (this) {
+                refilling = false;
+            }
+        }
+    }
+
+    private void evictIdleEngines() {
+        List<E> evicted = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            while (idleEngines.size() > minSize) {
+                IdleEngine<E> oldest = idleEngines.peekFirst();
+                if (oldest == null || (!idleTimeout.isZero() && now - oldest.idleSinceNanos() < idleTimeout.toNanos()
+                        && idleEngines.size() <= maxSize)) {
+                    break;
+                }
+                idleEngines.pollFirst();
+                evicted.add(oldest.engine());
+            }
+            targetSize = Math.max(minSize, Math.min(maxSize, targetSize - evicted.size()));
+        }
+        if (!evicted.isEmpty()) {
+            logger.debug("Closing {} unused pre-warmed {} script engines.", evicted.size(), language);
+            evicted.forEach(this::closeEngine);
+        }
+    }
+
+    private void closeEngine(E engine) {
+        try {
+            engine.close();
+        } catch (Exception e) {
+            logger.debug("Failed to close pre-warmed {} script engine: {}", language, e.getMessage());
+        }
+    }
+
+    /**
+     * The meters of the pool in a registry
+     */
+    private class PoolMeters {
+        private final MeterRegistry registry;
+        private final Counter hits;
+        private final Counter misses;
+        private final Timer creation;
+        private final Gauge idle;
+
+        PoolMeters(MeterRegistry registry) {
+            this.registry = registry;
+            Tags tags = Tags.of("language", language);
+            hits = Counter.builder(METRIC_REQUESTS).description("Script engines requested from the pre-warmed pool")
+                    .tags(tags).tag("result", "hit").register(registry);
+            misses = Counter.builder(METRIC_REQUESTS)
+                    .description("Script engines requested from the pre-warmed pool").tags(tags).tag("result", "miss")
+                    .register(registry);
+            creation = Timer.builder(METRIC_CREATION).description("Time to create and initialize a script engine")
+                    .tags(tags).register(registry);
+            idle = Gauge.builder(METRIC_IDLE, PreWarmedEnginePool.this, PreWarmedEnginePool::getIdleCount)
+                    .description("Pre-warmed script engines ready to be used").tags(tags).register(registry);
+        }
+
+        void remove() {
+            registry.remove(hits);
+            registry.remove(misses);
+            registry.remove(creation);
+            registry.remove(idle);
+        }
+    }
+}
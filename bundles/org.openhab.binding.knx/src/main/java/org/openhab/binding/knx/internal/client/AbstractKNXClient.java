@@ -15,9 +15,8 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
-import java.util.Set;
+import java.util.List;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -107,7 +106,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    private final GroupAddressListenerIndex groupAddressListeners = new GroupAddressListenerIndex();
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
 
     @FunctionalInterface
@@ -341,16 +340,26 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
-        // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
-        // The idea is to store GA, message type, and size as key. The value counts the number of packets.
-        if (!isHandled) {
+        List<GroupAddressListener> listeners = groupAddressListeners.getListeners(destination);
+        if (!listeners.isEmpty()) {
+            // deliver to all interested listeners in a single task
+            knxScheduler.execute(() -> {
+                for (GroupAddressListener listener : listeners) {
+                    if (!listener.listensTo(destination)) {
+                        // listener is being disposed
+                        continue;
+                    }
+                    try {
+                        action.apply(listener, source, destination, asdu);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process {} telegram to '{}': {}", task, destination, e.getMessage(),
+                                e);
+                    }
+                }
+            });
+        } else {
+            // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
+            // The idea is to store GA, message type, and size as key. The value counts the number of packets.
             logger.trace("Address '{}' is not configured in openHAB", destination);
             final String type = switch (event.getServiceCode()) {
                 case 0x80 -> "GROUP_WRITE";
@@ -520,12 +529,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        groupAddressListeners.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        groupAddressListeners.unregister(listener);
     }
 
     @Override
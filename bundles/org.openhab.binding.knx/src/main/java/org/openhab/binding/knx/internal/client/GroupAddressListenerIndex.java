@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link GroupAddressListenerIndex} maps group addresses to the {@link GroupAddressListener}s interested in them,
+ * so incoming telegrams can be dispatched without asking every registered listener.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressListenerIndex {
+    private final Map<GroupAddressListener, Set<GroupAddress>> registrations = new HashMap<>();
+    private final Map<GroupAddress, List<GroupAddressListener>> listenersByAddress = new ConcurrentHashMap<>();
+
+    /**
+     * Add a listener for its current group addresses. If the listener is already registered, the index is updated.
+     *
+     * @param listener the listener
+     */
+    public synchronized void register(GroupAddressListener listener) {
+        unregister(listener);
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        registrations.put(listener, groupAddresses);
+        for (GroupAddress groupAddress : groupAddresses) {
+            listenersByAddress.compute(groupAddress, (ga, listeners) -> {
+                if (listeners == null) {
+                    return List.of(listener);
+                }
+                return concat(listeners, listener);
+            });
+        }
+    }
+
+    /**
+     * Remove a listener from all group addresses it was registered for.
+     *
+     * @param listener the listener
+     */
+    public synchronized void unregister(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = registrations.remove(listener);
+        if (groupAddresses == null) {
+            return;
+        }
+        for (GroupAddress groupAddress : groupAddresses) {
+            listenersByAddress.computeIfPresent(groupAddress, (ga, listeners) -> {
+                List<GroupAddressListener> remaining = listeners.stream().filter(l -> l != listener).toList();
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+    }
+
+    /**
+     * Get the listeners registered for the given group address.
+     *
+     * @param groupAddress the group address
+     * @return an immutable list of listeners, empty if none is registered
+     */
+    public List<GroupAddressListener> getListeners(GroupAddress groupAddress) {
+        return listenersByAddress.getOrDefault(groupAddress, List.of());
+    }
+
+    private static List<GroupAddressListener> concat(List<GroupAddressListener> listeners,
+            GroupAddressListener listener) {
+        GroupAddressListener[] result = listeners.toArray(new GroupAddressListener[listeners.size() + 1]);
+        result[listeners.size()] = listener;
+        return List.of(result);
+    }
+}
@@ -20,7 +20,9 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -82,6 +84,14 @@ public class ValueDecoder {
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
     public static final Pattern TSD_SEPARATOR = Pattern.compile("^[0-9]+(?<sep>[,\\.])[0-9][0-9][0-9].*");
 
+    // subtypes which are translated without scaling, i.e. the numeric value is the raw value
+    private static final Set<String> UNSCALED_DPT5_SUBTYPES = Set.of("004", "005", "006", "010", "100");
+    private static final Set<String> UNSCALED_DPT7_SUBTYPES = Set.of("001", "002", "005", "006", "007", "010", "011",
+            "012", "013", "600");
+    private static final Set<String> UNSCALED_DPT13_SUBTYPES = Set.of("001", "010", "011", "012", "013", "014", "015",
+            "016", "100", "1200", "1201");
+    private static final Map<String, Boolean> DIRECTLY_DECODABLE = new ConcurrentHashMap<>();
+
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
             throw new KNXFormatException("DPT235 broken frame");
@@ -113,6 +123,28 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        if (isDirectlyDecodable(dptId)) {
+            try {
+                Type type = decodeDirect(dptId, data, preferredType);
+                if (type != null) {
+                    return type;
+                }
+            } catch (KNXFormatException e) {
+                // use the translator, which also takes care of logging
+            }
+        }
+        return decodeWithTranslator(dptId, data, preferredType);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value using a Calimero translator
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    static @Nullable Type decodeWithTranslator(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
             String value = "";
             String translatorDptId = dptId;
@@ -167,7 +199,7 @@ public class ValueDecoder {
 
             switch (mainType) {
                 case "1":
-                    return handleDpt1(subType, translator, preferredType);
+                    return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean(), preferredType);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -246,34 +278,109 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    private static boolean isDirectlyDecodable(String dptId) {
+        return DIRECTLY_DECODABLE.computeIfAbsent(dptId, ValueDecoder::checkDirectlyDecodable);
+    }
+
+    private static boolean checkDirectlyDecodable(String dptId) {
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        if (!m.matches()) {
+            return false;
+        }
+        String mainType = m.group("main");
+        String subType = m.group("sub");
+        if (subType == null) {
+            return false;
+        }
+        boolean supported = switch (mainType) {
+            case "1", "9" -> true;
+            case "5" -> UNSCALED_DPT5_SUBTYPES.contains(subType);
+            case "7" -> UNSCALED_DPT7_SUBTYPES.contains(subType);
+            case "13" -> UNSCALED_DPT13_SUBTYPES.contains(subType);
+            case "232" -> "600".equals(subType) || "60000".equals(subType);
+            default -> false;
+        };
+        if (!supported) {
+            return false;
+        }
+        try {
+            // only decode DPTs directly which Calimero knows, so unknown DPTs are reported as before
+            TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+            return true;
+        } catch (KNXException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Decode the raw data of common DPTs without a translator. The result is the same as the one of
+     * {@link #decodeWithTranslator(String, byte[], Class)}, but avoids creating, formatting and parsing a string
+     * representation of the value.
+     *
+     * @return the decoded type, or null if the data can't be decoded directly
+     */
+    private static @Nullable Type decodeDirect(String dptId, byte[] data, Class<? extends Type> preferredType)
+            throws KNXFormatException {
+        int separator = dptId.indexOf('.');
+        String mainType = dptId.substring(0, separator);
+        String subType = dptId.substring(separator + 1);
+
+        switch (mainType) {
+            case "1":
+                return data.length == 1 ? handleDpt1(subType, (data[0] & 0x01) != 0, preferredType) : null;
+            case "5":
+                return data.length == 1 ? handleNumericDpt(dptId, data[0] & 0xff, null, preferredType) : null;
+            case "7":
+                return data.length == 2
+                        ? handleNumericDpt(dptId, ((data[0] & 0xff) << 8) | (data[1] & 0xff), null, preferredType)
+                        : null;
+            case "9":
+                if (data.length != 2 || ((data[0] == (byte) 0x7f) && (data[1] == (byte) 0xff))) {
+                    return null;
+                }
+                // MEEE EMMM MMMM MMMM, value = 0.01 * M * 2^E, M is two's complement
+                int raw = ((data[0] & 0xff) << 8) | (data[1] & 0xff);
+                int mantissa = (raw & 0x8000) != 0 ? (raw & 0x07ff) - 0x0800 : raw & 0x07ff;
+                int exponent = (raw >> 11) & 0x0f;
+                return handleNumericDpt(dptId, ((long) mantissa << exponent) * 0.01, null, preferredType);
+            case "13":
+                return data.length == 4 ? handleNumericDpt(dptId,
+                        (data[0] << 24) | ((data[1] & 0xff) << 16) | ((data[2] & 0xff) << 8) | (data[3] & 0xff), null,
+                        preferredType) : null;
+            case "232":
+                return data.length == 3 ? handleDpt232(data[0] & 0xff, data[1] & 0xff, data[2] & 0xff, subType) : null;
+            default:
+                return null;
+        }
+    }
+
+    private static Type handleDpt1(String subType, boolean value, Class<? extends Type> preferredType) {
         return switch (subType) {
-            case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+            case "008" -> value ? UpDownType.DOWN : UpDownType.UP;
             case "009", "019" -> {
                 // default is OpenClosedType (Contact), but it may be mapped to OnOffType as well
                 if (OnOffType.class.equals(preferredType)) {
-                    yield OnOffType.from(translatorBoolean.getValueBoolean());
+                    yield OnOffType.from(value);
                 }
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
             }
-            case "010" -> translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-            case "022" -> DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+            case "010" -> value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case "022" -> DecimalType.valueOf(value ? "1" : "0");
             default -> {
                 // default is OnOffType (Switch), but it may be mapped to OpenClosedType as well
                 if (OpenClosedType.class.equals(preferredType)) {
-                    yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                 }
 
-                yield OnOffType.from(translatorBoolean.getValueBoolean());
+                yield OnOffType.from(value);
             }
         };
     }
@@ -406,24 +513,28 @@ public class ValueDecoder {
             int g = Integer.parseInt(rgb.group("g"));
             int b = Integer.parseInt(rgb.group("b"));
 
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+            return handleDpt232(r, g, b, subType);
         }
         LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
         return null;
     }
 
+    private static @Nullable Type handleDpt232(int r, int g, int b, String subType) {
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
+        }
+    }
+
     private static @Nullable Type handleDpt242(String value) {
         Matcher xyY = XYY_PATTERN.matcher(value);
         if (xyY.matches()) {
@@ -494,9 +605,15 @@ public class ValueDecoder {
 
     private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
             throws KNXFormatException {
+        return handleNumericDpt(id, translator.getNumericValue(),
+                translator instanceof DPTXlator64BitSigned translatorSigned ? translatorSigned : null, preferredType);
+    }
+
+    private static @Nullable Type handleNumericDpt(String id, double value,
+            @Nullable DPTXlator64BitSigned translatorSigned, Class<? extends Type> preferredType)
+            throws KNXFormatException {
         Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
 
-        double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
@@ -506,7 +623,7 @@ public class ValueDecoder {
             String unit = DPTUnits.getUnitForDpt(id);
             if (unit != null) {
                 try {
-                    if (translator instanceof DPTXlator64BitSigned translatorSigned) {
+                    if (translatorSigned != null) {
                         // prevent loss of precision, do not represent 64bit decimal using double
                         return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
                     }
@@ -521,7 +638,7 @@ public class ValueDecoder {
         }
 
         if (allowedTypes.contains(DecimalType.class)) {
-            if (translator instanceof DPTXlator64BitSigned translatorSigned) {
+            if (translatorSigned != null) {
                 // prevent loss of precision, do not represent 64bit decimal using double
                 return new DecimalType(translatorSigned.getValueSigned());
             }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class GroupAddressListenerIndexTest {
+    private static final GroupAddress GA1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA3 = new GroupAddress(4, 5, 6);
+
+    @Test
+    void testRegisterAndUnregister() {
+        GroupAddressListener listener1 = mockListener(GA1, GA2);
+        GroupAddressListener listener2 = mockListener(GA2);
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+
+        index.register(listener1);
+        index.register(listener2);
+
+        assertEquals(List.of(listener1), index.getListeners(GA1));
+        assertEquals(List.of(listener1, listener2), index.getListeners(GA2));
+        assertTrue(index.getListeners(GA3).isEmpty());
+
+        index.unregister(listener1);
+
+        assertTrue(index.getListeners(GA1).isEmpty());
+        assertEquals(List.of(listener2), index.getListeners(GA2));
+
+        // unregistering twice is a no-op
+        index.unregister(listener1);
+        assertEquals(List.of(listener2), index.getListeners(GA2));
+    }
+
+    @Test
+    void testReRegisterUpdatesAddresses() {
+        GroupAddressListener listener = mockListener(GA1);
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+
+        index.register(listener);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(GA3));
+        index.register(listener);
+
+        assertTrue(index.getListeners(GA1).isEmpty());
+        assertEquals(List.of(listener), index.getListeners(GA3));
+
+        // the addresses known at registration are removed, even if the listener has already cleared them
+        when(listener.getGroupAddresses()).thenReturn(Set.of());
+        index.unregister(listener);
+        assertTrue(index.getListeners(GA3).isEmpty());
+    }
+
+    private GroupAddressListener mockListener(GroupAddress... groupAddresses) {
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(groupAddresses));
+        return listener;
+    }
+}
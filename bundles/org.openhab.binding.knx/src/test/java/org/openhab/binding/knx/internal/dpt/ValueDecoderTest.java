@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+
+/**
+ * Compares the direct decoding of raw data with the decoding using Calimero translators.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ValueDecoderTest {
+    private static final List<Class<? extends Type>> PREFERRED_TYPES = List.of(DecimalType.class, PercentType.class,
+            QuantityType.class, OnOffType.class, OpenClosedType.class, HSBType.class);
+
+    private static Stream<String> directlyDecodedDpts() {
+        return Stream.of("1.001", "1.008", "1.009", "1.010", "1.019", "1.022", "5.004", "5.005", "5.006", "5.010",
+                "5.100", "7.001", "7.002", "7.005", "7.006", "7.007", "7.010", "7.011", "7.012", "7.013", "7.600",
+                "9.001", "9.004", "9.007", "9.020", "9.024", "13.001", "13.010", "13.013", "13.015", "13.100",
+                "13.1200", "232.600", "232.60000");
+    }
+
+    @ParameterizedTest
+    @MethodSource("directlyDecodedDpts")
+    void testDirectDecodingMatchesTranslator(String dptId) {
+        for (byte[] data : samples(dptId)) {
+            for (Class<? extends Type> preferredType : PREFERRED_TYPES) {
+                Type expected = ValueDecoder.decodeWithTranslator(dptId, data, preferredType);
+                Type actual = ValueDecoder.decode(dptId, data, preferredType);
+                assertEquals(expected, actual, dptId + " " + preferredType.getSimpleName());
+                assertEquals(Objects.toString(expected), Objects.toString(actual),
+                        dptId + " " + preferredType.getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    void testFallbackToTranslator() {
+        // invalid value for DPT 9
+        assertNull(ValueDecoder.decode("9.001", new byte[] { (byte) 0x7f, (byte) 0xff }, DecimalType.class));
+        // wrong data length is handled by the translator
+        assertNull(ValueDecoder.decode("7.001", new byte[] { 1 }, DecimalType.class));
+        // scaled subtypes are not decoded directly
+        assertEquals(new PercentType(100),
+                ValueDecoder.decode("5.001", new byte[] { (byte) 0xff }, PercentType.class));
+        // unknown subtypes are still rejected
+        assertNull(ValueDecoder.decode("9.999", new byte[] { 0, 0 }, DecimalType.class));
+    }
+
+    private static List<byte[]> samples(String dptId) {
+        List<byte[]> samples = new ArrayList<>();
+        switch (dptId.substring(0, dptId.indexOf('.'))) {
+            case "1":
+                samples.add(new byte[] { 0 });
+                samples.add(new byte[] { 1 });
+                break;
+            case "5":
+                for (int i = 0; i < 256; i++) {
+                    samples.add(new byte[] { (byte) i });
+                }
+                break;
+            case "7":
+            case "9":
+                for (int i = 0; i < 0x10000; i += 0x0123) {
+                    samples.add(new byte[] { (byte) (i >> 8), (byte) i });
+                }
+                samples.add(new byte[] { 0, 0 });
+                samples.add(new byte[] { (byte) 0x80, 0 });
+                samples.add(new byte[] { (byte) 0xff, (byte) 0xff });
+                samples.add(new byte[] { (byte) 0x7f, (byte) 0xfe });
+                samples.add(new byte[] { (byte) 0x0c, (byte) 0x1a });
+                break;
+            case "13":
+                for (int i : new int[] { 0, 1, -1, 1000, -1000, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+                    samples.add(new byte[] { (byte) (i >> 24), (byte) (i >> 16), (byte) (i >> 8), (byte) i });
+                }
+                break;
+            case "232":
+                for (int i = 0; i < 256; i += 17) {
+                    samples.add(new byte[] { (byte) i, (byte) (255 - i), (byte) (i / 2) });
+                }
+                break;
+            default:
+                fail("no samples for " + dptId);
+        }
+        return samples;
+    }
+}
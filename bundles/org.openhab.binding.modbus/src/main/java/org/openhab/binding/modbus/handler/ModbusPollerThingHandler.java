@@ -23,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -189,6 +190,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable AbstractModbusEndpointThingHandler<?, ?> plannedPollEndpoint;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -208,7 +210,12 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         // No channels, no commands
     }
 
-    private @Nullable ModbusEndpointThingHandler getEndpointThingHandler() {
+    /**
+     * Get the handler of the endpoint this poller reads from
+     *
+     * @return the endpoint handler or null if the endpoint is not online
+     */
+    public @Nullable ModbusEndpointThingHandler getEndpointThingHandler() {
         Bridge bridge = getBridge();
         if (bridge == null) {
             logger.debug("Bridge is null");
@@ -312,7 +319,13 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        AbstractModbusEndpointThingHandler<?, ?> localPlannedPollEndpoint = this.plannedPollEndpoint;
+        if (localPlannedPollEndpoint != null) {
+            logger.debug("Unregistering polling from endpoint");
+            localPlannedPollEndpoint.unregisterPlannedPoll(callbackDelegator);
+        }
         this.pollTask = null;
+        this.plannedPollEndpoint = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +340,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || plannedPollEndpoint != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -360,6 +373,12 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
+        } else if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler
+                && endpointHandler.registerPlannedPoll(localRequest, config.getRefresh(), callbackDelegator,
+                        callbackDelegator)) {
+            logger.debug("Registering polling with endpoint, which merges it with the polls of other pollers");
+            plannedPollEndpoint = endpointHandler;
+            updateStatus(ThingStatus.ONLINE);
         } else {
             logger.debug("Registering polling with ModbusManager");
             pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+
+/**
+ * Plans the read requests of the pollers of an endpoint.
+ *
+ * Pollers reading the same kind of data with the same refresh interval and retries are merged into one read request
+ * if their ranges overlap or are at most the configured gap apart, and the merged request does not exceed the
+ * maximum number of registers or bits Modbus allows to read at once. The merged ranges are planned greedily in
+ * ascending address order.
+ *
+ * @author agent - Initial contribution
+ *
+ * @param <T> type identifying the pollers
+ */
+@NonNullByDefault
+public class ModbusPollPlanner<T> {
+
+    /**
+     * The regular poll of a single poller
+     *
+     * @param owner the poller
+     * @param request the request of the poller
+     * @param refreshMillis the poll interval in milliseconds
+     */
+    public record PollEntry<T> (T owner, ModbusReadRequestBlueprint request, long refreshMillis) {
+    }
+
+    /**
+     * A read request polling the ranges of one or more pollers
+     *
+     * @param request the request to poll
+     * @param refreshMillis the poll interval in milliseconds
+     * @param entries the polls served by the request, in ascending address order
+     */
+    public record PollBlock<T> (ModbusReadRequestBlueprint request, long refreshMillis, List<PollEntry<T>> entries) {
+    }
+
+    private record GroupKey(int slaveId, ModbusReadFunctionCode functionCode, int maxTries, long refreshMillis) {
+    }
+
+    private final int maxGap;
+
+    /**
+     * @param maxGap the maximum number of unused registers or bits between two ranges that are merged
+     */
+    public ModbusPollPlanner(int maxGap) {
+        this.maxGap = Math.max(0, maxGap);
+    }
+
+    /**
+     * Plans the fewest read requests polling all given ranges.
+     *
+     * @param entries the regular polls of the pollers
+     * @return the read requests to poll
+     */
+    public List<PollBlock<T>> plan(Collection<PollEntry<T>> entries) {
+        Map<GroupKey, List<PollEntry<T>>> groups = new LinkedHashMap<>();
+        for (PollEntry<T> entry : entries) {
+            ModbusReadRequestBlueprint request = entry.request();
+            groups.computeIfAbsent(new GroupKey(request.getUnitID(), request.getFunctionCode(), request.getMaxTries(),
+                    entry.refreshMillis()), key -> new ArrayList<>()).add(entry);
+        }
+
+        List<PollBlock<T>> blocks = new ArrayList<>();
+        for (Map.Entry<GroupKey, List<PollEntry<T>>> group : groups.entrySet()) {
+            GroupKey key = group.getKey();
+            List<PollEntry<T>> sorted = new ArrayList<>(group.getValue());
+            sorted.sort(Comparator.comparingInt((PollEntry<T> entry) -> entry.request().getReference())
+                    .thenComparingInt(entry -> entry.request().getDataLength()));
+            int maxLength = getMaxLength(key.functionCode());
+
+            List<PollEntry<T>> members = new ArrayList<>();
+            int blockStart = 0;
+            int blockEnd = 0;
+            for (PollEntry<T> entry : sorted) {
+                int start = entry.request().getReference();
+                int end = start + entry.request().getDataLength();
+                if (!members.isEmpty() && start - blockEnd <= maxGap
+                        && Math.max(blockEnd, end) - blockStart <= maxLength) {
+                    members.add(entry);
+                    blockEnd = Math.max(blockEnd, end);
+                } else {
+                    if (!members.isEmpty()) {
+                        blocks.add(createBlock(key, blockStart, blockEnd, members));
+                    }
+                    members = new ArrayList<>();
+                    members.add(entry);
+                    blockStart = start;
+                    blockEnd = end;
+                }
+            }
+            if (!members.isEmpty()) {
+                blocks.add(createBlock(key, blockStart, blockEnd, members));
+            }
+        }
+        return blocks;
+    }
+
+    private PollBlock<T> createBlock(GroupKey key, int start, int end, List<PollEntry<T>> members) {
+        // a single poll keeps its own request, so nothing changes for pollers that cannot be merged
+        ModbusReadRequestBlueprint request = members.size() == 1 ? members.get(0).request()
+                : new ModbusReadRequestBlueprint(key.slaveId(), key.functionCode(), start, end - start,
+                        key.maxTries());
+        return new PollBlock<>(request, key.refreshMillis(), List.copyOf(members));
+    }
+
+    private static int getMaxLength(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return ModbusConstants.MAX_BITS_READ_COUNT;
+            default:
+                return ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        }
+    }
+
+    /**
+     * Extracts the data of a poller from the result of a merged request.
+     *
+     * @param result the result of the merged request
+     * @param request the request of the poller, which must be within the merged request
+     * @return the result as if the request of the poller had been polled
+     */
+    public static AsyncModbusReadResult extract(AsyncModbusReadResult result, ModbusReadRequestBlueprint request) {
+        if (result.getRequest().equals(request)) {
+            return result;
+        }
+        int offset = request.getReference() - result.getRequest().getReference();
+        int length = request.getDataLength();
+
+        Optional<@Nullable ModbusRegisterArray> registers = (Optional<@Nullable ModbusRegisterArray>) result
+                .getRegisters();
+        ModbusRegisterArray localRegisters = registers.orElse(null);
+        if (localRegisters != null) {
+            byte[] bytes = Arrays.copyOfRange(localRegisters.getBytes(), offset * 2, (offset + length) * 2);
+            return new AsyncModbusReadResult(request, new ModbusRegisterArray(bytes));
+        }
+
+        Optional<@Nullable BitArray> bits = (Optional<@Nullable BitArray>) result.getBits();
+        BitArray localBits = bits.orElse(null);
+        if (localBits != null) {
+            BitArray extracted = new BitArray(length);
+            for (int i = 0; i < length; i++) {
+                extracted.setBit(i, localBits.getBit(offset + i));
+            }
+            return new AsyncModbusReadResult(request, extracted);
+        }
+        throw new IllegalArgumentException("Result has neither registers nor bits: " + result);
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queues the writes to the slaves of an endpoint.
+ *
+ * Writes are collected per slave for the configured window. Consecutive writes to overlapping or adjacent registers
+ * or coils are then merged into a single write multiple registers or coils request, and writes completely overwritten
+ * by a later write of the window are dropped. The requests of a slave are sent one after the other in the order the
+ * writes have been queued, so a request is only sent after the previous request to the same slave has completed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteQueue {
+
+    /**
+     * Sends a write request to the endpoint
+     */
+    @FunctionalInterface
+    public interface Submitter {
+        void submit(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+                ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback);
+    }
+
+    /**
+     * A queued write with the callbacks of its sender
+     */
+    record QueuedWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+    }
+
+    /**
+     * A request sending one or more queued writes
+     *
+     * @param request the request to send
+     * @param writes the writes completed by the request, including the writes it overwrites
+     */
+    record WriteBatch(ModbusWriteRequestBlueprint request, List<QueuedWrite> writes) {
+    }
+
+    /**
+     * The maximum number of registers of a write multiple registers request
+     */
+    static final int MAX_REGISTERS_WRITE_COUNT = 123;
+    /**
+     * The maximum number of coils of a write multiple coils request
+     */
+    static final int MAX_COILS_WRITE_COUNT = 1968;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteQueue.class);
+
+    private final Submitter submitter;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+
+    // all fields below are guarded by this
+    private final Map<Integer, SlaveQueue> slaves = new HashMap<>();
+    private boolean closed = false;
+
+    /**
+     * @param submitter sends the requests to the endpoint
+     * @param scheduler the scheduler the writes are collected on
+     * @param windowMillis the time writes are collected before they are sent
+     */
+    public ModbusWriteQueue(Submitter submitter, ScheduledExecutorService scheduler, long windowMillis) {
+        this.submitter = submitter;
+        this.scheduler = scheduler;
+        this.windowMillis = Math.max(0, windowMillis);
+    }
+
+    /**
+     * Queues a write. The callbacks are called once the write, or the request it has been merged into, has
+     * completed.
+     */
+    public void submit(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            int slaveId = request.getUnitID();
+            SlaveQueue slave = slaves.computeIfAbsent(slaveId, id -> new SlaveQueue());
+            slave.collected.add(new QueuedWrite(request, resultCallback, failureCallback));
+            if (slave.flushJob == null) {
+                slave.flushJob = scheduler.schedule(() -> flush(slaveId), windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Discards the queued writes and stops sending requests.
+     */
+    public void close() {
+        int discarded = 0;
+        synchronized (this) {
+            closed = true;
+            for (SlaveQueue slave : slaves.values()) {
+                ScheduledFuture<?> job = slave.flushJob;
+                if (job != null) {
+                    job.cancel(false);
+                }
+                discarded += slave.collected.size() + slave.batches.size();
+            }
+            slaves.clear();
+        }
+        if (discarded > 0) {
+            logger.debug("Discarded {} queued write requests", discarded);
+        }
+    }
+
+    private void flush(int slaveId) {
+        synchronized (this) {
+            SlaveQueue slave = slaves.get(slaveId);
+            if (closed || slave == null) {
+                return;
+            }
+            slave.flushJob = null;
+            List<WriteBatch> batches = merge(slave.collected);
+            logger.debug("Merged {} writes to slave {} into {} write requests", slave.collected.size(), slaveId,
+                    batches.size());
+            slave.collected.clear();
+            slave.batches.addAll(batches);
+        }
+        sendNext(slaveId);
+    }
+
+    private void sendNext(int slaveId) {
+        WriteBatch batch;
+        synchronized (this) {
+            SlaveQueue slave = slaves.get(slaveId);
+            if (closed || slave == null || slave.sending) {
+                return;
+            }
+            batch = slave.batches.poll();
+            if (batch == null) {
+                if (slave.collected.isEmpty()) {
+                    slaves.remove(slaveId);
+                }
+                return;
+            }
+            slave.sending = true;
+        }
+        try {
+            submitter.submit(batch.request(), result -> onResult(slaveId, batch, result),
+                    failure -> onFailure(slaveId, batch, failure));
+        } catch (RuntimeException e) {
+            onFailure(slaveId, batch, new AsyncModbusFailure<>(batch.request(), e));
+        }
+    }
+
+    private void onResult(int slaveId, WriteBatch batch, AsyncModbusWriteResult result) {
+        try {
+            for (QueuedWrite write : batch.writes()) {
+                write.resultCallback().handle(new AsyncModbusWriteResult(write.request(), result.getResponse()));
+            }
+        } finally {
+            sent(slaveId);
+        }
+    }
+
+    private void onFailure(int slaveId, WriteBatch batch, AsyncModbusFailure<ModbusWriteRequestBlueprint> failure) {
+        try {
+            for (QueuedWrite write : batch.writes()) {
+                write.failureCallback().handle(new AsyncModbusFailure<>(write.request(), failure.getCause()));
+            }
+        } finally {
+            sent(slaveId);
+        }
+    }
+
+    private void sent(int slaveId) {
+        synchronized (this) {
+            SlaveQueue slave = slaves.get(slaveId);
+            if (slave != null) {
+                slave.sending = false;
+            }
+        }
+        sendNext(slaveId);
+    }
+
+    /**
+     * Merges the writes of a slave, keeping their order.
+     *
+     * @param writes the writes in the order they have been queued
+     * @return the requests to send in the order they have to be sent
+     */
+    static List<WriteBatch> merge(List<QueuedWrite> writes) {
+        // writes completely overwritten by a later write are completed together with the last write overwriting them
+        List<QueuedWrite> remaining = new ArrayList<>();
+        Map<QueuedWrite, List<QueuedWrite>> overwritten = new IdentityHashMap<>();
+        for (int i = 0; i < writes.size(); i++) {
+            QueuedWrite write = writes.get(i);
+            QueuedWrite overwriting = findLastOverwriting(write, writes.subList(i + 1, writes.size()));
+            if (overwriting == null) {
+                remaining.add(write);
+            } else {
+                overwritten.computeIfAbsent(overwriting, w -> new ArrayList<>()).add(write);
+            }
+        }
+
+        List<WriteBatch> batches = new ArrayList<>();
+        Batch batch = null;
+        for (QueuedWrite write : remaining) {
+            if (batch == null || !batch.add(write)) {
+                if (batch != null) {
+                    batches.add(batch.toWriteBatch(overwritten));
+                }
+                batch = new Batch(write);
+            }
+        }
+        if (batch != null) {
+            batches.add(batch.toWriteBatch(overwritten));
+        }
+        return batches;
+    }
+
+    private static @Nullable QueuedWrite findLastOverwriting(QueuedWrite write, List<QueuedWrite> laterWrites) {
+        WriteRange range = WriteRange.of(write.request());
+        if (range == null) {
+            return null;
+        }
+        // index of the last later write of each address of the write
+        Map<Integer, Integer> writers = new HashMap<>();
+        for (int i = 0; i < laterWrites.size(); i++) {
+            WriteRange laterRange = WriteRange.of(laterWrites.get(i).request());
+            if (laterRange != null && laterRange.coils() == range.coils()) {
+                int end = Math.min(range.end(), laterRange.end());
+                for (int address = Math.max(range.start(), laterRange.start()); address < end; address++) {
+                    writers.put(address, i);
+                }
+            }
+        }
+        if (writers.size() < range.end() - range.start()) {
+            return null;
+        }
+        return laterWrites.get(Collections.max(writers.values()));
+    }
+
+    /**
+     * The registers or coils written by a request
+     */
+    private record WriteRange(boolean coils, int start, int end, int[] values) {
+
+        static @Nullable WriteRange of(ModbusWriteRequestBlueprint request) {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                ModbusRegisterArray registers = registerRequest.getRegisters();
+                int[] values = new int[registers.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = registers.getRegister(i);
+                }
+                return new WriteRange(false, request.getReference(), request.getReference() + values.length,
+                        values);
+            } else if (request instanceof ModbusWriteCoilRequestBlueprint coilRequest) {
+                BitArray coils = coilRequest.getCoils();
+                int[] values = new int[coils.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = coils.getBit(i) ? 1 : 0;
+                }
+                return new WriteRange(true, request.getReference(), request.getReference() + values.length, values);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A batch of consecutive writes being merged
+     */
+    private static class Batch {
+        private final List<QueuedWrite> writes = new ArrayList<>();
+        private final @Nullable WriteRange firstRange;
+        private final TreeMap<Integer, Integer> values = new TreeMap<>();
+
+        Batch(QueuedWrite write) {
+            writes.add(write);
+            firstRange = WriteRange.of(write.request());
+            WriteRange localRange = firstRange;
+            if (localRange != null) {
+                put(localRange);
+            }
+        }
+
+        /**
+         * Adds a write overlapping or adjacent to the registers or coils of the batch.
+         *
+         * @return <code>false</code> if the write cannot be merged into the batch
+         */
+        boolean add(QueuedWrite write) {
+            WriteRange localFirstRange = firstRange;
+            WriteRange range = WriteRange.of(write.request());
+            if (localFirstRange == null || range == null || range.coils() != localFirstRange.coils()) {
+                return false;
+            }
+            int start = values.firstKey();
+            int end = values.lastKey() + 1;
+            int maxLength = range.coils() ? MAX_COILS_WRITE_COUNT : MAX_REGISTERS_WRITE_COUNT;
+            if (range.start() > end || range.end() < start
+                    || Math.max(end, range.end()) - Math.min(start, range.start()) > maxLength) {
+                return false;
+            }
+            writes.add(write);
+            put(range);
+            return true;
+        }
+
+        private void put(WriteRange range) {
+            for (int i = 0; i < range.values().length; i++) {
+                values.put(range.start() + i, range.values()[i]);
+            }
+        }
+
+        WriteBatch toWriteBatch(Map<QueuedWrite, List<QueuedWrite>> overwritten) {
+            List<QueuedWrite> completed = new ArrayList<>();
+            for (QueuedWrite write : writes) {
+                completed.addAll(overwritten.getOrDefault(write, List.of()));
+                completed.add(write);
+            }
+            WriteRange localFirstRange = firstRange;
+            if (writes.size() == 1 || localFirstRange == null) {
+                // a single write keeps its own request, e.g. to write a single register
+                return new WriteBatch(writes.get(0).request(), List.copyOf(completed));
+            }
+
+            ModbusWriteRequestBlueprint first = writes.get(0).request();
+            int maxTries = writes.stream().mapToInt(write -> write.request().getMaxTries()).max().orElse(1);
+            int start = values.firstKey();
+            ModbusWriteRequestBlueprint request;
+            if (localFirstRange.coils()) {
+                BitArray coils = new BitArray(values.size());
+                values.forEach((address, value) -> coils.setBit(address - start, value != 0));
+                request = new ModbusWriteCoilRequestBlueprint(first.getUnitID(), start, coils, true, maxTries);
+            } else {
+                int[] registers = values.values().stream().mapToInt(Integer::intValue).toArray();
+                request = new ModbusWriteRegisterRequestBlueprint(first.getUnitID(), start,
+                        new ModbusRegisterArray(registers), true, maxTries);
+            }
+            return new WriteBatch(request, List.copyOf(completed));
+        }
+    }
+
+    /**
+     * The writes of a single slave
+     */
+    private static class SlaveQueue {
+        private final List<QueuedWrite> collected = new ArrayList<>();
+        private final Deque<WriteBatch> batches = new ArrayDeque<>();
+        private @Nullable ScheduledFuture<?> flushJob;
+        private boolean sending = false;
+    }
+}
@@ -39,6 +39,9 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean mergePolls;
+    private int maxPollGap;
+    private int mergeWritesWindow;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +170,28 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMaxPollGap() {
+        return maxPollGap;
+    }
+
+    public void setMaxPollGap(int maxPollGap) {
+        this.maxPollGap = maxPollGap;
+    }
+
+    public int getMergeWritesWindow() {
+        return mergeWritesWindow;
+    }
+
+    public void setMergeWritesWindow(int mergeWritesWindow) {
+        this.mergeWritesWindow = mergeWritesWindow;
+    }
 }
@@ -33,6 +33,9 @@ public class ModbusTcpConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean mergePolls;
+    private int maxPollGap;
+    private int mergeWritesWindow;
     private boolean rtuEncoded;
 
     public boolean getRtuEncoded() {
@@ -118,4 +121,28 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMaxPollGap() {
+        return maxPollGap;
+    }
+
+    public void setMaxPollGap(int maxPollGap) {
+        this.maxPollGap = maxPollGap;
+    }
+
+    public int getMergeWritesWindow() {
+        return mergeWritesWindow;
+    }
+
+    public void setMergeWritesWindow(int mergeWritesWindow) {
+        this.mergeWritesWindow = mergeWritesWindow;
+    }
 }
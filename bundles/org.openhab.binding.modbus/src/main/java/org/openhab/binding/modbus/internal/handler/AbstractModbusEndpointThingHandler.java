@@ -12,13 +12,32 @@
  */
 package org.openhab.binding.modbus.internal.handler;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PollBlock;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PollEntry;
+import org.openhab.binding.modbus.internal.ModbusWriteQueue;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
 import org.openhab.core.io.transport.modbus.ModbusManager;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
 import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
 import org.openhab.core.thing.Bridge;
@@ -42,13 +61,32 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEndpoint, C> extends BaseBridgeHandler
         implements ModbusEndpointThingHandler {
 
+    /**
+     * Callbacks of a poller whose regular poll is planned by the endpoint
+     */
+    private record PollerCallbacks(ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+    }
+
+    public static final String PROPERTY_POLLER_REQUESTS = "pollerRequests";
+    public static final String PROPERTY_PLANNED_REQUESTS = "plannedRequests";
+
+    private static final long REPLAN_DELAY_MILLIS = 500;
+
     protected volatile @Nullable C config;
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
+    private volatile @Nullable ModbusPollPlanner<PollerCallbacks> pollPlanner;
+    private volatile @Nullable ModbusWriteQueue writeQueue;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
 
+    // guarded by plannedPolls
+    private final Map<ModbusReadCallback, PollEntry<PollerCallbacks>> plannedPolls = new LinkedHashMap<>();
+    private final List<PollTask> plannedPollTasks = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> replanJob;
+
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
         this.modbusManager = modbusManager;
@@ -93,6 +131,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        synchronized (plannedPolls) {
+            ScheduledFuture<?> localReplanJob = replanJob;
+            if (localReplanJob != null) {
+                localReplanJob.cancel(false);
+                replanJob = null;
+            }
+            unregisterPlannedPollTasks();
+            plannedPolls.clear();
+        }
+        configureWriteQueue(0);
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +158,153 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Configures whether the regular polls of the pollers of this endpoint are merged. Should be called by subclasses
+     * in {@link #configure()}.
+     *
+     * @param mergePolls whether to merge the polls, otherwise every poller polls on its own
+     * @param maxPollGap the maximum number of unused registers or bits between two merged polls
+     */
+    protected void configurePollPlanner(boolean mergePolls, int maxPollGap) {
+        pollPlanner = mergePolls ? new ModbusPollPlanner<>(maxPollGap) : null;
+    }
+
+    /**
+     * Configures whether the writes to this endpoint are merged. Should be called by subclasses in
+     * {@link #configure()}.
+     *
+     * @param mergeWritesWindowMillis the time writes are collected before they are merged and sent, 0 to send every
+     *            write on its own
+     */
+    protected void configureWriteQueue(int mergeWritesWindowMillis) {
+        ModbusWriteQueue oldQueue = writeQueue;
+        writeQueue = mergeWritesWindowMillis > 0
+                ? new ModbusWriteQueue(this::submitOneTimeWrite, scheduler, mergeWritesWindowMillis)
+                : null;
+        if (oldQueue != null) {
+            oldQueue.close();
+        }
+    }
+
+    /**
+     * Queues a write to be merged with the other writes to the same slave of this endpoint.
+     *
+     * @param request the request to write
+     * @param resultCallback the callback receiving the response of the write
+     * @param failureCallback the callback receiving the failure of the write
+     * @return <code>false</code> if writes are not merged by this endpoint and the request has to be submitted directly
+     */
+    public boolean submitQueuedWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        ModbusWriteQueue localWriteQueue = writeQueue;
+        if (localWriteQueue == null) {
+            return false;
+        }
+        localWriteQueue.submit(request, resultCallback, failureCallback);
+        return true;
+    }
+
+    private void submitOneTimeWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        ModbusCommunicationInterface localComms = comms;
+        if (localComms == null) {
+            failureCallback.handle(new AsyncModbusFailure<>(request,
+                    new IllegalStateException("Endpoint " + thing.getUID() + " is not initialized")));
+            return;
+        }
+        localComms.submitOneTimeWrite(request, resultCallback, failureCallback);
+    }
+
+    /**
+     * Registers the regular poll of a poller to be planned together with the polls of the other pollers of this
+     * endpoint.
+     *
+     * @param request the request of the poller
+     * @param refreshMillis the poll interval in milliseconds
+     * @param resultCallback the callback receiving the data of the request
+     * @param failureCallback the callback receiving the failures of the request
+     * @return <code>false</code> if polls are not planned by this endpoint and the poller has to poll on its own
+     */
+    public boolean registerPlannedPoll(ModbusReadRequestBlueprint request, long refreshMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        if (pollPlanner == null) {
+            return false;
+        }
+        synchronized (plannedPolls) {
+            plannedPolls.put(resultCallback,
+                    new PollEntry<>(new PollerCallbacks(resultCallback, failureCallback), request, refreshMillis));
+            scheduleReplan();
+        }
+        return true;
+    }
+
+    /**
+     * Unregisters the regular poll of a poller registered with
+     * {@link #registerPlannedPoll(ModbusReadRequestBlueprint, long, ModbusReadCallback, ModbusFailureCallback)}
+     *
+     * @param resultCallback the callback the poll was registered with
+     */
+    public void unregisterPlannedPoll(ModbusReadCallback resultCallback) {
+        synchronized (plannedPolls) {
+            if (plannedPolls.remove(resultCallback) != null) {
+                scheduleReplan();
+            }
+        }
+    }
+
+    private void scheduleReplan() {
+        // pollers are usually (re-)initialized together, so wait for them before polling the new plan
+        ScheduledFuture<?> localReplanJob = replanJob;
+        if (localReplanJob != null) {
+            localReplanJob.cancel(false);
+        }
+        replanJob = scheduler.schedule(this::replan, REPLAN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void replan() {
+        synchronized (plannedPolls) {
+            replanJob = null;
+            unregisterPlannedPollTasks();
+            ModbusPollPlanner<PollerCallbacks> localPlanner = pollPlanner;
+            ModbusCommunicationInterface localComms = comms;
+            if (localPlanner == null || localComms == null) {
+                return;
+            }
+            List<PollBlock<PollerCallbacks>> blocks = localPlanner.plan(plannedPolls.values());
+            for (PollBlock<PollerCallbacks> block : blocks) {
+                logger.debug("Thing {} polls {} every {} ms for {} pollers", thing.getUID(), block.request(),
+                        block.refreshMillis(), block.entries().size());
+                plannedPollTasks.add(localComms.registerRegularPoll(block.request(), block.refreshMillis(), 0,
+                        result -> onPlannedPollResult(block, result), failure -> onPlannedPollFailure(block, failure)));
+            }
+            logger.debug("Thing {} planned {} poll requests per cycle for {} pollers", thing.getUID(), blocks.size(),
+                    plannedPolls.size());
+            updateProperty(PROPERTY_POLLER_REQUESTS, String.valueOf(plannedPolls.size()));
+            updateProperty(PROPERTY_PLANNED_REQUESTS, String.valueOf(blocks.size()));
+        }
+    }
+
+    private void unregisterPlannedPollTasks() {
+        ModbusCommunicationInterface localComms = comms;
+        if (localComms != null) {
+            plannedPollTasks.forEach(localComms::unregisterRegularPoll);
+        }
+        plannedPollTasks.clear();
+    }
+
+    private void onPlannedPollResult(PollBlock<PollerCallbacks> block, AsyncModbusReadResult result) {
+        for (PollEntry<PollerCallbacks> entry : block.entries()) {
+            entry.owner().resultCallback().handle(ModbusPollPlanner.extract(result, entry.request()));
+        }
+    }
+
+    private void onPlannedPollFailure(PollBlock<PollerCallbacks> block,
+            AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        for (PollEntry<PollerCallbacks> entry : block.entries()) {
+            entry.owner().failureCallback().handle(new AsyncModbusFailure<>(entry.request(), failure.getCause()));
+        }
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
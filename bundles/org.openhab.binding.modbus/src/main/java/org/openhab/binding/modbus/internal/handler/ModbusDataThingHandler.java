@@ -137,6 +137,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable AbstractModbusEndpointThingHandler<?, ?> writeEndpointHandler;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
@@ -218,7 +219,18 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        submitWrite(comms, request);
+    }
+
+    /**
+     * Submit write request, merging it with other writes to the slave if the endpoint is configured so
+     */
+    private void submitWrite(ModbusCommunicationInterface localComms, ModbusWriteRequestBlueprint request) {
+        AbstractModbusEndpointThingHandler<?, ?> localWriteEndpointHandler = writeEndpointHandler;
+        if (localWriteEndpointHandler == null || !localWriteEndpointHandler.submitQueuedWrite(request,
+                this::onWriteResponse, this::handleWriteError)) {
+            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -385,7 +397,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request);
         });
     }
 
@@ -414,6 +426,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                writeEndpointHandler = endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> handler
+                        ? handler
+                        : null;
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +447,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                ModbusEndpointThingHandler pollerEndpointHandler = localPollerHandler.getEndpointThingHandler();
+                writeEndpointHandler = pollerEndpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> handler
+                        ? handler
+                        : null;
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -468,6 +487,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         pollStart = 0;
         slaveId = 0;
         comms = null;
+        writeEndpointHandler = null;
         functionCode = null;
         readRequest = null;
         isWriteEnabled = false;
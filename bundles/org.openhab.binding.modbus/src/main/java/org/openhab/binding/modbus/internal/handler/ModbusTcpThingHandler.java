@@ -61,6 +61,9 @@ public class ModbusTcpThingHandler
         poolConfiguration.setInterConnectDelayMillis(config.getTimeBetweenReconnectMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
         poolConfiguration.setReconnectAfterMillis(config.getReconnectAfterMillis());
+
+        configurePollPlanner(config.isMergePolls(), config.getMaxPollGap());
+        configureWriteQueue(config.getMergeWritesWindow());
     }
 
     @SuppressWarnings("null") // since Optional.map is always called with NonNull argument
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PollBlock;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PollEntry;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private static PollEntry<String> entry(String owner, ModbusReadFunctionCode functionCode, int start, int length,
+            long refreshMillis) {
+        return new PollEntry<>(owner, new ModbusReadRequestBlueprint(1, functionCode, start, length, 3),
+                refreshMillis);
+    }
+
+    private static PollEntry<String> holding(String owner, int start, int length) {
+        return entry(owner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 1000);
+    }
+
+    private static List<String> owners(PollBlock<String> block) {
+        return block.entries().stream().map(PollEntry::owner).toList();
+    }
+
+    @Test
+    public void testAdjacentRangesAreMerged() {
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(0)
+                .plan(List.of(holding("b", 10, 5), holding("a", 0, 10)));
+
+        assertThat(blocks.size(), is(equalTo(1)));
+        assertThat(blocks.get(0).request().getReference(), is(equalTo(0)));
+        assertThat(blocks.get(0).request().getDataLength(), is(equalTo(15)));
+        assertThat(blocks.get(0).request().getMaxTries(), is(equalTo(3)));
+        assertThat(owners(blocks.get(0)), is(equalTo(List.of("a", "b"))));
+    }
+
+    @Test
+    public void testOverlappingRangesAreMerged() {
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(0)
+                .plan(List.of(holding("a", 0, 10), holding("b", 5, 10), holding("c", 2, 2)));
+
+        assertThat(blocks.size(), is(equalTo(1)));
+        assertThat(blocks.get(0).request().getReference(), is(equalTo(0)));
+        assertThat(blocks.get(0).request().getDataLength(), is(equalTo(15)));
+        assertThat(owners(blocks.get(0)), is(equalTo(List.of("a", "c", "b"))));
+    }
+
+    @Test
+    public void testGapLimit() {
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(5)
+                .plan(List.of(holding("a", 0, 10), holding("b", 15, 5), holding("c", 26, 4)));
+
+        assertThat(blocks.size(), is(equalTo(2)));
+        assertThat(blocks.get(0).request().getReference(), is(equalTo(0)));
+        assertThat(blocks.get(0).request().getDataLength(), is(equalTo(20)));
+        assertThat(owners(blocks.get(0)), is(equalTo(List.of("a", "b"))));
+        assertThat(owners(blocks.get(1)), is(equalTo(List.of("c"))));
+    }
+
+    @Test
+    public void testMaximumLengthIsNotExceeded() {
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(0)
+                .plan(List.of(holding("a", 0, 100), holding("b", 100, 100)));
+
+        assertThat(blocks.size(), is(equalTo(2)));
+        assertThat(owners(blocks.get(0)), is(equalTo(List.of("a"))));
+        assertThat(owners(blocks.get(1)), is(equalTo(List.of("b"))));
+    }
+
+    @Test
+    public void testBitsAreMergedUpToBitLimit() {
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(0)
+                .plan(List.of(entry("a", ModbusReadFunctionCode.READ_COILS, 0, 1000, 1000),
+                        entry("b", ModbusReadFunctionCode.READ_COILS, 1000, 1000, 1000)));
+
+        assertThat(blocks.size(), is(equalTo(1)));
+        assertThat(blocks.get(0).request().getDataLength(), is(equalTo(2000)));
+    }
+
+    @Test
+    public void testDifferentFunctionCodesAndRefreshAreNotMerged() {
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(0)
+                .plan(List.of(holding("a", 0, 10), entry("b", ModbusReadFunctionCode.READ_INPUT_REGISTERS, 10, 5, 1000),
+                        entry("c", ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 5, 500)));
+
+        assertThat(blocks.size(), is(equalTo(3)));
+        assertThat(blocks.get(2).refreshMillis(), is(equalTo(500L)));
+    }
+
+    @Test
+    public void testSingleEntryKeepsRequest() {
+        PollEntry<String> a = holding("a", 0, 10);
+        List<PollBlock<String>> blocks = new ModbusPollPlanner<String>(0).plan(List.of(a));
+
+        assertThat(blocks.size(), is(equalTo(1)));
+        assertThat(blocks.get(0).request(), is(sameInstance(a.request())));
+    }
+
+    @Test
+    public void testExtractRegisters() {
+        ModbusReadRequestBlueprint merged = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 4, 3);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 11, 2, 3);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged,
+                new ModbusRegisterArray(new byte[] { 0, 1, 0, 2, 0, 3, 0, 4 }));
+
+        AsyncModbusReadResult extracted = ModbusPollPlanner.extract(result, request);
+
+        assertThat(extracted.getRequest(), is(sameInstance(request)));
+        assertThat(extracted.getRegisters().get().getBytes(), is(equalTo(new byte[] { 0, 2, 0, 3 })));
+        assertThat(ModbusPollPlanner.extract(result, merged), is(sameInstance(result)));
+    }
+
+    @Test
+    public void testExtractBits() {
+        ModbusReadRequestBlueprint merged = new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 0, 8,
+                3);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 5, 3,
+                3);
+        BitArray bits = new BitArray(8);
+        bits.setBit(5, true);
+        bits.setBit(7, true);
+
+        AsyncModbusReadResult extracted = ModbusPollPlanner.extract(new AsyncModbusReadResult(merged, bits), request);
+
+        BitArray extractedBits = extracted.getBits().get();
+        assertThat(extractedBits.size(), is(equalTo(3)));
+        assertThat(extractedBits.getBit(0), is(true));
+        assertThat(extractedBits.getBit(1), is(false));
+        assertThat(extractedBits.getBit(2), is(true));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.ModbusWriteQueue.QueuedWrite;
+import org.openhab.binding.modbus.internal.ModbusWriteQueue.WriteBatch;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteQueueTest {
+
+    private record Submission(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+    }
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static QueuedWrite register(int start, int... values) {
+        return new QueuedWrite(
+                new ModbusWriteRegisterRequestBlueprint(1, start, new ModbusRegisterArray(values), false, 3),
+                result -> {
+                }, failure -> {
+                });
+    }
+
+    private static QueuedWrite coil(int start, boolean value) {
+        return new QueuedWrite(new ModbusWriteCoilRequestBlueprint(1, start, value, false, 3), result -> {
+        }, failure -> {
+        });
+    }
+
+    private static int[] registers(WriteBatch batch) {
+        ModbusRegisterArray registers = ((ModbusWriteRegisterRequestBlueprint) batch.request()).getRegisters();
+        int[] values = new int[registers.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = registers.getRegister(i);
+        }
+        return values;
+    }
+
+    @Test
+    public void testAdjacentRegistersAreMerged() {
+        QueuedWrite a = register(10, 1);
+        QueuedWrite b = register(11, 2, 3);
+        QueuedWrite c = register(9, 4);
+
+        List<WriteBatch> batches = ModbusWriteQueue.merge(List.of(a, b, c));
+
+        assertThat(batches.size(), is(equalTo(1)));
+        assertThat(batches.get(0).request().getFunctionCode(),
+                is(equalTo(ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS)));
+        assertThat(batches.get(0).request().getReference(), is(equalTo(9)));
+        assertThat(registers(batches.get(0)), is(equalTo(new int[] { 4, 1, 2, 3 })));
+        assertThat(batches.get(0).writes(), is(equalTo(List.of(a, b, c))));
+    }
+
+    @Test
+    public void testOverwrittenWriteIsDropped() {
+        QueuedWrite a = register(10, 1);
+        QueuedWrite b = register(20, 2);
+        QueuedWrite c = register(10, 3);
+
+        List<WriteBatch> batches = ModbusWriteQueue.merge(List.of(a, b, c));
+
+        assertThat(batches.size(), is(equalTo(2)));
+        assertThat(batches.get(0).request(), is(sameInstance(b.request())));
+        assertThat(batches.get(1).request(), is(sameInstance(c.request())));
+        assertThat(batches.get(1).writes(), is(equalTo(List.of(a, c))));
+    }
+
+    @Test
+    public void testOverlappingWriteKeepsLatestValue() {
+        List<WriteBatch> batches = ModbusWriteQueue.merge(List.of(register(10, 1, 2), register(11, 5, 6)));
+
+        assertThat(batches.size(), is(equalTo(1)));
+        assertThat(batches.get(0).request().getReference(), is(equalTo(10)));
+        assertThat(registers(batches.get(0)), is(equalTo(new int[] { 1, 5, 6 })));
+    }
+
+    @Test
+    public void testOrderIsKept() {
+        QueuedWrite a = register(10, 1);
+        QueuedWrite b = register(20, 2);
+        QueuedWrite c = register(11, 3);
+
+        List<WriteBatch> batches = ModbusWriteQueue.merge(List.of(a, b, c));
+
+        assertThat(batches.size(), is(equalTo(3)));
+        assertThat(batches.get(0).request(), is(sameInstance(a.request())));
+        assertThat(batches.get(1).request(), is(sameInstance(b.request())));
+        assertThat(batches.get(2).request(), is(sameInstance(c.request())));
+    }
+
+    @Test
+    public void testCoilsAreMerged() {
+        List<WriteBatch> batches = ModbusWriteQueue
+                .merge(List.of(coil(0, true), coil(1, false), coil(2, true), register(1, 7)));
+
+        assertThat(batches.size(), is(equalTo(2)));
+        ModbusWriteCoilRequestBlueprint request = (ModbusWriteCoilRequestBlueprint) batches.get(0).request();
+        assertThat(request.getFunctionCode(), is(equalTo(ModbusWriteFunctionCode.WRITE_MULTIPLE_COILS)));
+        BitArray coils = request.getCoils();
+        assertThat(coils.size(), is(equalTo(3)));
+        assertThat(coils.getBit(0), is(true));
+        assertThat(coils.getBit(1), is(false));
+        assertThat(coils.getBit(2), is(true));
+    }
+
+    @Test
+    public void testMaximumLengthIsNotExceeded() {
+        int[] values = new int[100];
+        List<WriteBatch> batches = ModbusWriteQueue.merge(List.of(register(0, values), register(100, values)));
+
+        assertThat(batches.size(), is(equalTo(2)));
+    }
+
+    @Test
+    public void testRequestsOfSlaveAreSentOneAfterTheOther() throws InterruptedException {
+        BlockingQueue<Submission> submissions = new LinkedBlockingQueue<>();
+        ModbusWriteQueue queue = new ModbusWriteQueue(
+                (request, resultCallback, failureCallback) -> submissions
+                        .add(new Submission(request, resultCallback, failureCallback)),
+                scheduler, 50);
+        List<ModbusWriteRequestBlueprint> completed = new ArrayList<>();
+        for (QueuedWrite write : List.of(register(10, 1), register(11, 2), register(20, 3))) {
+            queue.submit(write.request(), result -> completed.add(result.getRequest()), failure -> {
+            });
+        }
+
+        Submission first = Objects.requireNonNull(submissions.poll(5, TimeUnit.SECONDS));
+        assertThat(first.request().getReference(), is(equalTo(10)));
+        assertThat(first.request().getFunctionCode(), is(equalTo(ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS)));
+        assertThat(submissions.poll(200, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        first.resultCallback().handle(new AsyncModbusWriteResult(first.request(), () -> 16));
+        assertThat(completed.size(), is(equalTo(2)));
+
+        Submission second = Objects.requireNonNull(submissions.poll(5, TimeUnit.SECONDS));
+        assertThat(second.request().getReference(), is(equalTo(20)));
+        queue.close();
+    }
+}
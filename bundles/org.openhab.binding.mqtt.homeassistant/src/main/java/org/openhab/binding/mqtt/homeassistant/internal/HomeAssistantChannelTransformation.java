@@ -19,6 +19,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
+import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantPythonBridge.PooledTemplate;
 import org.openhab.binding.mqtt.homeassistant.internal.component.AbstractComponent;
 import org.openhab.core.thing.binding.generic.ChannelTransformation;
 import org.slf4j.Logger;
@@ -42,7 +43,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
-    private final Value template;
+    private final PooledTemplate template;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
@@ -68,7 +69,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.python = python;
         this.component = component;
         this.command = command;
-        this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
+        this.template = python.newPooledTemplate(template, command);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
     }
@@ -19,22 +19,34 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
 import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.ConfigurationException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Centralizes all calls into python to ensure thread safety and a single cached context
+ * Centralizes all calls into python to ensure thread safety and cached contexts
+ *
+ * Discovery and templates created with {@link #newRawTemplate(String)} use the primary context. Channel templates
+ * are rendered through {@link PooledTemplate}s by any context of a small pool, so templates of different channels can
+ * be rendered in parallel. All contexts share one {@link Engine}, so the Python code is only parsed and optimized
+ * once. Simple value templates are rendered by {@link HomeAssistantTemplateFastPath} without entering Python at all.
  *
  * @author Cody Cutrer - Initial contribution
  */
@@ -42,103 +54,207 @@ import org.slf4j.LoggerFactory;
 @Component(service = HomeAssistantPythonBridge.class)
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final int MAX_CONTEXTS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final ExecutorService executor = ThreadPoolManager.getPool("mqtt-homeassistant-python");
+    private final Engine engine;
+    private final PythonContext primary;
+    // idle contexts, the most recently used first, so rarely needed contexts stay cold
+    private final BlockingDeque<PythonContext> idleContexts = new LinkedBlockingDeque<>();
+    private final List<PythonContext> contexts = new ArrayList<>();
+    private int pendingContexts;
+    private boolean disposed;
+
+    /**
+     * A template that can be rendered by every context of the pool
+     */
+    public static final class PooledTemplate {
+        private final @Nullable String source;
+        private final Value template;
+        private final boolean command;
+        private final @Nullable HomeAssistantTemplateFastPath fastPath;
+
+        private PooledTemplate(@Nullable String source, Value template, boolean command) {
+            this.source = source;
+            this.template = template;
+            this.command = command;
+            this.fastPath = source == null || command ? null : HomeAssistantTemplateFastPath.compile(source);
+        }
+    }
 
     @Activate
     public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
+        engine = Engine.newBuilder().logHandler(new LogHandler(logger)).option("engine.WarnInterpreterOnly", "false")
                 .build();
+        primary = new PythonContext(engine);
+        contexts.add(primary);
+        idleContexts.add(primary);
+    }
 
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
-
-        Value bindings = context.getBindings(PYTHON);
-
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
+    @Deactivate
+    public void dispose() {
+        synchronized (contexts) {
+            disposed = true;
+            idleContexts.clear();
+            contexts.forEach(PythonContext::close);
+            contexts.clear();
+        }
+        engine.close();
+    }
 
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+    public Value newRawTemplate(String template) {
+        return primary.newRawTemplateMeth.execute(template);
+    }
 
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
+    public Value newCommandTemplate(Value template) {
+        return primary.newCommandTemplateMeth.execute(template);
+    }
 
-                        def new_raw_template(template):
-                            return Template(template)
+    public String renderCommandTemplate(Value template, Object value) {
+        return primary.renderCommandTemplateMeth.execute(template, value).asString();
+    }
 
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+    public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
+        return primary.renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+    }
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+    public Value newValueTemplate(Value template) {
+        return primary.newValueTemplateMeth.execute(template);
+    }
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+    public String renderValueTemplate(Value template, Object payload, String defaultValue) {
+        return primary.renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+    }
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+    public String renderValueTemplate(Value template, Object payload, String defaultValue,
+            Map<String, @Nullable Object> variables) {
+        return primary.renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables)
+                .asString();
+    }
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+    /**
+     * Prepare a template created by {@link #newRawTemplate(String)} or discovery to be rendered by the pool
+     *
+     * @param template the raw template
+     * @param command true for a command template, false for a value template
+     */
+    public PooledTemplate newPooledTemplate(Value template, boolean command) {
+        Value source = primary.templateSourceMeth.execute(template);
+        Value wrapped = command ? newCommandTemplate(template) : newValueTemplate(template);
+        return new PooledTemplate(source.isString() ? source.asString() : null, wrapped, command);
+    }
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+    public String renderCommandTemplate(PooledTemplate template, Object value) {
+        return render(template, (context, t) -> context.renderCommandTemplateMeth.execute(t, value));
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    public String renderCommandTemplate(PooledTemplate template, Object value,
+            Map<String, @Nullable Object> variables) {
+        return render(template,
+                (context, t) -> context.renderCommandTemplateWithVariablesMeth.execute(t, value, variables));
     }
 
-    public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+    public String renderValueTemplate(PooledTemplate template, Object payload, String defaultValue) {
+        HomeAssistantTemplateFastPath fastPath = template.fastPath;
+        if (fastPath != null && payload instanceof String stringPayload) {
+            String result = fastPath.render(stringPayload);
+            if (result != null) {
+                return result;
+            }
+        }
+        return render(template, (context, t) -> context.renderValueTemplateMeth.execute(t, payload, defaultValue));
     }
 
-    public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+    public String renderValueTemplate(PooledTemplate template, Object payload, String defaultValue,
+            Map<String, @Nullable Object> variables) {
+        return render(template, (context, t) -> context.renderValueTemplateWithVariablesMeth.execute(t, payload,
+                defaultValue, variables));
     }
 
-    public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+    @FunctionalInterface
+    private interface Renderer {
+        Value render(PythonContext context, Value template);
     }
 
-    public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+    private String render(PooledTemplate template, Renderer renderer) {
+        String source = template.source;
+        if (source == null) {
+            // not a plain template, e.g. no template at all. It only exists in the primary context
+            return renderer.render(primary, template.template).asString();
+        }
+        return withContext(context -> renderer.render(context, context.getTemplate(source, template.command))
+                .asString());
     }
 
-    public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+    /**
+     * Run an action with an idle context of the pool. The primary context is used if the thread is interrupted while
+     * waiting for a context.
+     */
+    private <T> T withContext(Function<PythonContext, T> action) {
+        PythonContext context = idleContexts.pollFirst();
+        if (context == null) {
+            requestContext();
+            try {
+                context = idleContexts.takeFirst();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return action.apply(primary);
+            }
+        }
+        try {
+            return action.apply(context);
+        } finally {
+            release(context);
+        }
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+    /**
+     * Start creating another context in the background, unless the pool is full
+     */
+    private void requestContext() {
+        synchronized (contexts) {
+            if (disposed || contexts.size() + pendingContexts >= MAX_CONTEXTS) {
+                return;
+            }
+            pendingContexts++;
+        }
+        executor.execute(() -> {
+            PythonContext context = null;
+            try {
+                context = new PythonContext(engine);
+                logger.debug("Created additional Python context for rendering templates");
+            } catch (RuntimeException e) {
+                logger.warn("Failed to create additional Python context: {}", e.getMessage());
+            }
+            synchronized (contexts) {
+                pendingContexts--;
+                if (context != null) {
+                    if (disposed) {
+                        context.close();
+                    } else {
+                        contexts.add(context);
+                        idleContexts.offerFirst(context);
+                    }
+                }
+            }
+        });
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue,
-            Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+    private void release(PythonContext context) {
+        synchronized (contexts) {
+            if (!disposed) {
+                idleContexts.offerFirst(context);
+            }
+        }
     }
 
     public Map<String, @Nullable Object> processDiscoveryConfig(String component, String payload) {
         try {
             @SuppressWarnings("unchecked")
             Map<String, @Nullable Object> config = (Map<String, @Nullable Object>) toJava(
-                    processDiscoveryConfigMeth.execute(component, payload));
+                    primary.processDiscoveryConfigMeth.execute(component, payload));
             if (config == null) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -179,7 +295,7 @@ public class HomeAssistantPythonBridge {
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = primary.listMeth.execute(value);
             @SuppressWarnings("unchecked")
             List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
@@ -193,4 +309,105 @@ public class HomeAssistantPythonBridge {
         Object r = value.as(Object.class);
         return r;
     }
+
+    /**
+     * A Python context with the Home Assistant modules loaded
+     */
+    private static class PythonContext {
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
+                renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
+                processDiscoveryConfigMeth, listMeth, templateSourceMeth;
+        // templates of this context by kind and source, the least recently used are dropped
+        private final Map<String, Value> templates = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, Value> eldest) {
+                return size() > MAX_CACHED_TEMPLATES;
+            }
+        };
+
+        PythonContext(Engine engine) {
+            VirtualFileSystem vfs = VirtualFileSystem.newBuilder()
+                    .resourceLoadingClass(HomeAssistantPythonBridge.class).build();
+
+            context = GraalPyResources.contextBuilder(vfs).engine(engine).build();
+
+            Value bindings = context.getBindings(PYTHON);
+
+            context.eval(PYTHON,
+                    """
+                            # we need to set up the path just like it would have been set up on Linux, even if we're
+                            # on Windows
+                            import os
+                            import sys
+
+                            if os.sep != '/':
+                                sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+
+                            from homeassistant.helpers.template import Template
+                            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+                            from homeassistant.components.mqtt.discovery import process_discovery_config
+
+                            def new_raw_template(template):
+                                return Template(template)
+
+                            def template_source(template):
+                                return template.template if isinstance(template, Template) else None
+
+                            def new_command_template(template):
+                                return MqttCommandTemplate(template)
+
+                            def render_command_template(template, value):
+                                return template.render(value=value)
+
+                            def render_command_template_with_variables(template, value, variables):
+                                return template.render(value=value, variables=variables)
+
+                            def new_value_template(template):
+                                return MqttValueTemplate(template)
+
+                            def render_value_template(template, payload, default):
+                                return template.render_with_possible_json_value(payload=payload, default=default)
+
+                            def render_value_template_with_variables(template, payload, default, variables):
+                                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+                            """);
+
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            templateSourceMeth = bindings.getMember("template_source");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
+
+        /**
+         * Get the wrapped template of this context for a template source
+         */
+        Value getTemplate(String source, boolean command) {
+            String key = (command ? "command:" : "value:") + source;
+            synchronized (templates) {
+                Value template = templates.get(key);
+                if (template == null) {
+                    Value raw = newRawTemplateMeth.execute(source);
+                    template = command ? newCommandTemplateMeth.execute(raw) : newValueTemplateMeth.execute(raw);
+                    templates.put(key, template);
+                }
+                return template;
+            }
+        }
+
+        void close() {
+            synchronized (templates) {
+                templates.clear();
+            }
+            context.close(true);
+        }
+    }
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders the most common value templates in Java, without calling into Python.
+ *
+ * Supported are templates that output the payload or a value of the JSON payload, optionally converted with the
+ * <code>float</code> or <code>int</code> filter, e.g. <code>{{ value }}</code>, <code>{{ value_json.x }}</code> or
+ * <code>{{ value_json['a'].b[0] | float }}</code>. The result must be the same as the one of the Jinja template, so
+ * whenever the outcome is not obvious (missing keys, complex values, numbers Python would format differently, ...)
+ * {@link #render(String)} returns <code>null</code> and the template has to be rendered by Python.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class HomeAssistantTemplateFastPath {
+    private static final Pattern TEMPLATE_PATTERN = Pattern.compile(
+            "\\{\\{\\s*(value_json((?:\\s*\\.\\s*[A-Za-z_][A-Za-z0-9_]*|\\s*\\[\\s*(?:'[^'\\\\]*'|\"[^\"\\\\]*\"|\\d+)\\s*\\])+)|value)\\s*(?:\\|\\s*(float|int)\\s*)?\\}\\}");
+    private static final Pattern SEGMENT_PATTERN = Pattern
+            .compile("\\.\\s*([A-Za-z_][A-Za-z0-9_]*)|\\[\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\"|(\\d+))\\s*\\]");
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("(-?)(\\d+)");
+    private static final Pattern DECIMAL_PATTERN = Pattern.compile("(-?)(\\d+)\\.(\\d+)");
+    // attribute access is resolved to these attributes of the dict, not to the keys
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+    // a double holds decimals with up to 15 significant digits exactly, so Python prints them unchanged
+    private static final int MAX_FLOAT_DIGITS = 15;
+    // Python refuses to convert longer integers to strings
+    private static final int MAX_INTEGER_DIGITS = 4000;
+    private static final TypeAdapter<JsonElement> JSON_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    private enum Filter {
+        NONE,
+        FLOAT,
+        INT
+    }
+
+    /**
+     * A key of an object or an index of an array
+     */
+    private record Segment(@Nullable String key, int index) {
+    }
+
+    private final @Nullable List<Segment> path;
+    private final Filter filter;
+
+    private HomeAssistantTemplateFastPath(@Nullable List<Segment> path, Filter filter) {
+        this.path = path;
+        this.filter = filter;
+    }
+
+    /**
+     * Creates the fast path for a template
+     *
+     * @param template the template source
+     * @return the fast path or <code>null</code> if the template is not supported
+     */
+    static @Nullable HomeAssistantTemplateFastPath compile(String template) {
+        Matcher matcher = TEMPLATE_PATTERN.matcher(template.strip());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String filterName = matcher.group(3);
+        Filter filter = filterName == null ? Filter.NONE : "float".equals(filterName) ? Filter.FLOAT : Filter.INT;
+        String pathString = matcher.group(2);
+        if (pathString == null) {
+            return new HomeAssistantTemplateFastPath(null, filter);
+        }
+        List<Segment> path = new ArrayList<>();
+        Matcher segmentMatcher = SEGMENT_PATTERN.matcher(pathString);
+        while (segmentMatcher.find()) {
+            String attribute = segmentMatcher.group(1);
+            String single = segmentMatcher.group(2);
+            String index = segmentMatcher.group(4);
+            if (attribute != null) {
+                if (attribute.startsWith("__") || DICT_ATTRIBUTES.contains(attribute)) {
+                    return null;
+                }
+                path.add(new Segment(attribute, -1));
+            } else if (index != null) {
+                if (index.length() > 9) {
+                    return null;
+                }
+                path.add(new Segment(null, Integer.parseInt(index)));
+            } else {
+                path.add(new Segment(single != null ? single : segmentMatcher.group(3), -1));
+            }
+        }
+        return new HomeAssistantTemplateFastPath(path, filter);
+    }
+
+    /**
+     * Renders the template
+     *
+     * @param payload the received payload
+     * @return the rendered template or <code>null</code> if the template has to be rendered by Python
+     */
+    @Nullable
+    String render(String payload) {
+        List<Segment> path = this.path;
+        if (path == null) {
+            return switch (filter) {
+                case NONE -> strip(payload);
+                case FLOAT -> floatRepr(payload);
+                case INT -> intRepr(payload);
+            };
+        }
+
+        JsonElement element = parseJson(payload);
+        if (element == null) {
+            return null;
+        }
+        for (Segment segment : path) {
+            String key = segment.key();
+            if (key != null && element instanceof JsonObject object) {
+                element = object.get(key);
+                if (element == null) {
+                    return null;
+                }
+            } else if (key == null && element instanceof JsonArray array && segment.index() < array.size()) {
+                element = array.get(segment.index());
+            } else {
+                return null;
+            }
+        }
+
+        if (element.isJsonNull()) {
+            return filter == Filter.NONE ? "None" : null;
+        }
+        if (!(element instanceof JsonPrimitive primitive)) {
+            return null;
+        }
+        if (primitive.isBoolean()) {
+            boolean value = primitive.getAsBoolean();
+            return switch (filter) {
+                case NONE -> value ? "True" : "False";
+                case FLOAT -> value ? "1.0" : "0.0";
+                case INT -> value ? "1" : "0";
+            };
+        }
+        if (primitive.isNumber()) {
+            // the number keeps the literal of the JSON document
+            String literal = primitive.getAsNumber().toString();
+            if (INTEGER_PATTERN.matcher(literal).matches()) {
+                if (literal.length() > MAX_INTEGER_DIGITS) {
+                    return null;
+                }
+                // JSON integers are Python ints, which have no negative zero
+                literal = new BigInteger(literal).toString();
+                return filter == Filter.FLOAT ? floatRepr(literal) : literal;
+            }
+            return filter == Filter.INT ? intRepr(literal) : floatRepr(literal);
+        }
+        String value = primitive.getAsString();
+        return switch (filter) {
+            case NONE -> strip(value);
+            case FLOAT -> floatRepr(value);
+            case INT -> intRepr(value);
+        };
+    }
+
+    /**
+     * Parses the payload like <code>json.loads</code> does
+     *
+     * @return the parsed object or array, <code>null</code> if the payload is no JSON document
+     */
+    private static @Nullable JsonElement parseJson(String payload) {
+        // Gson skips a byte order mark, Python does not
+        if (payload.startsWith("\ufeff")) {
+            return null;
+        }
+        try {
+            JsonReader reader = new JsonReader(new StringReader(payload));
+            reader.setStrictness(Strictness.STRICT);
+            JsonElement element = JSON_ADAPTER.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT || !(element.isJsonObject() || element.isJsonArray())) {
+                return null;
+            }
+            return element;
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Strips whitespace like Python's <code>str.strip()</code>
+     *
+     * @return the stripped string or <code>null</code> if the string starts or ends with non-ASCII whitespace
+     */
+    private static @Nullable String strip(String value) {
+        int begin = 0;
+        int end = value.length();
+        while (begin < end && isAsciiWhitespace(value.charAt(begin))) {
+            begin++;
+        }
+        while (end > begin && isAsciiWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (end > begin && (isOtherWhitespace(value.charAt(begin)) || isOtherWhitespace(value.charAt(end - 1)))) {
+            return null;
+        }
+        return value.substring(begin, end);
+    }
+
+    private static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r') || (c >= '\u001c' && c <= '\u001f');
+    }
+
+    private static boolean isOtherWhitespace(char c) {
+        return c > '\u007f' && (Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085');
+    }
+
+    /**
+     * Formats a number like Python's <code>repr(float(value))</code>
+     *
+     * @return the formatted number or <code>null</code> if Python might format it differently
+     */
+    private static @Nullable String floatRepr(String value) {
+        String fractionPart;
+        Matcher matcher = DECIMAL_PATTERN.matcher(value);
+        if (matcher.matches()) {
+            fractionPart = matcher.group(3).replaceFirst("(?<=\\d)0+$", "");
+        } else {
+            matcher = INTEGER_PATTERN.matcher(value);
+            if (!matcher.matches()) {
+                return null;
+            }
+            fractionPart = "0";
+        }
+        String sign = matcher.group(1);
+        String integerPart = matcher.group(2).replaceFirst("^0+(?=\\d)", "");
+        String digits = (integerPart + fractionPart).replaceFirst("^0+", "");
+        if (digits.isEmpty()) {
+            return sign + "0.0";
+        }
+        if (digits.length() > MAX_FLOAT_DIGITS) {
+            return null;
+        }
+        if ("0".equals(integerPart) && fractionPart.startsWith("0000")) {
+            // Python uses the exponent notation below 1e-4
+            return null;
+        }
+        return sign + integerPart + "." + fractionPart;
+    }
+
+    /**
+     * Formats a number like the <code>int</code> filter of Jinja
+     *
+     * @return the formatted number or <code>null</code> if the value might be converted differently
+     */
+    private static @Nullable String intRepr(String value) {
+        if (INTEGER_PATTERN.matcher(value).matches()) {
+            return value.length() > MAX_INTEGER_DIGITS ? null : new BigInteger(value).toString();
+        }
+        if (DECIMAL_PATTERN.matcher(value).matches() && floatRepr(value) != null) {
+            return new BigDecimal(value).setScale(0, RoundingMode.DOWN).toBigInteger().toString();
+        }
+        return null;
+    }
+}
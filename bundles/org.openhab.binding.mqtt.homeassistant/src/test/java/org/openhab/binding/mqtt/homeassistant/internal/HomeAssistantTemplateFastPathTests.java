@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantPythonBridge.PooledTemplate;
+
+/**
+ * Tests that {@link HomeAssistantTemplateFastPath} renders templates exactly like Python
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class HomeAssistantTemplateFastPathTests extends AbstractHomeAssistantTests {
+    private static final String PAYLOAD = """
+            { "temperature": 21.50, "humidity": 48, "negative": -0.0, "small": 0.0001, "big": 12345678901234567,
+              "text": "  on ", "number": "21.7", "integer": "-0", "flag": true, "nothing": null,
+              "nested": { "list": [1, "two", 3.25], "key with space": "x" }, "items": 5 }
+            """;
+
+    @Test
+    public void testSupportedTemplatesRenderLikePython() {
+        List<String> templates = List.of("{{ value }}", "{{ value_json.temperature }}", "{{ value_json.humidity }}",
+                "{{ value_json.negative }}", "{{ value_json.small }}", "{{ value_json.big }}",
+                "{{ value_json.text }}", "{{ value_json.number }}", "{{ value_json.flag }}",
+                "{{ value_json.nothing }}", "{{ value_json['nested'].list[0] }}",
+                "{{ value_json.nested[\"key with space\"] }}", "{{ value_json.nested.list[1] }}",
+                "{{ value_json.temperature | float }}", "{{ value_json.humidity | float }}",
+                "{{ value_json.number | float }}", "{{ value_json.integer | float }}",
+                "{{ value_json.flag | float }}", "{{ value_json.temperature | int }}",
+                "{{ value_json.number | int }}", "{{ value_json.integer | int }}",
+                "{{ value_json['nested']['list'][2] | int }}");
+        for (String template : templates) {
+            String fast = compile(template).render(PAYLOAD);
+            assertThat(template, fast, is(notNullValue()));
+            assertThat(template, fast, is(python(template, PAYLOAD)));
+        }
+    }
+
+    @Test
+    public void testPayloadRendersLikePython() {
+        for (String payload : List.of("21.5", "-0", "007.50", "12")) {
+            for (String template : List.of("{{ value }}", "{{ value | float }}", "{{ value | int }}")) {
+                String fast = compile(template).render(payload);
+                assertThat(template, fast, is(notNullValue()));
+                assertThat(template, fast, is(python(template, payload)));
+            }
+        }
+        assertThat(compile("{{ value }}").render(" ON\n"), is(python("{{ value }}", " ON\n")));
+    }
+
+    @Test
+    public void testUnclearCasesFallBackToPython() {
+        // errors, complex values and numbers Python formats differently
+        for (String template : List.of("{{ value_json.missing }}", "{{ value_json.nested }}",
+                "{{ value_json.nested.list }}", "{{ value_json.nested.list[5] }}", "{{ value_json.big | float }}",
+                "{{ value_json.small }}", "{{ value_json.text | float }}", "{{ value_json.nothing | int }}")) {
+            assertThat(template, compile(template).render(PAYLOAD.replace("0.0001", "0.00001")), is(nullValue()));
+        }
+        assertThat(compile("{{ value_json.x }}").render("{ \"x\": 1.5e3 }"), is(nullValue()));
+        assertThat(compile("{{ value_json.x }}").render("{ 'x': 1 }"), is(nullValue()));
+        assertThat(compile("{{ value_json.x }}").render("{ \"x\": 1 } trailing"), is(nullValue()));
+        assertThat(compile("{{ value | float }}").render(" 1.5 "), is(nullValue()));
+    }
+
+    @Test
+    public void testUnsupportedTemplates() {
+        for (String template : List.of("{{ value_json.get('x') }}", "{{ value_json.items }}",
+                "{{ value_json.x | round(1) }}", "{{ value_json.x }} %", "{% if value %}on{% endif %}",
+                "{{ value_json.__class__ }}")) {
+            assertThat(template, HomeAssistantTemplateFastPath.compile(template), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testPooledTemplateRendersLikePrimaryContext() {
+        PooledTemplate template = PYTHON.newPooledTemplate(PYTHON.newRawTemplate("{{ value_json.nested | tojson }}"),
+                false);
+        assertThat(PYTHON.renderValueTemplate(template, PAYLOAD, "default"),
+                is(python("{{ value_json.nested | tojson }}", PAYLOAD)));
+    }
+
+    private static HomeAssistantTemplateFastPath compile(String template) {
+        return Objects.requireNonNull(HomeAssistantTemplateFastPath.compile(template));
+    }
+
+    private static @Nullable String python(String template, String payload) {
+        return PYTHON.renderValueTemplate(PYTHON.newValueTemplate(PYTHON.newRawTemplate(template)), payload,
+                HomeAssistantChannelTransformation.PAYLOAD_SENTINEL_DEFAULT);
+    }
+}
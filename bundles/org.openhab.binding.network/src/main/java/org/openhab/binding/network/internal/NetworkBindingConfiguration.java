@@ -19,6 +19,7 @@ import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 
 /**
  * Contains the binding configuration and default values. The field names represent the configuration names,
@@ -32,6 +33,7 @@ public class NetworkBindingConfiguration {
     public final static int DEFAULT_DISCOVERY_THREADS = 100;
     public final static String DEFAULT_ARPING_TOOL_PATH = "arping";
     public final static ArpPingUtilEnum DEFAULT_ARPING_METHOD = ArpPingUtilEnum.DISABLED;
+    public final static String DEFAULT_FPING_TOOL_PATH = "fping";
     public boolean allowSystemPings = true;
     public boolean allowDHCPlisten = true;
     public BigDecimal cacheDeviceStateTimeInMS = BigDecimal.valueOf(2000);
@@ -40,6 +42,8 @@ public class NetworkBindingConfiguration {
     // For backwards compatibility reasons, the default is to use the ping method execution time as latency value
     public boolean preferResponseTimeAsLatency = false;
     public int numberOfDiscoveryThreads = DEFAULT_DISCOVERY_THREADS;
+    public String fpingToolPath = DEFAULT_FPING_TOOL_PATH;
+    public boolean fpingToolAvailable = false;
 
     private List<NetworkBindingConfigurationListener> listeners = new ArrayList<>();
 
@@ -50,9 +54,11 @@ public class NetworkBindingConfiguration {
         this.arpPingToolPath = newConfiguration.arpPingToolPath;
         this.preferResponseTimeAsLatency = newConfiguration.preferResponseTimeAsLatency;
         this.numberOfDiscoveryThreads = newConfiguration.numberOfDiscoveryThreads;
+        this.fpingToolPath = newConfiguration.fpingToolPath;
 
         NetworkUtils networkUtils = new NetworkUtils();
         this.arpPingUtilMethod = networkUtils.determineNativeArpPingMethod(arpPingToolPath);
+        this.fpingToolAvailable = PresenceProbeEngine.isFpingAvailable(fpingToolPath);
 
         notifyListeners();
     }
@@ -70,6 +76,7 @@ public class NetworkBindingConfiguration {
         return "NetworkBindingConfiguration{" + "allowSystemPings=" + allowSystemPings + ", allowDHCPlisten="
                 + allowDHCPlisten + ", cacheDeviceStateTimeInMS=" + cacheDeviceStateTimeInMS + ", arpPingToolPath='"
                 + arpPingToolPath + '\'' + ", arpPingUtilMethod=" + arpPingUtilMethod + ", preferResponseTimeAsLatency="
-                + preferResponseTimeAsLatency + ", numberOfDiscoveryThreads=" + numberOfDiscoveryThreads + '}';
+                + preferResponseTimeAsLatency + ", numberOfDiscoveryThreads=" + numberOfDiscoveryThreads
+                + ", fpingToolPath='" + fpingToolPath + '\'' + ", fpingToolAvailable=" + fpingToolAvailable + '}';
     }
 }
@@ -14,6 +14,7 @@ package org.openhab.binding.network.internal;
 
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -21,6 +22,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.handler.NetworkHandler;
 import org.openhab.binding.network.internal.handler.SpeedTestHandler;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Thing;
@@ -50,6 +52,7 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
     private final Logger logger = LoggerFactory.getLogger(NetworkHandlerFactory.class);
     private final ScheduledExecutorService executor = ThreadPoolManager
             .getScheduledPool(NETWORK_HANDLER_THREADPOOL_NAME);
+    private @Nullable PresenceProbeEngine probeEngine;
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -60,6 +63,12 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
     @Activate
     protected void activate(ComponentContext componentContext, Map<String, Object> config) {
         super.activate(componentContext);
+        try {
+            probeEngine = new PresenceProbeEngine(null);
+        } catch (IOException e) {
+            logger.warn("Unable to start the presence probe engine, falling back to one thread per check: {}",
+                    e.getMessage());
+        }
         modified(config);
     }
 
@@ -67,6 +76,11 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
         super.deactivate(componentContext);
+        PresenceProbeEngine probeEngine = this.probeEngine;
+        if (probeEngine != null) {
+            probeEngine.close();
+            this.probeEngine = null;
+        }
     }
 
     @Modified
@@ -76,6 +90,10 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
         logger.debug("Updated binding configuration to {}", configuration);
+        PresenceProbeEngine probeEngine = this.probeEngine;
+        if (probeEngine != null) {
+            probeEngine.setFpingToolPath(configuration.fpingToolAvailable ? configuration.fpingToolPath : null);
+        }
     }
 
     @Override
@@ -83,9 +101,9 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(PING_DEVICE) || thingTypeUID.equals(BACKWARDS_COMPATIBLE_DEVICE)) {
-            return new NetworkHandler(thing, executor, false, configuration);
+            return new NetworkHandler(thing, executor, false, configuration, probeEngine);
         } else if (thingTypeUID.equals(SERVICE_DEVICE)) {
-            return new NetworkHandler(thing, executor, true, configuration);
+            return new NetworkHandler(thing, executor, true, configuration, probeEngine);
         } else if (thingTypeUID.equals(SPEEDTEST_DEVICE)) {
             return new SpeedTestHandler(thing);
         }
@@ -42,6 +42,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
 import org.slf4j.Logger;
@@ -96,6 +97,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private String lastReachableNetworkInterfaceName = "";
 
     private final Executor executor;
+    private @Nullable PresenceProbeEngine probeEngine;
 
     public PresenceDetection(final PresenceDetectionListener updateListener, Duration cacheDeviceStateTime,
             Executor executor) {
@@ -167,6 +169,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.preferResponseTimeAsLatency = preferResponseTimeAsLatency;
     }
 
+    /**
+     * Sets the engine used for TCP connection attempts and, if supported, ICMP pings. Checks performed by the engine
+     * do not occupy a thread of the executor while waiting for the answer.
+     *
+     * @param probeEngine the {@link PresenceProbeEngine} or <code>null</code> to perform all checks on the executor
+     */
+    public void setProbeEngine(@Nullable PresenceProbeEngine probeEngine) {
+        this.probeEngine = probeEngine;
+    }
+
     /**
      * Sets the ping method. This method will perform a feature test. If {@link IpPingMethodEnum#SYSTEM_PING}
      * does not work on this system, {@link IpPingMethodEnum#JAVA_PING} will be used instead.
@@ -377,11 +389,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        PresenceProbeEngine engine = probeEngine;
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                performServicePing(pdv, tcpPort);
-            });
+            if (engine != null) {
+                completableFutures.add(performServicePing(engine, pdv, tcpPort));
+            } else {
+                addAsyncDetection(completableFutures, () -> {
+                    performServicePing(pdv, tcpPort);
+                });
+            }
         }
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
@@ -399,7 +416,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         // ICMP ping
-        if (pingMethod != IpPingMethodEnum.DISABLED) {
+        if (engine != null && engine.isIcmpBatchingAvailable() && pingMethod != IpPingMethodEnum.DISABLED
+                && pingMethod != IpPingMethodEnum.JAVA_PING) {
+            completableFutures.add(performBatchedPing(engine, pdv));
+        } else if (pingMethod != IpPingMethodEnum.DISABLED) {
             addAsyncDetection(completableFutures, () -> {
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
@@ -409,20 +429,19 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             });
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            try {
-                CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new)).join();
+        // Don't block a thread while waiting, the result is processed when the last detection has completed
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+        return CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new)).handleAsync((r, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause == null) {
                 logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
-            } catch (CancellationException e) {
+            } else if (cause instanceof CancellationException) {
                 logger.debug("Detection future for {} was cancelled", hostname);
-            } catch (CompletionException e) {
-                if (e.getCause() instanceof TimeoutException) {
-                    logger.debug("Detection future for {} timed out", hostname);
-                } else {
-                    logger.debug("Detection future failed to complete {}", e.getMessage());
-                    logger.trace("", e);
-                }
+            } else if (cause instanceof TimeoutException) {
+                logger.debug("Detection future for {} timed out", hostname);
+            } else {
+                logger.debug("Detection future failed to complete {}", cause.getMessage());
+                logger.trace("", cause);
             }
 
             if (!pdv.isReachable()) {
@@ -484,6 +503,22 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
     }
 
+    private CompletableFuture<Void> performServicePing(PresenceProbeEngine engine, PresenceDetectionValue pdv,
+            int tcpPort) {
+        logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
+
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        return engine.servicePing(destinationAddress, tcpPort, timeout).thenAcceptAsync(pingResult -> {
+            if (pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+            }
+        }, executor);
+    }
+
     protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
@@ -589,6 +624,24 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         });
     }
 
+    private CompletableFuture<Void> performBatchedPing(PresenceProbeEngine engine, PresenceDetectionValue pdv) {
+        logger.trace("Perform batched ping presence detection for {}", hostname);
+
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        return engine.icmpPing(destinationAddress, timeout).handleAsync((pingResult, e) -> {
+            if (e != null) {
+                logger.trace("Failed to execute a batched ping for {}", hostname, e);
+            } else if (pingResult.isSuccess()) {
+                updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+            }
+            return null;
+        }, executor);
+    }
+
     private Duration getLatency(PingResult pingResult) {
         logger.trace("Getting latency from ping result {} using latency mode {}", pingResult,
                 preferResponseTimeAsLatency);
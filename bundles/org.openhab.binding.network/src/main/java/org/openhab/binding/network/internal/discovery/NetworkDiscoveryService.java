@@ -43,6 +43,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
@@ -80,6 +81,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
     /* All access must be guarded by "this" */
     private @Nullable ExecutorService executorService;
+    /* All access must be guarded by "this" */
+    private @Nullable PresenceProbeEngine probeEngine;
     private final NetworkUtils networkUtils = new NetworkUtils();
     private final ConfigurationAdmin admin;
 
@@ -100,6 +103,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                 executorService.shutdownNow();
                 executorService = null;
             }
+            PresenceProbeEngine engine = probeEngine;
+            if (engine != null) {
+                engine.close();
+                probeEngine = null;
+            }
         }
         super.deactivate();
     }
@@ -140,6 +148,18 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         }
     }
 
+    private @Nullable PresenceProbeEngine createProbeEngine(@Nullable NetworkBindingConfiguration configuration) {
+        String fpingToolPath = configuration == null ? NetworkBindingConfiguration.DEFAULT_FPING_TOOL_PATH
+                : configuration.fpingToolPath;
+        try {
+            return new PresenceProbeEngine(
+                    PresenceProbeEngine.isFpingAvailable(fpingToolPath) ? fpingToolPath : null);
+        } catch (IOException e) {
+            logger.debug("Unable to start the presence probe engine: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Starts the DiscoveryThread for each IP on each interface on the network
      */
@@ -147,11 +167,16 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     protected void startScan() {
         NetworkBindingConfiguration configuration = getConfig();
         final ExecutorService service;
+        final PresenceProbeEngine engine;
         synchronized (this) {
             if (executorService == null) {
                 executorService = createDiscoveryExecutor(configuration);
             }
             service = executorService;
+            if (probeEngine == null) {
+                probeEngine = createProbeEngine(configuration);
+            }
+            engine = probeEngine;
         }
         if (service == null) {
             return;
@@ -183,6 +208,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                     pd.setIOSDevice(true);
                     pd.setUseDhcpSniffing(false);
                     pd.setTimeout(PING_TIMEOUT);
+                    pd.setProbeEngine(engine);
                     // Ping devices
                     pd.setIcmpPingMethod(pingMethod);
                     if (configuration == null) {
@@ -216,6 +242,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         final ExecutorService service;
         synchronized (this) {
             super.stopScan();
+            PresenceProbeEngine engine = probeEngine;
+            if (engine != null) {
+                engine.close();
+                probeEngine = null;
+            }
             service = executorService;
             if (service == null) {
                 return;
@@ -36,6 +36,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.WakeOnLanPacketSender;
 import org.openhab.binding.network.internal.action.NetworkActions;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -84,14 +85,24 @@ public class NetworkHandler extends BaseThingHandler
     // Retry counter. Will be reset as soon as a device presence detection succeed.
     private volatile int retryCounter = 0;
     private final ScheduledExecutorService executor;
+    private final @Nullable PresenceProbeEngine probeEngine;
 
     /**
      * Creates a new instance using the specified parameters.
      */
     public NetworkHandler(Thing thing, ScheduledExecutorService executor, boolean isTCPServiceDevice,
             NetworkBindingConfiguration configuration) {
+        this(thing, executor, isTCPServiceDevice, configuration, null);
+    }
+
+    /**
+     * Creates a new instance using the specified parameters and a shared {@link PresenceProbeEngine}.
+     */
+    public NetworkHandler(Thing thing, ScheduledExecutorService executor, boolean isTCPServiceDevice,
+            NetworkBindingConfiguration configuration, @Nullable PresenceProbeEngine probeEngine) {
         super(thing);
         this.executor = executor;
+        this.probeEngine = probeEngine;
         this.isTCPServiceDevice = isTCPServiceDevice;
         this.configuration = configuration;
         this.configuration.addNetworkBindingConfigurationListener(this);
@@ -201,6 +212,7 @@ public class NetworkHandler extends BaseThingHandler
         presenceDetection.setHostname(config.hostname);
         presenceDetection.setNetworkInterfaceNames(config.networkInterfaceNames);
         presenceDetection.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+        presenceDetection.setProbeEngine(probeEngine);
 
         if (isTCPServiceDevice) {
             Integer port = config.port;
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.net.exec.ExecUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PresenceProbeEngine} performs presence probes for many hosts with a fixed, small number of threads.
+ * <p>
+ * TCP connection attempts are made with non-blocking channels that are multiplexed on a single {@link Selector}.
+ * ICMP pings are collected for a short time and sent by a single <code>fping</code> process per batch, instead of
+ * starting one <code>ping</code> process per host. If <code>fping</code> is not available, ICMP batching is disabled
+ * and callers have to fall back to {@link NetworkUtils#nativePing}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProbeEngine implements AutoCloseable {
+    static final Duration ICMP_BATCH_WINDOW = Duration.ofMillis(100);
+    static final int MAX_ICMP_BATCH_SIZE = 256;
+    private static final Duration FPING_GRACE_TIME = Duration.ofSeconds(2);
+    static final Pattern FPING_ALIVE_PATTERN = Pattern
+            .compile("^(?<host>\\S+)\\s+is alive(?:\\s+\\((?<latency>[\\d.]+)\\s+ms\\))?.*");
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceProbeEngine.class);
+
+    private volatile @Nullable String fpingToolPath;
+    private final Selector selector;
+    private final Thread selectorThread;
+    private final Queue<ServiceProbe> newServiceProbes = new ConcurrentLinkedQueue<>();
+    // only accessed by the selector thread
+    private final PriorityQueue<ServiceProbe> serviceProbeDeadlines = new PriorityQueue<>(
+            Comparator.comparingLong((ServiceProbe probe) -> probe.deadline));
+
+    private final ScheduledExecutorService scheduler;
+    /* All access must be guarded by "pendingIcmpProbes" */
+    private final Map<Duration, List<IcmpProbe>> pendingIcmpProbes = new HashMap<>();
+    private final Set<Process> runningProcesses = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new engine and starts its selector thread.
+     *
+     * @param fpingToolPath the path of the <code>fping</code> tool or <code>null</code> to disable ICMP batching
+     * @throws IOException if the selector could not be opened
+     */
+    public PresenceProbeEngine(@Nullable String fpingToolPath) throws IOException {
+        this.fpingToolPath = fpingToolPath;
+        selector = Selector.open();
+        selectorThread = new Thread(this::runSelector, "OH-binding-network-probeSelector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "OH-binding-network-probeScheduler");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Return true if the <code>fping</code> tool is available and executable on the given path.
+     */
+    public static boolean isFpingAvailable(String fpingToolPath) {
+        if (fpingToolPath.isBlank()) {
+            return false;
+        }
+        String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofMillis(500), fpingToolPath, "-v");
+        return result != null && result.contains("fping");
+    }
+
+    /**
+     * Sets the path of the <code>fping</code> tool used for ICMP pings.
+     *
+     * @param fpingToolPath the path of the <code>fping</code> tool or <code>null</code> to disable ICMP batching
+     */
+    public void setFpingToolPath(@Nullable String fpingToolPath) {
+        this.fpingToolPath = fpingToolPath;
+    }
+
+    /**
+     * Return <code>true</code> if ICMP pings can be performed by {@link #icmpPing(InetAddress, Duration)}.
+     */
+    public boolean isIcmpBatchingAvailable() {
+        return fpingToolPath != null;
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port without blocking the calling thread.
+     *
+     * @param address the destination address
+     * @param port the TCP port. Must be not 0.
+     * @param timeout the timeout before the connection attempt is aborted
+     * @return a future for the {@link PingResult}, completed by the selector thread
+     */
+    public CompletableFuture<PingResult> servicePing(InetAddress address, int port, Duration timeout) {
+        ServiceProbe probe = new ServiceProbe(new InetSocketAddress(address, port), timeout);
+        if (closed) {
+            probe.complete(false);
+        } else {
+            newServiceProbes.add(probe);
+            selector.wakeup();
+        }
+        return probe.future;
+    }
+
+    /**
+     * Send an ICMP ping to the given address. The ping is sent together with other pings requested within
+     * {@link #ICMP_BATCH_WINDOW} using the same timeout.
+     *
+     * @param address the destination address
+     * @param timeout the timeout before the ping is considered unsuccessful
+     * @return a future for the {@link PingResult}, completed exceptionally if the ping tool could not be executed
+     */
+    public CompletableFuture<PingResult> icmpPing(InetAddress address, Duration timeout) {
+        IcmpProbe probe = new IcmpProbe(address.getHostAddress());
+        if (closed || fpingToolPath == null) {
+            probe.future.completeExceptionally(new IOException("ICMP batching is not available"));
+            return probe.future;
+        }
+        List<IcmpProbe> batch = null;
+        synchronized (pendingIcmpProbes) {
+            List<IcmpProbe> probes = pendingIcmpProbes.computeIfAbsent(timeout, t -> new ArrayList<>());
+            probes.add(probe);
+            if (probes.size() >= MAX_ICMP_BATCH_SIZE) {
+                batch = pendingIcmpProbes.remove(timeout);
+            } else if (probes.size() == 1) {
+                scheduler.schedule(() -> flushIcmpProbes(timeout), ICMP_BATCH_WINDOW.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch != null) {
+            List<IcmpProbe> fullBatch = batch;
+            scheduler.execute(() -> startFping(fullBatch, timeout));
+        }
+        return probe.future;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        scheduler.shutdownNow();
+        runningProcesses.forEach(Process::destroy);
+        synchronized (pendingIcmpProbes) {
+            pendingIcmpProbes.values().forEach(probes -> probes.forEach(probe -> probe.complete(false, null)));
+            pendingIcmpProbes.clear();
+        }
+    }
+
+    private void runSelector() {
+        try {
+            while (!closed) {
+                registerServiceProbes();
+                selector.select(expireServiceProbes());
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.attachment() instanceof ServiceProbe probe) {
+                        finishServiceProbe(probe);
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.warn("Presence probe selector failed: {}", e.getMessage());
+            closed = true;
+        }
+
+        ServiceProbe probe;
+        while ((probe = newServiceProbes.poll()) != null) {
+            probe.complete(false);
+        }
+        while ((probe = serviceProbeDeadlines.poll()) != null) {
+            probe.complete(false);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.trace("Failed to close the presence probe selector", e);
+        }
+    }
+
+    private void registerServiceProbes() {
+        ServiceProbe probe;
+        while ((probe = newServiceProbes.poll()) != null) {
+            SocketChannel channel = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                probe.channel = channel;
+                if (channel.connect(probe.address)) {
+                    probe.complete(true);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                    serviceProbeDeadlines.add(probe);
+                }
+            } catch (IOException e) {
+                logger.trace("Could not connect to {} {}", probe.address, e.getMessage());
+                probe.complete(false);
+            }
+        }
+    }
+
+    /**
+     * Aborts all connection attempts that have timed out.
+     *
+     * @return the milliseconds until the next connection attempt times out, 0 if there is none
+     */
+    private long expireServiceProbes() {
+        long now = System.nanoTime();
+        ServiceProbe probe;
+        while ((probe = serviceProbeDeadlines.peek()) != null) {
+            if (probe.future.isDone()) {
+                serviceProbeDeadlines.poll();
+            } else if (probe.deadline - now <= 0) {
+                serviceProbeDeadlines.poll();
+                logger.trace("Could not connect to {} within the timeout", probe.address);
+                probe.complete(false);
+            } else {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(probe.deadline - now));
+            }
+        }
+        return 0;
+    }
+
+    private void finishServiceProbe(ServiceProbe probe) {
+        SocketChannel channel = probe.channel;
+        try {
+            probe.complete(channel != null && channel.finishConnect());
+        } catch (IOException e) {
+            logger.trace("Could not connect to {} {}", probe.address, e.getMessage());
+            probe.complete(false);
+        }
+    }
+
+    private void flushIcmpProbes(Duration timeout) {
+        List<IcmpProbe> batch;
+        synchronized (pendingIcmpProbes) {
+            batch = pendingIcmpProbes.remove(timeout);
+        }
+        if (batch != null && !batch.isEmpty()) {
+            startFping(batch, timeout);
+        }
+    }
+
+    private void startFping(List<IcmpProbe> batch, Duration timeout) {
+        String fpingToolPath = this.fpingToolPath;
+        if (fpingToolPath == null || closed) {
+            batch.forEach(probe -> probe.complete(false, null));
+            return;
+        }
+        List<String> command = new ArrayList<>(
+                List.of(fpingToolPath, "-e", "-r", "0", "-t", String.valueOf(Math.max(1, timeout.toMillis()))));
+        Map<String, IcmpProbe> probesByHost = new HashMap<>();
+        for (IcmpProbe probe : batch) {
+            IcmpProbe existing = probesByHost.putIfAbsent(probe.host, probe);
+            if (existing == null) {
+                command.add(probe.host);
+            } else {
+                // the same host was requested twice within the batch window
+                existing.future.thenAccept(probe.future::complete);
+            }
+        }
+
+        Process process;
+        try {
+            process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            batch.forEach(probe -> probe.future.completeExceptionally(e));
+            return;
+        }
+        runningProcesses.add(process);
+        long start = System.nanoTime();
+        logger.trace("Started fping for {} hosts", probesByHost.size());
+        scheduler.schedule(process::destroy, timeout.plus(FPING_GRACE_TIME).toMillis(), TimeUnit.MILLISECONDS);
+
+        Thread reader = new Thread(() -> {
+            try (BufferedReader br = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    logger.trace("Network [fping output]: '{}'", line);
+                    Matcher m = FPING_ALIVE_PATTERN.matcher(line);
+                    if (m.matches()) {
+                        IcmpProbe probe = probesByHost.get(m.group("host"));
+                        if (probe != null) {
+                            // fping sends the pings one after another, prefer the reported round trip time
+                            Duration responseTime = parseLatency(m.group("latency"));
+                            probe.complete(true, responseTime != null ? responseTime
+                                    : Duration.ofNanos(System.nanoTime() - start), responseTime);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                logger.trace("Failed to read the fping output", e);
+            } finally {
+                runningProcesses.remove(process);
+                Duration executionTime = Duration.ofNanos(System.nanoTime() - start);
+                probesByHost.values().forEach(probe -> probe.complete(false, executionTime, null));
+            }
+        }, "OH-binding-network-fping-" + process.pid());
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private static @Nullable Duration parseLatency(@Nullable String latency) {
+        if (latency == null) {
+            return null;
+        }
+        try {
+            return NetworkUtils.millisToDuration(Double.parseDouble(latency));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class ServiceProbe {
+        final InetSocketAddress address;
+        final long start = System.nanoTime();
+        final long deadline;
+        final CompletableFuture<PingResult> future = new CompletableFuture<>();
+        @Nullable
+        SocketChannel channel;
+
+        ServiceProbe(InetSocketAddress address, Duration timeout) {
+            this.address = address;
+            this.deadline = start + timeout.toNanos();
+        }
+
+        void complete(boolean success) {
+            SocketChannel channel = this.channel;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // nothing to do
+                }
+            }
+            future.complete(new PingResult(success, Duration.ofNanos(System.nanoTime() - start)));
+        }
+    }
+
+    private static class IcmpProbe {
+        final String host;
+        final long start = System.nanoTime();
+        final CompletableFuture<PingResult> future = new CompletableFuture<>();
+
+        IcmpProbe(String host) {
+            this.host = host;
+        }
+
+        void complete(boolean success, @Nullable Duration responseTime) {
+            complete(success, Duration.ofNanos(System.nanoTime() - start), responseTime);
+        }
+
+        void complete(boolean success, Duration executionTime, @Nullable Duration responseTime) {
+            PingResult pingResult = new PingResult(success, executionTime);
+            pingResult.setResponseTime(responseTime);
+            future.complete(pingResult);
+        }
+    }
+}
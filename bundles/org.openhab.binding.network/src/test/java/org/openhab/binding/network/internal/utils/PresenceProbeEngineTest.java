@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link PresenceProbeEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProbeEngineTest {
+
+    @Test
+    public void servicePingSucceedsForOpenPort() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+                PresenceProbeEngine engine = new PresenceProbeEngine(null)) {
+            PingResult result = engine
+                    .servicePing(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort(), Duration.ofSeconds(2))
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void servicePingFailsForClosedPort() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        try (PresenceProbeEngine engine = new PresenceProbeEngine(null)) {
+            PingResult result = engine.servicePing(InetAddress.getLoopbackAddress(), port, Duration.ofSeconds(2))
+                    .get(5, TimeUnit.SECONDS);
+            assertFalse(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void manyServicePingsAreMultiplexed() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 200, InetAddress.getLoopbackAddress());
+                PresenceProbeEngine engine = new PresenceProbeEngine(null)) {
+            List<CompletableFuture<PingResult>> futures = IntStream.range(0, 100)
+                    .mapToObj(i -> engine.servicePing(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort(),
+                            Duration.ofSeconds(2)))
+                    .toList();
+            for (CompletableFuture<PingResult> future : futures) {
+                assertTrue(future.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+        }
+    }
+
+    @Test
+    public void icmpPingWithoutFpingFails() throws Exception {
+        try (PresenceProbeEngine engine = new PresenceProbeEngine(null)) {
+            assertFalse(engine.isIcmpBatchingAvailable());
+            CompletableFuture<PingResult> future = engine.icmpPing(InetAddress.getLoopbackAddress(),
+                    Duration.ofSeconds(1));
+            assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void closedEngineCompletesServicePings() throws Exception {
+        PresenceProbeEngine engine = new PresenceProbeEngine(null);
+        engine.close();
+        PingResult result = engine.servicePing(InetAddress.getLoopbackAddress(), 1, Duration.ofSeconds(1)).get(1,
+                TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void parseFpingOutput() {
+        Matcher m = PresenceProbeEngine.FPING_ALIVE_PATTERN.matcher("192.168.1.1 is alive (0.52 ms)");
+        assertTrue(m.matches());
+        assertEquals("192.168.1.1", m.group("host"));
+        assertEquals("0.52", m.group("latency"));
+
+        m = PresenceProbeEngine.FPING_ALIVE_PATTERN.matcher("fe80::1 is alive");
+        assertTrue(m.matches());
+        assertEquals("fe80::1", m.group("host"));
+        assertNull(m.group("latency"));
+
+        assertFalse(PresenceProbeEngine.FPING_ALIVE_PATTERN.matcher("192.168.1.2 is unreachable").matches());
+        assertFalse(PresenceProbeEngine.FPING_ALIVE_PATTERN
+                .matcher("ICMP Host Unreachable from 192.168.1.10 for ICMP Echo sent to 192.168.1.2").matches());
+    }
+}
@@ -32,11 +32,20 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Characteristic changes are passed to a {@link HomekitCharacteristicNotifier}, which notifies the HomeKit clients on
+ * its own thread and coalesces changes arriving faster than its minimum interval. Updates of stateless characteristics
+ * like programmable switch events are delivered immediately, as each of them matters.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final HomekitCharacteristicNotifier notifier;
+
+    HomekitAccessoryUpdater(HomekitCharacteristicNotifier notifier) {
+        this.notifier = notifier;
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -58,7 +67,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = new CharacteristicSubscription(notifier.createNotification(callback));
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -97,6 +106,9 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            if (v instanceof CharacteristicSubscription subscription) {
+                subscription.notification().cancel();
+            }
             return null;
         });
     }
@@ -114,6 +126,16 @@ public class HomekitAccessoryUpdater {
         }
     }
 
+    @NonNullByDefault
+    private record CharacteristicSubscription(HomekitCharacteristicNotifier.Notification notification)
+            implements Subscription {
+
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            notification.changed();
+        }
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface UpdateSubscription extends StateChangeListener {
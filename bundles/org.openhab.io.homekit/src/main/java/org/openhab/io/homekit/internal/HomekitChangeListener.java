@@ -48,6 +48,7 @@ import org.slf4j.LoggerFactory;
 
 import io.github.hapjava.accessories.HomekitAccessory;
 import io.github.hapjava.server.impl.HomekitRoot;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Listens for changes to the item and metadata registry. When changes are detected, check
@@ -66,7 +67,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private final MetadataRegistry metadataRegistry;
     private final Storage<Object> storage;
     private final RegistryChangeListener<Metadata> metadataChangeListener;
-    private HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
+    private final HomekitCharacteristicNotifier notifier;
+    private HomekitAccessoryUpdater updater;
     private HomekitSettings settings;
     private int lastAccessoryCount;
     private Map<String, String> knownAccessories = new HashMap<>();
@@ -95,6 +97,9 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
+        this.notifier = new HomekitCharacteristicNotifier("homekit-notifier-" + instance,
+                Duration.ofMillis(settings.minNotifyInterval));
+        this.updater = new HomekitAccessoryUpdater(notifier);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
         metadataChangeListener = new RegistryChangeListener<>() {
@@ -344,6 +349,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        notifier.setMinInterval(Duration.ofMillis(settings.minNotifyInterval));
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -355,6 +361,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
         accessoryRegistry.unsetBridge();
+        notifier.stop();
+        notifier.setMeterRegistry(null, instance);
+    }
+
+    /**
+     * Sets the registry to report the characteristic notifications of this instance to.
+     *
+     * @param meterRegistry the registry or <code>null</code> to stop reporting metrics
+     */
+    public void setMeterRegistry(@Nullable MeterRegistry meterRegistry) {
+        notifier.setMeterRegistry(meterRegistry, instance);
     }
 
     public Map<String, HomekitAccessory> getAccessories() {
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Notifies HomeKit clients about changed characteristics on a dedicated thread instead of the item event thread.
+ *
+ * Each characteristic is notified at most once per minimum interval. Changes while a notification is pending are
+ * merged into it, which is enough because HomeKit reads the current value of the characteristic when it is notified.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class HomekitCharacteristicNotifier {
+    private static final String METRIC_NOTIFICATIONS = "openhab.homekit.notifications";
+
+    private final Logger logger = LoggerFactory.getLogger(HomekitCharacteristicNotifier.class);
+
+    private final String name;
+    private final DelayQueue<Notification> queue = new DelayQueue<>();
+    private volatile long minIntervalNanos;
+    private volatile @Nullable NotifierMeters meters;
+
+    // guarded by this
+    private @Nullable ExecutorService executor;
+    private boolean stopped = false;
+
+    /**
+     * @param name the name of the notifier thread
+     * @param minInterval the minimum time between two notifications of the same characteristic
+     */
+    HomekitCharacteristicNotifier(String name, Duration minInterval) {
+        this.name = name;
+        setMinInterval(minInterval);
+    }
+
+    void setMinInterval(Duration minInterval) {
+        minIntervalNanos = Math.max(0, minInterval.toNanos());
+    }
+
+    /**
+     * Creates the notification of a characteristic, which is sent by calling {@link Notification#changed()}.
+     */
+    Notification createNotification(HomekitCharacteristicChangeCallback callback) {
+        return new Notification(callback);
+    }
+
+    /**
+     * Sets the registry to report the number of sent and suppressed notifications to.
+     *
+     * @param meterRegistry the registry or <code>null</code> to stop reporting metrics
+     * @param instance the HomeKit bridge instance, used as metrics tag
+     */
+    void setMeterRegistry(@Nullable MeterRegistry meterRegistry, int instance) {
+        NotifierMeters oldMeters = meters;
+        meters = meterRegistry != null ? new NotifierMeters(meterRegistry, instance) : null;
+        if (oldMeters != null) {
+            oldMeters.remove();
+        }
+    }
+
+    /**
+     * Discards pending notifications and stops the notifier thread.
+     */
+    synchronized void stop() {
+        stopped = true;
+        queue.clear();
+        ExecutorService localExecutor = executor;
+        if (localExecutor != null) {
+            localExecutor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private synchronized boolean start() {
+        if (stopped) {
+            return false;
+        }
+        if (executor == null) {
+            ExecutorService localExecutor = Executors.newSingleThreadExecutor(new NamedThreadFactory(name, true));
+            localExecutor.execute(this::run);
+            executor = localExecutor;
+        }
+        return true;
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                queue.take().send();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The notification of a single characteristic
+     */
+    class Notification implements Delayed {
+        private final HomekitCharacteristicChangeCallback callback;
+
+        // all fields below are guarded by this
+        private boolean pending = false;
+        private boolean cancelled = false;
+        private long dueNanos;
+        private long lastSentNanos;
+        private boolean sent = false;
+
+        private Notification(HomekitCharacteristicChangeCallback callback) {
+            this.callback = callback;
+        }
+
+        /**
+         * Queues the notification, unless it is already pending.
+         */
+        void changed() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (pending) {
+                    NotifierMeters localMeters = meters;
+                    if (localMeters != null) {
+                        localMeters.suppressed.increment();
+                    }
+                    return;
+                }
+                long now = System.nanoTime();
+                dueNanos = sent ? Math.max(now, lastSentNanos + minIntervalNanos) : now;
+                pending = true;
+            }
+            if (start()) {
+                queue.add(this);
+            }
+        }
+
+        /**
+         * Prevents a pending notification from being sent, e.g. because the characteristic has been unsubscribed.
+         */
+        synchronized void cancel() {
+            cancelled = true;
+        }
+
+        private void send() {
+            synchronized (this) {
+                pending = false;
+                if (cancelled) {
+                    return;
+                }
+                lastSentNanos = System.nanoTime();
+                sent = true;
+            }
+            try {
+                callback.changed();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to notify HomeKit clients about a changed characteristic: {}", e.getMessage());
+            }
+            NotifierMeters localMeters = meters;
+            if (localMeters != null) {
+                localMeters.sent.increment();
+            }
+        }
+
+        @Override
+        public long getDelay(@Nullable TimeUnit unit) {
+            long delay;
+            synchronized (this) {
+                delay = dueNanos - System.nanoTime();
+            }
+            return unit == null ? delay : unit.convert(delay, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nullable Delayed other) {
+            if (other == null) {
+                return -1;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * The meters of the notifier in a registry
+     */
+    private static class NotifierMeters {
+        private final MeterRegistry registry;
+        private final Counter sent;
+        private final Counter suppressed;
+
+        NotifierMeters(MeterRegistry registry, int instance) {
+            this.registry = registry;
+            sent = counter(instance, "sent");
+            suppressed = counter(instance, "suppressed");
+        }
+
+        private Counter counter(int instance, String result) {
+            return Counter.builder(METRIC_NOTIFICATIONS)
+                    .description("Characteristic change notifications to HomeKit clients")
+                    .tag("instance", String.valueOf(instance)).tag("result", result).register(registry);
+        }
+
+        void remove() {
+            registry.remove(sent);
+            registry.remove(suppressed);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.transport.mdns.MDNSClient;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.MetadataRegistry;
@@ -53,6 +54,8 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +64,7 @@ import io.github.hapjava.server.HomekitAccessoryCategories;
 import io.github.hapjava.server.impl.HomekitRoot;
 import io.github.hapjava.server.impl.HomekitServer;
 import io.github.hapjava.server.impl.crypto.HAPSetupCodeUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Provides access to openHAB items via the HomeKit API
@@ -90,6 +94,7 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
     private boolean started = false;
 
     private final List<HomekitChangeListener> changeListeners = new ArrayList<>();
+    private @Nullable MeterRegistry meterRegistry;
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -198,6 +203,22 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected synchronized void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry registry = meterRegistryProvider.getOHMeterRegistry();
+        meterRegistry = registry;
+        for (HomekitChangeListener changeListener : changeListeners) {
+            changeListener.setMeterRegistry(registry);
+        }
+    }
+
+    protected synchronized void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meterRegistry = null;
+        for (HomekitChangeListener changeListener : changeListeners) {
+            changeListener.setMeterRegistry(null);
+        }
+    }
+
     @Override
     public synchronized void onReadyMarkerAdded(ReadyMarker readyMarker) {
         try {
@@ -264,6 +285,7 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         homekitServers.add(homekitServer);
         HomekitChangeListener changeListener = new HomekitChangeListener(itemRegistry, settings, metadataRegistry,
                 storage, instance + 1);
+        changeListener.setMeterRegistry(meterRegistry);
         changeListeners.add(changeListener);
         startBridge(homekitServer, authInfo, changeListener, instance + 1);
         authInfos.add(authInfo);
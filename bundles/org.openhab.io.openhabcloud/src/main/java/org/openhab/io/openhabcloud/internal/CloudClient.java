@@ -18,13 +18,14 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -38,7 +39,7 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -58,6 +59,8 @@ import io.socket.engineio.client.Transport;
 import io.socket.engineio.client.transports.WebSocket;
 import io.socket.parser.Packet;
 import io.socket.parser.Parser;
+import io.socket.thread.EventThread;
+import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -83,6 +86,8 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    private static final long DRAIN_CHECK_INTERVAL = 20;
+
     /*
      * Logger for this class
      */
@@ -118,6 +123,31 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This queue holds the callbacks of responses which are paused until the web socket has written the queued content
+     */
+    private final Queue<Callback> drainCallbacks = new ConcurrentLinkedQueue<>();
+
+    /*
+     * This variable holds the web socket of the current Socket.IO transport, used to track the bytes not yet written
+     */
+    private volatile okhttp3.@Nullable WebSocket webSocket;
+
+    /*
+     * This variable holds the job checking whether paused responses can be resumed, only accessed on the event thread
+     */
+    private @Nullable ScheduledFuture<?> drainCheckJob;
+
+    /*
+     * This variable holds the size of the frames response content is coalesced to, 0 if streaming mode is disabled
+     */
+    private final int streamingFrameSize;
+
+    /*
+     * This variable holds the meters to record proxied requests in
+     */
+    private volatile @Nullable ProxyMetrics proxyMetrics;
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -165,9 +195,10 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param streamingFrameSize Size of the frames response content is coalesced to, 0 to disable streaming mode
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, int streamingFrameSize) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
@@ -175,6 +206,7 @@ public class CloudClient {
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
         this.jettyClient = httpClient;
+        this.streamingFrameSize = streamingFrameSize;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
         reconnectBackoff.setJitter(RECONNECT_JITTER);
@@ -204,8 +236,14 @@ public class CloudClient {
                 okHttpBuilder.addInterceptor(loggingInterceptor);
                 okHttpBuilder.addNetworkInterceptor(loggingInterceptor);
             }
-            options.callFactory = okHttpBuilder.build();
-            options.webSocketFactory = okHttpBuilder.build();
+            OkHttpClient okHttpClient = okHttpBuilder.build();
+            options.callFactory = okHttpClient;
+            options.webSocketFactory = (request, webSocketListener) -> {
+                // keep the web socket to check how many bytes it has not written yet
+                okhttp3.WebSocket localWebSocket = okHttpClient.newWebSocket(request, webSocketListener);
+                webSocket = localWebSocket;
+                return localWebSocket;
+            };
             socket = IO.socket(baseURL, options);
             URL parsed = new URL(baseURL);
             protocol = parsed.getProtocol();
@@ -381,6 +419,70 @@ public class CloudClient {
         isConnected = false;
         // And clean up the list of running requests
         runningRequests.clear();
+        // Paused responses will not be written anymore, so abort them
+        EventThread.exec(() -> {
+            ScheduledFuture<?> localDrainCheckJob = drainCheckJob;
+            if (localDrainCheckJob != null) {
+                localDrainCheckJob.cancel(false);
+                drainCheckJob = null;
+            }
+            Callback callback;
+            while ((callback = drainCallbacks.poll()) != null) {
+                callback.failed(new IOException("Disconnected from the openHAB Cloud service"));
+            }
+        });
+    }
+
+    /**
+     * Completes the callback once the web socket has written the content sent so far, except for at most one frame.
+     */
+    private void resumeAfterDrain(Callback callback) {
+        // Socket.IO hands packets to the transport on its event thread, so this runs after the last content
+        // has been queued for writing
+        EventThread.exec(() -> {
+            if (isConnected) {
+                drainCallbacks.add(callback);
+                if (drainCheckJob == null) {
+                    checkDrained();
+                }
+            } else {
+                callback.failed(new IOException("Disconnected from the openHAB Cloud service"));
+            }
+        });
+    }
+
+    /**
+     * Resumes the paused responses if the web socket has written enough of its queue, otherwise checks again later.
+     * The drain event of the transport cannot be used, as the web socket transport emits it as soon as the packets
+     * have been queued by OkHttp. Must be called on the event thread.
+     */
+    private void checkDrained() {
+        if (drainCallbacks.isEmpty()) {
+            return;
+        }
+        okhttp3.WebSocket localWebSocket = webSocket;
+        long queuedBytes = localWebSocket != null ? localWebSocket.queueSize() : 0;
+        if (queuedBytes <= streamingFrameSize) {
+            Callback callback;
+            while ((callback = drainCallbacks.poll()) != null) {
+                // resume the response on another thread, as Jetty delivers the next content in the calling thread
+                scheduler.execute(callback::succeeded);
+            }
+        } else {
+            drainCheckJob = scheduler.schedule(() -> EventThread.exec(() -> {
+                drainCheckJob = null;
+                checkDrained();
+            }), DRAIN_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sets the meters to record proxied requests in
+     *
+     * @param proxyMetrics the meters or <code>null</code> to stop recording
+     */
+    void setProxyMetrics(@Nullable ProxyMetrics proxyMetrics) {
+        this.proxyMetrics = proxyMetrics;
     }
 
     /**
@@ -461,6 +563,8 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            ProxyResponseStream responseStream = new ProxyResponseStream(requestId, streamingFrameSize, socket,
+                    this::resumeAfterDrain, proxyMetrics);
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
                 JSONObject responseJson = new JSONObject();
@@ -475,21 +579,7 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
-                logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
-            }).onRequestFailure((origRequest, failure) -> {
+            }).onResponseContentAsync(responseStream).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
                 try {
@@ -515,6 +605,7 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                responseStream.finish();
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -762,9 +853,9 @@ public class CloudClient {
      *
      * @param itemName the name of the item
      * @param itemState updated item state
-     *
+     * @return <code>true</code> if the update has been sent, <code>false</code> if there is no connection
      */
-    public void sendItemUpdate(String itemName, String itemState) {
+    public boolean sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
@@ -772,12 +863,14 @@ public class CloudClient {
                 itemUpdateMessage.put("itemName", itemName);
                 itemUpdateMessage.put("itemStatus", itemState);
                 socket.emit("itemupdate", itemUpdateMessage);
+                return true;
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
         } else {
             logger.debug("No connection, Item update is not sent");
         }
+        return false;
     }
 
     /**
@@ -15,8 +15,10 @@ package org.openhab.io.openhabcloud.internal;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -26,12 +28,14 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.id.InstanceUUID;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -55,9 +59,13 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * This class starts the cloud connection service and implements interface to communicate with the cloud.
  *
@@ -76,11 +84,17 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_STREAMING_FRAME_SIZE = "streamingFrameSize";
+    private static final String CFG_ITEM_UPDATE_WINDOW = "itemUpdateWindow";
+    private static final String CFG_ITEM_UPDATE_RATE = "itemUpdateRate";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
     private static final int DEFAULT_LOCAL_OPENHAB_REQUEST_TIMEOUT = 30000;
     private static final String HTTPCLIENT_NAME = "openhabcloud";
+    private static final int DEFAULT_STREAMING_FRAME_SIZE_KIB = 64;
+    private static final int DEFAULT_ITEM_UPDATE_WINDOW = 0;
+    private static final int DEFAULT_ITEM_UPDATE_RATE = 0;
 
     private final Logger logger = LoggerFactory.getLogger(CloudService.class);
 
@@ -94,6 +108,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
     private int localPort;
+    private int streamingFrameSize = DEFAULT_STREAMING_FRAME_SIZE_KIB * 1024;
+    private volatile @Nullable ProxyMetrics proxyMetrics;
+    private volatile @Nullable MeterRegistry meterRegistry;
+    private volatile @Nullable ItemUpdatePublisher itemUpdatePublisher;
 
     @Activate
     public CloudService(final @Reference HttpClientFactory httpClientFactory,
@@ -257,6 +275,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     protected void deactivate() {
         logger.debug("openHAB Cloud connector deactivated");
         cloudClient.shutdown();
+        ItemUpdatePublisher publisher = itemUpdatePublisher;
+        if (publisher != null) {
+            publisher.close();
+        }
         try {
             httpClient.stop();
         } catch (Exception e) {
@@ -278,6 +300,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             cloudBaseUrl = DEFAULT_URL;
         }
 
+        streamingFrameSize = getIntConfig(config, CFG_STREAMING_FRAME_SIZE, DEFAULT_STREAMING_FRAME_SIZE_KIB) * 1024;
+        int itemUpdateWindow = getIntConfig(config, CFG_ITEM_UPDATE_WINDOW, DEFAULT_ITEM_UPDATE_WINDOW);
+        int itemUpdateRate = getIntConfig(config, CFG_ITEM_UPDATE_RATE, DEFAULT_ITEM_UPDATE_RATE);
+
         exposedItems = new HashSet<>();
         Object expCfg = config.get(CFG_EXPOSE);
         if (expCfg instanceof String value) {
@@ -301,6 +327,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         if (cloudClient != null) {
             cloudClient.shutdown();
         }
+        ItemUpdatePublisher oldPublisher = itemUpdatePublisher;
+        if (oldPublisher != null) {
+            oldPublisher.close();
+        }
 
         if (!httpClient.isRunning()) {
             try {
@@ -314,12 +344,64 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, streamingFrameSize);
+        cloudClient.setProxyMetrics(proxyMetrics);
+        ItemUpdatePublisher publisher = new ItemUpdatePublisher(cloudClient::sendItemUpdate,
+                ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON),
+                Duration.ofMillis(itemUpdateWindow), itemUpdateRate);
+        publisher.setMeterRegistry(meterRegistry);
+        itemUpdatePublisher = publisher;
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry registry = meterRegistryProvider.getOHMeterRegistry();
+        meterRegistry = registry;
+        ProxyMetrics metrics = new ProxyMetrics(registry);
+        proxyMetrics = metrics;
+        CloudClient client = cloudClient;
+        if (client != null) {
+            client.setProxyMetrics(metrics);
+        }
+        ItemUpdatePublisher publisher = itemUpdatePublisher;
+        if (publisher != null) {
+            publisher.setMeterRegistry(registry);
+        }
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        ProxyMetrics metrics = proxyMetrics;
+        proxyMetrics = null;
+        meterRegistry = null;
+        CloudClient client = cloudClient;
+        if (client != null) {
+            client.setProxyMetrics(null);
+        }
+        ItemUpdatePublisher publisher = itemUpdatePublisher;
+        if (publisher != null) {
+            publisher.setMeterRegistry(null);
+        }
+        if (metrics != null) {
+            metrics.remove();
+        }
+    }
+
+    private int getIntConfig(Map<String, ?> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, new BigDecimal(value.toString().trim()).intValue());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for '{}', using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Override
     public String getActionClassName() {
         return NotificationAction.class.getCanonicalName();
@@ -435,8 +517,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     @Override
     public void receive(Event event) {
         ItemStateEvent ise = (ItemStateEvent) event;
-        if (supportsUpdates() && exposedItems != null && exposedItems.contains(ise.getItemName())) {
-            cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+        ItemUpdatePublisher publisher = itemUpdatePublisher;
+        if (supportsUpdates() && publisher != null && exposedItems != null
+                && exposedItems.contains(ise.getItemName())) {
+            publisher.publish(ise.getItemName(), ise.getItemState().toString());
         }
     }
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces the state updates of exposed items before they are sent to the openHAB Cloud.
+ *
+ * Updates are collected for the configured window, and only the latest state of each item is sent when the window
+ * ends. The updates sent are additionally limited by a token bucket which allows the configured number of updates per
+ * second. Updates exceeding the limit stay pending for the next window, where they may be replaced by a newer state.
+ * Without window and limit, every update is sent right away.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ItemUpdatePublisher {
+    private static final String METRIC_UPDATES = "openhab.cloud.itemupdates";
+
+    /**
+     * Sends an item update to the openHAB Cloud
+     */
+    @FunctionalInterface
+    interface Sender {
+        /**
+         * @return <code>true</code> if the update has been sent, <code>false</code> if there is no connection
+         */
+        boolean send(String itemName, String itemState);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdatePublisher.class);
+
+    private final Sender sender;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final double rate;
+    private volatile boolean closed = false;
+
+    // all fields below are guarded by this
+    private final Map<String, String> pendingUpdates = new LinkedHashMap<>();
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private @Nullable UpdateMeters meters;
+
+    /**
+     * @param sender sends a single update to the openHAB Cloud
+     * @param scheduler the scheduler the updates are sent on
+     * @param window the time updates are collected before they are sent
+     * @param rate the maximum number of updates sent per second, 0 for no limit
+     */
+    ItemUpdatePublisher(Sender sender, ScheduledExecutorService scheduler, Duration window, int rate) {
+        this.sender = sender;
+        this.scheduler = scheduler;
+        this.windowMillis = Math.max(0, window.toMillis());
+        this.rate = Math.max(0, rate);
+        this.tokens = this.rate;
+    }
+
+    /**
+     * Queues a state update of an item, replacing a pending update of the same item. Without window and limit, the
+     * update is sent right away.
+     */
+    void publish(String itemName, String itemState) {
+        if (windowMillis == 0 && rate == 0) {
+            if (!closed) {
+                send(Map.of(itemName, itemState), 0);
+            }
+            return;
+        }
+        boolean coalesced;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            coalesced = pendingUpdates.put(itemName, itemState) != null;
+            scheduleFlush(windowMillis);
+        }
+        UpdateMeters localMeters = meters;
+        if (coalesced && localMeters != null) {
+            localMeters.coalesced.increment();
+        }
+    }
+
+    /**
+     * Discards the pending updates and stops sending updates.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+            pendingUpdates.clear();
+            ScheduledFuture<?> job = flushJob;
+            if (job != null) {
+                job.cancel(false);
+                flushJob = null;
+            }
+        }
+        setMeterRegistry(null);
+    }
+
+    /**
+     * Sets the registry to report the number of sent, coalesced, deferred and dropped updates to.
+     *
+     * @param meterRegistry the registry or <code>null</code> to stop reporting metrics
+     */
+    void setMeterRegistry(@Nullable MeterRegistry meterRegistry) {
+        UpdateMeters oldMeters;
+        synchronized (this) {
+            oldMeters = meters;
+            meters = meterRegistry != null && !closed ? new UpdateMeters(meterRegistry) : null;
+        }
+        if (oldMeters != null) {
+            oldMeters.remove();
+        }
+    }
+
+    private void scheduleFlush(long delayMillis) {
+        if (flushJob == null && !pendingUpdates.isEmpty()) {
+            flushJob = scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        Map<String, String> updates = new LinkedHashMap<>();
+        int deferred;
+        synchronized (this) {
+            flushJob = null;
+            if (closed) {
+                return;
+            }
+            refillTokens();
+            Iterator<Map.Entry<String, String>> iterator = pendingUpdates.entrySet().iterator();
+            while (iterator.hasNext() && (rate == 0 || tokens >= 1)) {
+                Map.Entry<String, String> update = iterator.next();
+                updates.put(update.getKey(), update.getValue());
+                iterator.remove();
+                tokens--;
+            }
+            deferred = pendingUpdates.size();
+            // deferred updates are sent when the window has ended and the bucket holds a token again
+            long refillMillis = rate == 0 ? 0 : (long) Math.ceil((1 - tokens) * 1000 / rate);
+            scheduleFlush(Math.max(windowMillis, refillMillis));
+        }
+        send(updates, deferred);
+    }
+
+    private void send(Map<String, String> updates, int deferred) {
+        int sent = 0;
+        int dropped = 0;
+        for (Map.Entry<String, String> update : updates.entrySet()) {
+            if (sender.send(update.getKey(), update.getValue())) {
+                sent++;
+            } else {
+                dropped++;
+            }
+        }
+        if (deferred > 0 || dropped > 0) {
+            logger.debug("Sent {} item updates, {} deferred by the rate limit, {} dropped without connection", sent,
+                    deferred, dropped);
+        }
+
+        UpdateMeters localMeters = meters;
+        if (localMeters != null) {
+            localMeters.sent.increment(sent);
+            localMeters.deferred.increment(deferred);
+            localMeters.dropped.increment(dropped);
+        }
+    }
+
+    private void refillTokens() {
+        long now = System.nanoTime();
+        tokens = Math.min(rate, tokens + (now - lastRefillNanos) * rate / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+    }
+
+    /**
+     * The meters of the item updates in a registry
+     */
+    private static class UpdateMeters {
+        private final MeterRegistry registry;
+        private final Counter sent;
+        private final Counter coalesced;
+        private final Counter deferred;
+        private final Counter dropped;
+
+        UpdateMeters(MeterRegistry registry) {
+            this.registry = registry;
+            sent = counter("sent");
+            coalesced = counter("coalesced");
+            deferred = counter("deferred");
+            dropped = counter("dropped");
+        }
+
+        private Counter counter(String result) {
+            return Counter.builder(METRIC_UPDATES).description("Item updates published to the openHAB Cloud")
+                    .tag("result", result).register(registry);
+        }
+
+        void remove() {
+            registry.remove(sent);
+            registry.remove(coalesced);
+            registry.remove(deferred);
+            registry.remove(dropped);
+        }
+    }
+}
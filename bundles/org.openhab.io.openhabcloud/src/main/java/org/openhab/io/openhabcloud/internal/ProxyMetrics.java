@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The meters of the requests proxied from the openHAB Cloud to the local openHAB instance.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ProxyMetrics {
+    private static final String METRIC_DURATION = "openhab.cloud.proxy.request.duration";
+    private static final String METRIC_FIRST_BYTE = "openhab.cloud.proxy.request.first.byte";
+    private static final String METRIC_PAUSED = "openhab.cloud.proxy.request.paused";
+    private static final String METRIC_SIZE = "openhab.cloud.proxy.response.size";
+
+    private final MeterRegistry registry;
+    private final Timer duration;
+    private final Timer firstByte;
+    private final Timer paused;
+    private final DistributionSummary size;
+
+    ProxyMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        duration = Timer.builder(METRIC_DURATION)
+                .description("Time from receiving a request until its response has been sent to the openHAB Cloud")
+                .register(registry);
+        firstByte = Timer.builder(METRIC_FIRST_BYTE)
+                .description("Time from receiving a request until the first byte of its response body is available")
+                .register(registry);
+        paused = Timer.builder(METRIC_PAUSED)
+                .description("Time a response was paused until the connection to the openHAB Cloud has written its content")
+                .register(registry);
+        size = DistributionSummary.builder(METRIC_SIZE).description("Size of the response bodies").baseUnit("bytes")
+                .register(registry);
+    }
+
+    void record(long durationNanos, long firstByteNanos, long pausedNanos, long bytes) {
+        duration.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (firstByteNanos >= 0) {
+            firstByte.record(firstByteNanos, TimeUnit.NANOSECONDS);
+        }
+        paused.record(pausedNanos, TimeUnit.NANOSECONDS);
+        size.record(bytes);
+    }
+
+    void remove() {
+        registry.remove(duration);
+        registry.remove(firstByte);
+        registry.remove(paused);
+        registry.remove(size);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.socket.client.Socket;
+
+/**
+ * Streams the body of a response from the local openHAB instance to the openHAB Cloud.
+ *
+ * The content is sent as binary attachments of <code>responseContentBinary</code> messages. In streaming mode, small
+ * content chunks are coalesced into frames of up to the configured frame size, and after a full frame has been sent,
+ * the response is paused until the connection to the openHAB Cloud has written all but at most one frame. Without
+ * streaming mode every chunk is sent as it arrives.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ProxyResponseStream implements Response.AsyncContentListener {
+    private static final int INITIAL_FRAME_CAPACITY = 8 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(ProxyResponseStream.class);
+
+    private final int requestId;
+    private final int frameSize;
+    private final Socket socket;
+    private final Consumer<Callback> drainWaiter;
+    private final @Nullable ProxyMetrics metrics;
+
+    private final long startNanos = System.nanoTime();
+    private long firstByteNanos = -1;
+    private long pausedNanos;
+    private long bytes;
+    private int frames;
+    private byte @Nullable [] frame;
+    private int frameLength;
+
+    /**
+     * @param requestId the id of the request in the openHAB Cloud
+     * @param frameSize the size of the frames to coalesce content to, 0 to disable streaming mode
+     * @param socket the socket to the openHAB Cloud
+     * @param drainWaiter completes a callback once the socket has written the content sent so far, except for at
+     *            most one frame, or fails it if the socket disconnects
+     * @param metrics the meters to record the request in or <code>null</code>
+     */
+    ProxyResponseStream(int requestId, int frameSize, Socket socket, Consumer<Callback> drainWaiter,
+            @Nullable ProxyMetrics metrics) {
+        this.requestId = requestId;
+        this.frameSize = frameSize;
+        this.socket = socket;
+        this.drainWaiter = drainWaiter;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onContent(@Nullable Response response, @Nullable ByteBuffer content, @Nullable Callback callback) {
+        if (content == null || callback == null) {
+            return;
+        }
+        logger.debug("onResponseContent: {}, content size {}", requestId, content.remaining());
+        if (firstByteNanos < 0) {
+            firstByteNanos = System.nanoTime() - startNanos;
+        }
+        bytes += content.remaining();
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}", StandardCharsets.UTF_8.decode(content.slice()).toString());
+        }
+
+        if (frameSize <= 0) {
+            sendFrame(BufferUtil.toArray(content));
+            callback.succeeded();
+            return;
+        }
+
+        boolean sent = false;
+        while (content.hasRemaining()) {
+            byte[] localFrame = frame;
+            if (localFrame == null || frameLength == localFrame.length) {
+                int capacity = Math.min(frameSize, Math.max(INITIAL_FRAME_CAPACITY, frameLength + content.remaining()));
+                localFrame = localFrame == null ? new byte[capacity] : Arrays.copyOf(localFrame, capacity);
+                frame = localFrame;
+            }
+            int length = Math.min(content.remaining(), localFrame.length - frameLength);
+            content.get(localFrame, frameLength, length);
+            frameLength += length;
+            if (frameLength == frameSize) {
+                flush();
+                sent = true;
+            }
+        }
+
+        if (sent) {
+            // the content the frame has been copied from is released by the callback, so only the copy is pending
+            long pauseStart = System.nanoTime();
+            drainWaiter.accept(Callback.from(() -> {
+                pausedNanos += System.nanoTime() - pauseStart;
+                callback.succeeded();
+            }, callback::failed));
+        } else {
+            callback.succeeded();
+        }
+    }
+
+    /**
+     * Sends the content that has not been sent yet and records the request in the metrics. Must be called when the
+     * response is complete.
+     */
+    void finish() {
+        flush();
+        long durationNanos = System.nanoTime() - startNanos;
+        logger.debug("Sent {} bytes in {} frames to request {} in {} ms, first byte after {} ms, paused for {} ms",
+                bytes, frames, requestId, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                firstByteNanos < 0 ? "-" : TimeUnit.NANOSECONDS.toMillis(firstByteNanos),
+                TimeUnit.NANOSECONDS.toMillis(pausedNanos));
+        ProxyMetrics localMetrics = metrics;
+        if (localMetrics != null) {
+            localMetrics.record(durationNanos, firstByteNanos, pausedNanos, bytes);
+        }
+    }
+
+    private void flush() {
+        byte[] localFrame = frame;
+        if (localFrame == null || frameLength == 0) {
+            return;
+        }
+        // the socket keeps the array until it has been written, so it is not reused
+        sendFrame(frameLength == localFrame.length ? localFrame : Arrays.copyOf(localFrame, frameLength));
+        frame = null;
+        frameLength = 0;
+    }
+
+    private void sendFrame(byte[] body) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", body);
+            socket.emit("responseContentBinary", responseJson);
+            frames++;
+            logger.trace("Sent content to request {}", requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes DTOs with BatchWriteItem requests of up to 25 items.
+ *
+ * The queue is written at a fixed interval, or as soon as a full batch is available. The write rate is limited with a
+ * token bucket of write capacity units. The consumed capacity reported by DynamoDB is used to estimate the capacity
+ * needed per item. The allowed rate is increased after each fully processed batch and halved when DynamoDB throttles,
+ * i.e. returns unprocessed items or fails with a throughput exception. Throttled items are retried with exponential
+ * backoff.
+ *
+ * Batches failing with {@link ResourceNotFoundException} are written item by item with {@link TableCreatingPutItem},
+ * which creates the missing table.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+
+    /**
+     * Maximum number of items in a BatchWriteItem request
+     */
+    static final int MAX_BATCH_SIZE = 25;
+
+    private static final int MAX_CONCURRENT_BATCHES = 4;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long MIN_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 20_000;
+    private static final double MIN_CAPACITY_RATE = 1;
+    private static final double MAX_CAPACITY_RATE = 40_000;
+    // DynamoDB retains up to 5 minutes of unused capacity for bursts
+    private static final double BURST_SECONDS = 300;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Counters of the writer
+     *
+     * @param queueDepth number of items waiting to be written
+     * @param written number of items written
+     * @param throttled number of throttled requests
+     * @param retried number of retried items
+     * @param overflowed number of items written without batching because the queue was full
+     * @param dropped number of items given up after retries
+     * @param capacityRate currently allowed write capacity units per second
+     */
+    public record Statistics(int queueDepth, long written, long throttled, long retried, long overflowed,
+            long dropped, double capacityRate) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbAsyncClient client;
+    private final ExecutorService executor;
+    private final BlockingDeque<PendingWrite> queue;
+    private final ScheduledFuture<?> flushJob;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // rate limiting, guarded by this
+    private double capacityRate;
+    private double tokens;
+    private double unitsPerItem = 1;
+    private long lastRefillMillis = System.currentTimeMillis();
+    private long nextSendMillis;
+    private int consecutiveThrottles;
+
+    /**
+     * Create a batch writer
+     *
+     * @param service the persistence service, used for writing items creating missing tables
+     * @param client client used for BatchWriteItem requests
+     * @param executor executor used to handle responses
+     * @param scheduler scheduler used for periodic writes
+     * @param intervalMillis interval of periodic writes
+     * @param queueSize maximum number of queued items
+     * @param writeCapacityUnits initially allowed write capacity units per second
+     */
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbAsyncClient client,
+            ExecutorService executor, ScheduledExecutorService scheduler, long intervalMillis, int queueSize,
+            long writeCapacityUnits) {
+        this.service = service;
+        this.client = client;
+        this.executor = executor;
+        this.queue = new LinkedBlockingDeque<>(Math.max(MAX_BATCH_SIZE, queueSize));
+        this.capacityRate = Math.max(MIN_CAPACITY_RATE, writeCapacityUnits);
+        this.tokens = capacityRate * BURST_SECONDS;
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a DTO for writing
+     *
+     * If the queue is full, the DTO is written immediately with a PutItem request.
+     *
+     * @param dto DTO to write
+     * @param table table of the DTO
+     */
+    public <T extends DynamoDBItem<?>> void add(T dto, DynamoDbAsyncTable<T> table) {
+        Map<String, AttributeValue> attributes = table.tableSchema().itemToMap(dto, true);
+        PendingWrite write = new PendingWrite(table.tableName(),
+                dto.getName() + "@" + dto.getTime().toInstant().toEpochMilli(),
+                WriteRequest.builder().putRequest(put -> put.item(attributes)).build(),
+                () -> new TableCreatingPutItem<>(service, dto, table).putItemAsync(), 0);
+        if (closed || !queue.offerLast(write)) {
+            overflowed.incrementAndGet();
+            logger.debug("Batch write queue full, writing {} directly", dto.getName());
+            write.putItem().get();
+            return;
+        }
+        if (queue.size() >= MAX_BATCH_SIZE && !sending.get()) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Get the counters of this writer
+     *
+     * @return statistics
+     */
+    public Statistics getStatistics() {
+        double localCapacityRate;
+        synchronized (this) {
+            localCapacityRate = capacityRate;
+        }
+        return new Statistics(queue.size(), written.get(), throttled.get(), retried.get(), overflowed.get(),
+                dropped.get(), localCapacityRate);
+    }
+
+    /**
+     * Stop periodic writes and write all queued items, waiting for at most 10 seconds.
+     */
+    public void close() {
+        closed = true;
+        flushJob.cancel(false);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<PendingWrite> batch : takeBatches(true)) {
+            futures.add(send(batch));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(CLOSE_TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Not all queued items could be written on close: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.debug("Batch writer closed: {}", getStatistics());
+    }
+
+    private void flush() {
+        if (!sending.compareAndSet(false, true)) {
+            return;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            for (List<PendingWrite> batch : takeBatches(false)) {
+                futures.add(send(batch));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Unexpected error writing batch: {}", e.getMessage(), e);
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).whenComplete((result, exception) -> {
+            sending.set(false);
+            if (!futures.isEmpty() && !closed && queue.size() >= MAX_BATCH_SIZE) {
+                // more full batches available, continue without waiting for the next interval
+                executor.execute(this::flush);
+            }
+        });
+    }
+
+    private synchronized List<List<PendingWrite>> takeBatches(boolean all) {
+        long now = System.currentTimeMillis();
+        List<List<PendingWrite>> batches = new ArrayList<>();
+        if (!all && now < nextSendMillis) {
+            // backing off after throttling
+            return batches;
+        }
+        tokens = Math.min(capacityRate * BURST_SECONDS, tokens + capacityRate * (now - lastRefillMillis) / 1000.0);
+        lastRefillMillis = now;
+        while (all || batches.size() < MAX_CONCURRENT_BATCHES) {
+            int size = all ? MAX_BATCH_SIZE : (int) Math.min(MAX_BATCH_SIZE, tokens / unitsPerItem);
+            if (size <= 0) {
+                break;
+            }
+            List<PendingWrite> batch = takeBatch(size);
+            if (batch.isEmpty()) {
+                break;
+            }
+            tokens -= batch.size() * unitsPerItem;
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private List<PendingWrite> takeBatch(int size) {
+        // BatchWriteItem rejects duplicate keys. Like consecutive PutItem requests, the last write wins.
+        Map<String, PendingWrite> batch = new LinkedHashMap<>();
+        @Nullable
+        PendingWrite write;
+        while (batch.size() < size && (write = queue.pollFirst()) != null) {
+            batch.put(write.tableName() + "/" + write.key(), write);
+        }
+        return new ArrayList<>(batch.values());
+    }
+
+    private CompletableFuture<Void> send(List<PendingWrite> batch) {
+        Map<String, List<WriteRequest>> requestItems = new HashMap<>();
+        Map<WriteRequest, PendingWrite> writesByRequest = new HashMap<>();
+        for (PendingWrite write : batch) {
+            requestItems.computeIfAbsent(write.tableName(), k -> new ArrayList<>()).add(write.request());
+            writesByRequest.put(write.request(), write);
+        }
+        return client
+                .batchWriteItem(req -> req.overrideConfiguration(service::overrideConfig).requestItems(requestItems)
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL))
+                .handleAsync((response, exception) -> {
+                    if (exception == null) {
+                        handleResponse(batch, writesByRequest, response);
+                    } else {
+                        handleFailure(batch, exception);
+                    }
+                    return null;
+                }, executor);
+    }
+
+    private void handleResponse(List<PendingWrite> batch, Map<WriteRequest, PendingWrite> writesByRequest,
+            BatchWriteItemResponse response) {
+        List<PendingWrite> unprocessed = new ArrayList<>();
+        response.unprocessedItems().values().forEach(requests -> requests.forEach(request -> {
+            PendingWrite write = writesByRequest.get(request);
+            if (write != null) {
+                unprocessed.add(write);
+            }
+        }));
+        int processed = batch.size() - unprocessed.size();
+        double consumed = 0;
+        for (ConsumedCapacity capacity : response.consumedCapacity()) {
+            Double units = capacity.capacityUnits();
+            consumed += units == null ? 0 : units;
+        }
+        written.addAndGet(processed);
+        logger.trace("BatchWriteItem: {} items written, {} unprocessed, {} capacity units consumed", processed,
+                unprocessed.size(), consumed);
+
+        synchronized (this) {
+            if (processed > 0 && consumed > 0) {
+                unitsPerItem = 0.8 * unitsPerItem + 0.2 * (consumed / processed);
+            }
+        }
+        if (unprocessed.isEmpty()) {
+            increaseRate();
+        } else {
+            throttle();
+            retry(unprocessed);
+        }
+    }
+
+    private void handleFailure(List<PendingWrite> batch, Throwable exception) {
+        Throwable cause = exception.getCause();
+        if (!(exception instanceof CompletionException) || cause == null) {
+            cause = exception;
+        }
+        if (cause instanceof ResourceNotFoundException) {
+            logger.trace("BatchWriteItem: table not present. Writing {} items one by one, creating the table",
+                    batch.size());
+            batch.forEach(write -> write.putItem().get());
+        } else if (cause instanceof ProvisionedThroughputExceededException
+                || cause instanceof RequestLimitExceededException) {
+            throttle();
+            retry(batch);
+        } else {
+            logger.warn("BatchWriteItem: failed with {} {}. Retrying.", cause.getClass().getSimpleName(),
+                    cause.getMessage());
+            backoff();
+            retry(batch);
+        }
+    }
+
+    private synchronized void increaseRate() {
+        consecutiveThrottles = 0;
+        capacityRate = Math.min(MAX_CAPACITY_RATE, capacityRate + Math.max(1, capacityRate * 0.1));
+    }
+
+    private void throttle() {
+        long count = throttled.incrementAndGet();
+        double localCapacityRate;
+        synchronized (this) {
+            localCapacityRate = capacityRate = Math.max(MIN_CAPACITY_RATE, capacityRate / 2);
+            tokens = Math.min(tokens, 0);
+        }
+        backoff();
+        logger.debug("BatchWriteItem throttled ({} times). Queue depth {}, write rate reduced to {} units/s", count,
+                queue.size(), localCapacityRate);
+    }
+
+    private synchronized void backoff() {
+        consecutiveThrottles++;
+        long maxDelay = Math.min(MAX_BACKOFF_MILLIS, MIN_BACKOFF_MILLIS << Math.min(consecutiveThrottles, 20));
+        // full jitter
+        nextSendMillis = System.currentTimeMillis() + ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1);
+    }
+
+    private void retry(List<PendingWrite> writes) {
+        // re-queue in front of newer items, keeping the original order
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            PendingWrite write = writes.get(i);
+            if (closed || write.attempt() + 1 >= MAX_ATTEMPTS || !queue.offerFirst(write.nextAttempt())) {
+                dropped.incrementAndGet();
+                logger.warn("Giving up writing item {} to table {} after {} attempts", write.key(), write.tableName(),
+                        write.attempt() + 1);
+            } else {
+                retried.incrementAndGet();
+            }
+        }
+    }
+
+    private record PendingWrite(String tableName, String key, WriteRequest request,
+            Supplier<CompletableFuture<Void>> putItem, int attempt) {
+
+        PendingWrite nextAttempt() {
+            return new PendingWrite(tableName, key, request, putItem, attempt + 1);
+        }
+    }
+}
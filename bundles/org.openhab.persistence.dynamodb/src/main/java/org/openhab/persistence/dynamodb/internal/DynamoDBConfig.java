@@ -49,6 +49,8 @@ public class DynamoDBConfig {
     public static final String DEFAULT_TABLE_NAME = "openhab";
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final long DEFAULT_BATCH_WRITE_INTERVAL_MILLIS = 1000;
+    public static final int DEFAULT_BATCH_WRITE_QUEUE_SIZE = 10000;
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
 
     private long readCapacityUnits;
@@ -60,6 +62,8 @@ public class DynamoDBConfig {
     private String table;
     private String tablePrefixLegacy;
     private @Nullable Integer expireDays;
+    private long batchWriteInterval = DEFAULT_BATCH_WRITE_INTERVAL_MILLIS;
+    private int batchWriteQueueSize = DEFAULT_BATCH_WRITE_QUEUE_SIZE;
 
     /**
      *
@@ -168,25 +172,54 @@ public class DynamoDBConfig {
                 }
             }
 
+            final long batchWriteInterval;
+            String batchWriteIntervalParam = (String) config.get("batchWriteInterval");
+            if (batchWriteIntervalParam == null || batchWriteIntervalParam.isBlank()) {
+                batchWriteInterval = DEFAULT_BATCH_WRITE_INTERVAL_MILLIS;
+            } else {
+                batchWriteInterval = Long.parseLong(batchWriteIntervalParam);
+                if (batchWriteInterval < 0) {
+                    LOGGER.error("batchWriteInterval should be zero or positive integer");
+                    return null;
+                }
+            }
+
+            final int batchWriteQueueSize;
+            String batchWriteQueueSizeParam = (String) config.get("batchWriteQueueSize");
+            if (batchWriteQueueSizeParam == null || batchWriteQueueSizeParam.isBlank()) {
+                batchWriteQueueSize = DEFAULT_BATCH_WRITE_QUEUE_SIZE;
+            } else {
+                batchWriteQueueSize = Integer.parseInt(batchWriteQueueSizeParam);
+            }
+
+            final DynamoDBConfig dbConfig;
             switch (tableRevision) {
                 case NEW:
                     LOGGER.debug("Using new DynamoDB table schema");
-                    return DynamoDBConfig.newSchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            table, readCapacityUnits, writeCapacityUnits, expireDays);
+                    dbConfig = DynamoDBConfig.newSchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), table, readCapacityUnits, writeCapacityUnits,
+                            expireDays);
+                    break;
                 case LEGACY:
                     LOGGER.warn(
                             "Using legacy DynamoDB table schema. It is recommended to transition to new schema by defining 'table' parameter and not configuring 'tablePrefix'");
-                    return DynamoDBConfig.legacySchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits);
+                    dbConfig = DynamoDBConfig.legacySchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), tablePrefixLegacy, readCapacityUnits,
+                            writeCapacityUnits);
+                    break;
                 case MAYBE_LEGACY:
                     LOGGER.debug(
                             "Unclear whether we should use new legacy DynamoDB table schema. It is recommended to explicitly define new 'table' parameter. The correct table schema will be detected at runtime.");
-                    return DynamoDBConfig.maybeLegacySchema(region, credentials,
+                    dbConfig = DynamoDBConfig.maybeLegacySchema(region, credentials,
                             retryMode.map(AwsRetryPolicy::forRetryMode), table, tablePrefixLegacy, readCapacityUnits,
                             writeCapacityUnits, expireDays);
+                    break;
                 default:
                     throw new IllegalStateException("Unhandled enum. Bug");
             }
+            dbConfig.batchWriteInterval = batchWriteInterval;
+            dbConfig.batchWriteQueueSize = batchWriteQueueSize;
+            return dbConfig;
         } catch (Exception e) {
             LOGGER.error("Error with configuration: {} {}", e.getClass().getSimpleName(), e.getMessage());
             return null;
@@ -263,4 +296,17 @@ public class DynamoDBConfig {
     public @Nullable Integer getExpireDays() {
         return expireDays;
     }
+
+    /**
+     * Interval of batched writes in milliseconds. Zero disables batching.
+     *
+     * @return batch write interval
+     */
+    public long getBatchWriteInterval() {
+        return batchWriteInterval;
+    }
+
+    public int getBatchWriteQueueSize() {
+        return batchWriteQueueSize;
+    }
 }
@@ -103,6 +103,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     protected static final String CONFIG_URI = "persistence:dynamodb";
 
     private static final String DYNAMODB_THREADPOOL_NAME = "dynamodbPersistenceService";
+    private static final String DYNAMODB_BATCH_WRITER_THREADPOOL_NAME = "dynamodbPersistenceBatchWriter";
 
     private final ItemRegistry itemRegistry;
     private final UnitProvider unitProvider;
@@ -112,6 +113,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private boolean isProperlyConfigured;
     private @Nullable DynamoDBConfig dbConfig;
     private @Nullable DynamoDBTableNameResolver tableNameResolver;
+    private @Nullable DynamoDBBatchWriter batchWriter;
     private final ExecutorService executor = ThreadPoolManager.getPool(DYNAMODB_THREADPOOL_NAME);
     private static final Duration TIMEOUT_API_CALL = Duration.ofSeconds(60);
     private static final Duration TIMEOUT_API_CALL_ATTEMPT = Duration.ofSeconds(5);
@@ -176,6 +178,16 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         return dbConfig;
     }
 
+    /**
+     * Get the counters of the batch writer
+     *
+     * @return statistics or null if batched writes are disabled
+     */
+    public DynamoDBBatchWriter.@Nullable Statistics getBatchWriterStatistics() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        return localBatchWriter == null ? null : localBatchWriter.getStatistics();
+    }
+
     @Activate
     public void activate(final @Nullable BundleContext bundleContext, final Map<String, Object> config) {
         disconnect();
@@ -197,6 +209,14 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
+        if (localDbConfig.getBatchWriteInterval() > 0 && localLowLevelClient != null) {
+            batchWriter = new DynamoDBBatchWriter(this, localLowLevelClient, executor,
+                    ThreadPoolManager.getScheduledPool(DYNAMODB_BATCH_WRITER_THREADPOOL_NAME),
+                    localDbConfig.getBatchWriteInterval(), localDbConfig.getBatchWriteQueueSize(),
+                    localDbConfig.getWriteCapacityUnits());
+        }
+
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -316,6 +336,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void disconnect() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            // write queued items while the client is still open
+            localBatchWriter.close();
+            batchWriter = null;
+        }
         DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
         if (client == null || localLowLevelClient == null) {
             return;
@@ -566,27 +592,35 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
-            dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
+            dto.accept(new DynamoDBItemVisitor<@Nullable Void>() {
 
                 @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
-                        DynamoDBBigDecimalItem dynamoBigDecimalItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
-                            getTable(DynamoDBBigDecimalItem.class));
+                public @Nullable Void visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                    write(dynamoBigDecimalItem, getTable(DynamoDBBigDecimalItem.class));
+                    return null;
                 }
 
                 @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBStringItem dynamoStringItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
-                            getTable(DynamoDBStringItem.class));
+                public @Nullable Void visit(DynamoDBStringItem dynamoStringItem) {
+                    write(dynamoStringItem, getTable(DynamoDBStringItem.class));
+                    return null;
                 }
-            }).putItemAsync();
+            });
         }, executor).exceptionally(e -> {
             logger.error("Unexcepted error", e);
             return null;
         });
     }
 
+    private <T extends DynamoDBItem<?>> void write(T dto, DynamoDbAsyncTable<T> table) {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            localBatchWriter.add(dto, table);
+        } else {
+            new TableCreatingPutItem<>(this, dto, table).putItemAsync();
+        }
+    }
+
     private Item getEffectiveItem(Item item) {
         final Item effectiveItem;
         if (item instanceof GroupItem groupItem) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+
+/**
+ * Stores more values than fit in one BatchWriteItem request, to both tables.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class BatchWriteIntegrationTest extends BaseIntegrationTest {
+
+    public static final boolean LEGACY_MODE = false;
+    private static final String NUMBER_NAME = "number";
+    private static final String STRING_NAME = "string";
+    private static final int STATE_COUNT = 3 * DynamoDBBatchWriter.MAX_BATCH_SIZE;
+
+    private static @Nullable ZonedDateTime storeStart;
+
+    @SuppressWarnings("null")
+    @BeforeAll
+    public static void populateData() {
+        storeStart = ZonedDateTime.now();
+
+        NumberItem numberItem = (NumberItem) ITEMS.get(NUMBER_NAME);
+        StringItem stringItem = (StringItem) ITEMS.get(STRING_NAME);
+        for (int i = 0; i < STATE_COUNT; i++) {
+            numberItem.setState(new DecimalType(i));
+            stringItem.setState(new StringType("value" + i));
+            try {
+                // Add some delay to enforce different timestamps in ms accuracy
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                fail("Interrupted");
+                return;
+            }
+            service.store(numberItem);
+            service.store(stringItem);
+        }
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testAllNumbersWritten() {
+        waitForAssert(() -> {
+            List<HistoricItem> actual = queryAll(NUMBER_NAME);
+            assertEquals(STATE_COUNT, actual.size());
+            for (int i = 0; i < STATE_COUNT; i++) {
+                assertEquals(new DecimalType(new BigDecimal(i)), actual.get(i).getState());
+            }
+        });
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testAllStringsWritten() {
+        waitForAssert(() -> {
+            List<HistoricItem> actual = queryAll(STRING_NAME);
+            assertEquals(STATE_COUNT, actual.size());
+            for (int i = 0; i < STATE_COUNT; i++) {
+                assertEquals(new StringType("value" + i), actual.get(i).getState());
+            }
+        });
+    }
+
+    @Test
+    public void testStatistics() {
+        waitForAssert(() -> {
+            DynamoDBBatchWriter.Statistics statistics = service.getBatchWriterStatistics();
+            assertNotNull(statistics);
+            assertEquals(0, statistics.queueDepth());
+            assertEquals(0, statistics.dropped());
+            assertTrue(statistics.written() > 0);
+        });
+    }
+
+    private List<HistoricItem> queryAll(String itemName) {
+        FilterCriteria criteria = new FilterCriteria();
+        criteria.setItemName(itemName);
+        criteria.setBeginDate(Objects.requireNonNull(storeStart));
+        criteria.setOrdering(Ordering.ASCENDING);
+        criteria.setPageSize(STATE_COUNT * 2);
+        List<HistoricItem> items = new ArrayList<>();
+        service.query(criteria).forEach(items::add);
+        return items;
+    }
+}
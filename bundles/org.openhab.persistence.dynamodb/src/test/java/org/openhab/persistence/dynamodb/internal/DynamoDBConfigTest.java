@@ -255,4 +255,29 @@ public class DynamoDBConfigTest {
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteDefaults() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig
+                .fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1"));
+        assertEquals(1000, fromConfig.getBatchWriteInterval());
+        assertEquals(10000, fromConfig.getBatchWriteQueueSize());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteSettings() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1",
+                "secretKey", "secret1", "table", "mytable", "batchWriteInterval", "0", "batchWriteQueueSize", "500"));
+        assertEquals(0, fromConfig.getBatchWriteInterval());
+        assertEquals(500, fromConfig.getBatchWriteQueueSize());
+        assertEquals(ExpectedTableSchema.NEW, fromConfig.getTableRevision());
+    }
+
+    @Test
+    public void testNegativeBatchWriteInterval() throws Exception {
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "batchWriteInterval", "-1")));
+    }
 }
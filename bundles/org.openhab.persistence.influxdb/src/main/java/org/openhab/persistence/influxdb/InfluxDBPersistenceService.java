@@ -14,6 +14,7 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -53,7 +54,9 @@ import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
+import org.openhab.persistence.influxdb.internal.InfluxDBQueryCache;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBRepository.InfluxRow;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
@@ -98,6 +101,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    // queries ending less than this before now are cached including all newer data
+    private static final Duration RECENT_QUERY_END = Duration.ofMinutes(1);
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -111,6 +116,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     // storage
     private final ScheduledFuture<?> storeJob;
     private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private volatile List<InfluxPoint> committingPoints = List.of();
+
+    // query results
+    private final @Nullable InfluxDBQueryCache queryCache;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,6 +131,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.queryCache = configuration.getQueryCacheSize() > 0
+                ? new InfluxDBQueryCache(configuration.getQueryCacheSize(),
+                        Duration.ofSeconds(configuration.getQueryCacheMaxAge()))
+                : null;
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
@@ -158,6 +171,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
 
+        InfluxDBQueryCache localQueryCache = queryCache;
+        if (localQueryCache != null) {
+            InfluxDBQueryCache.Statistics statistics = localQueryCache.getStatistics();
+            logger.debug("InfluxDB query cache: {} hits, {} misses (hit rate {}), {} patched points", statistics.hits(),
+                    statistics.misses(), statistics.hitRate(), statistics.patches());
+        }
+
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
     }
@@ -211,6 +231,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
             }
             if (pointsQueue.offer(point)) {
                 logger.trace("Queued {} for item {}", point, item);
+                InfluxDBQueryCache localQueryCache = queryCache;
+                if (localQueryCache != null) {
+                    localQueryCache.patch(point);
+                }
             } else {
                 logger.warn("Failed to queue {} for item {}", point, item);
             }
@@ -224,6 +248,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.warn("Item name is missing in filter {} when trying to remove data.", filter);
                 return false;
             }
+            InfluxDBQueryCache localQueryCache = queryCache;
+            if (localQueryCache != null) {
+                localQueryCache.clear();
+            }
             return influxDBRepository.remove(filter);
         } else {
             logger.debug("Remove query {} ignored, InfluxDB is not connected.", filter);
@@ -249,8 +277,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                     itemName, filter.getOrdering().toString(), filter.getState(), filter.getOperator(),
                     filter.getBeginDate(), filter.getEndDate(), filter.getPageSize(), filter.getPageNumber());
 
-            List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
-                    configuration.getRetentionPolicy(), alias);
+            List<InfluxRow> results = queryRows(filter, alias);
             return results.stream().map(r -> mapRowToHistoricItem(r, itemName)).collect(Collectors.toList());
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
@@ -258,7 +285,64 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         }
     }
 
-    private HistoricItem mapRowToHistoricItem(InfluxDBRepository.InfluxRow row, String itemName) {
+    /**
+     * Get the query results from the cache or the database
+     */
+    private List<InfluxRow> queryRows(FilterCriteria filter, @Nullable String alias) {
+        InfluxDBQueryCache localQueryCache = queryCache;
+        if (localQueryCache == null || !InfluxDBQueryCache.isCacheable(filter)) {
+            return influxDBRepository.query(filter, configuration.getRetentionPolicy(), alias);
+        }
+        List<InfluxRow> cached = localQueryCache.get(filter, alias);
+        if (cached != null) {
+            logger.trace("Query {} answered from cache", filter);
+            return cached;
+        }
+
+        // queries up to now are fetched without end, so the cached result can be used until data is newer
+        ZonedDateTime endDate = filter.getEndDate();
+        FilterCriteria fetchFilter = endDate == null || endDate.isBefore(ZonedDateTime.now().minus(RECENT_QUERY_END))
+                ? filter
+                : withoutEndDate(filter);
+        List<InfluxPoint> pendingPoints = new ArrayList<>(committingPoints);
+        pendingPoints.addAll(pointsQueue);
+        List<InfluxRow> rows = influxDBRepository.query(fetchFilter, configuration.getRetentionPolicy(), alias);
+        localQueryCache.put(fetchFilter, alias, rows);
+        // points not yet written to the database, including the points queued while querying
+        pendingPoints.addAll(committingPoints);
+        pendingPoints.addAll(pointsQueue);
+        pendingPoints.forEach(localQueryCache::patch);
+
+        if (fetchFilter == filter) {
+            return rows;
+        }
+        List<InfluxRow> result = localQueryCache.lookup(filter, alias);
+        return result != null ? result : influxDBRepository.query(filter, configuration.getRetentionPolicy(), alias);
+    }
+
+    private static FilterCriteria withoutEndDate(FilterCriteria filter) {
+        FilterCriteria copy = new FilterCriteria();
+        copy.setItemName(Objects.requireNonNull(filter.getItemName()));
+        copy.setBeginDate(filter.getBeginDate());
+        copy.setOrdering(filter.getOrdering());
+        copy.setPageNumber(filter.getPageNumber());
+        copy.setPageSize(filter.getPageSize());
+        copy.setOperator(filter.getOperator());
+        copy.setState(filter.getState());
+        return copy;
+    }
+
+    /**
+     * Get the counters of the query cache
+     *
+     * @return the statistics or <code>null</code> if the cache is disabled
+     */
+    public InfluxDBQueryCache.@Nullable Statistics getQueryCacheStatistics() {
+        InfluxDBQueryCache localQueryCache = queryCache;
+        return localQueryCache != null ? localQueryCache.getStatistics() : null;
+    }
+
+    private HistoricItem mapRowToHistoricItem(InfluxRow row, String itemName) {
         State state = InfluxDBStateConvertUtils.objectToState(row.value(), itemName, itemRegistry);
         return new InfluxDBHistoricItem(row.itemName(), state, row.time());
     }
@@ -287,6 +371,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (!pointsQueue.isEmpty() && checkConnection()) {
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
+            // keep the points visible for queries filling the cache while they are written
+            committingPoints = points;
             if (!influxDBRepository.write(points)) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
                 pointsQueue.addAll(points);
@@ -294,6 +380,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
             } else {
                 logger.trace("Wrote {} elements to database", points.size());
             }
+            committingPoints = List.of();
         }
     }
 
@@ -39,6 +39,8 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String QUERY_CACHE_SIZE_PARAM = "queryCacheSize";
+    public static final String QUERY_CACHE_MAX_AGE_PARAM = "queryCacheMaxAge";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +53,8 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int queryCacheSize;
+    private final int queryCacheMaxAge;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +68,8 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        queryCacheSize = ConfigParser.valueAsOrElse(config.get(QUERY_CACHE_SIZE_PARAM), Integer.class, 100);
+        queryCacheMaxAge = ConfigParser.valueAsOrElse(config.get(QUERY_CACHE_MAX_AGE_PARAM), Integer.class, 300);
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -142,6 +148,20 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    /**
+     * @return maximum number of items with cached query results, 0 if the cache is disabled
+     */
+    public int getQueryCacheSize() {
+        return queryCacheSize;
+    }
+
+    /**
+     * @return maximum age of cached query results in seconds
+     */
+    public int getQueryCacheMaxAge() {
+        return queryCacheMaxAge;
+    }
+
     public String getUser() {
         return user;
     }
@@ -160,6 +180,7 @@ public class InfluxDBConfiguration {
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", queryCacheSize=" + queryCacheSize + ", queryCacheMaxAge="
+                + queryCacheMaxAge + '}';
     }
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.persistence.influxdb.internal.InfluxDBRepository.InfluxRow;
+
+/**
+ * Caches query results per series (item or alias).
+ *
+ * Every series has at most one cached entry, containing all rows within the time range it covers. Queries without a
+ * state filter are answered from the entry when the entry covers the queried range, ordering and paging are applied
+ * in memory. Points written through the service are added to the entries covering their timestamp, so entries
+ * covering the recent past stay valid while new data is written.
+ *
+ * The cache assumes that the series are only written through the service. Entries expire after a maximum age to
+ * limit the effect of other writers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBQueryCache {
+    private static final int MAX_ROWS_PER_ENTRY = 10_000;
+    private static final Comparator<InfluxRow> BY_TIME = Comparator.comparing(InfluxRow::time);
+
+    /**
+     * Counters of the cache
+     *
+     * @param hits number of queries answered from the cache
+     * @param misses number of cacheable queries sent to the database
+     * @param patches number of written points added to cached entries
+     * @param entries number of cached series
+     */
+    public record Statistics(long hits, long misses, long patches, int entries) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+    private final long maxAgeMillis;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong patches = new AtomicLong();
+
+    public InfluxDBQueryCache(int maxEntries, Duration maxAge) {
+        this.maxAgeMillis = maxAge.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Whether results of a query can be cached at all
+     *
+     * @param filter the query filter
+     * @return <code>true</code> if the query has no state filter
+     */
+    public static boolean isCacheable(FilterCriteria filter) {
+        return filter.getItemName() != null && (filter.getState() == null || filter.getOperator() == null);
+    }
+
+    /**
+     * Answer a query from the cache
+     *
+     * @param filter the query filter
+     * @param alias the alias of the item or <code>null</code>
+     * @return the rows in the requested ordering or <code>null</code> if the query is not covered by the cache
+     */
+    public @Nullable List<InfluxRow> get(FilterCriteria filter, @Nullable String alias) {
+        List<InfluxRow> rows = lookup(filter, alias);
+        if (rows == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return rows;
+    }
+
+    /**
+     * Answer a query from the cache without counting a hit or miss
+     *
+     * @param filter the query filter
+     * @param alias the alias of the item or <code>null</code>
+     * @return the rows in the requested ordering or <code>null</code> if the query is not covered by the cache
+     */
+    public synchronized @Nullable List<InfluxRow> lookup(FilterCriteria filter, @Nullable String alias) {
+        String itemName = filter.getItemName();
+        if (itemName == null || !isCacheable(filter)) {
+            return null;
+        }
+        Entry entry = entries.get(seriesName(itemName, alias));
+        if (entry == null || !entry.itemName.equals(itemName)) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.created > maxAgeMillis) {
+            entries.remove(seriesName(itemName, alias));
+            return null;
+        }
+        Instant begin = toInstant(filter.getBeginDate());
+        Instant end = toInstant(filter.getEndDate());
+        Instant entryEnd = entry.end;
+        if (entryEnd != null && (end == null || end.isAfter(entryEnd))) {
+            return null;
+        }
+
+        List<InfluxRow> inRange = new ArrayList<>();
+        for (InfluxRow row : entry.rows) {
+            if ((begin == null || !row.time().isBefore(begin)) && (end == null || !row.time().isAfter(end))) {
+                inRange.add(row);
+            }
+        }
+        boolean descending = filter.getOrdering() == Ordering.DESCENDING;
+        if (descending) {
+            Collections.reverse(inRange);
+        }
+        int pageSize = filter.getPageSize();
+        long offset = pageSize == Integer.MAX_VALUE ? 0 : (long) filter.getPageNumber() * pageSize;
+
+        Instant entryBegin = entry.begin;
+        boolean beginCovered = entryBegin == null || (begin != null && !begin.isBefore(entryBegin));
+        if (!beginCovered) {
+            // older rows are missing. Only the newest rows can be answered
+            if (!descending || pageSize == Integer.MAX_VALUE || inRange.size() < offset + pageSize) {
+                return null;
+            }
+        }
+        if (offset >= inRange.size()) {
+            return List.of();
+        }
+        return List.copyOf(inRange.subList((int) offset, (int) Math.min(inRange.size(), offset + pageSize)));
+    }
+
+    /**
+     * Cache the result of a query
+     *
+     * @param filter the query filter
+     * @param alias the alias of the item or <code>null</code>
+     * @param rows the result of the query
+     */
+    public synchronized void put(FilterCriteria filter, @Nullable String alias, List<InfluxRow> rows) {
+        String itemName = filter.getItemName();
+        // failed queries return an empty result, too. Do not cache them
+        if (itemName == null || !isCacheable(filter) || rows.isEmpty() || rows.size() > MAX_ROWS_PER_ENTRY) {
+            return;
+        }
+        Instant begin = toInstant(filter.getBeginDate());
+        Instant end = toInstant(filter.getEndDate());
+        List<InfluxRow> sorted = new ArrayList<>(rows);
+        sorted.sort(BY_TIME);
+
+        int pageSize = filter.getPageSize();
+        if (pageSize != Integer.MAX_VALUE) {
+            if (filter.getPageNumber() != 0) {
+                return;
+            }
+            if (sorted.size() >= pageSize) {
+                // the page is full, so the result only covers the range of the returned rows
+                if (filter.getOrdering() == Ordering.DESCENDING) {
+                    begin = sorted.get(0).time();
+                } else {
+                    end = sorted.get(sorted.size() - 1).time();
+                }
+            }
+        }
+
+        String series = seriesName(itemName, alias);
+        Entry existing = entries.get(series);
+        Entry entry = new Entry(itemName, begin, end, sorted, System.currentTimeMillis());
+        if (existing != null && existing.itemName.equals(itemName) && entry.overlaps(existing)) {
+            entry = entry.merge(existing);
+        }
+        entries.put(series, entry);
+    }
+
+    /**
+     * Add a written point to the entries covering its timestamp
+     *
+     * @param point the point
+     */
+    public synchronized void patch(InfluxPoint point) {
+        String series = point.getTags().get(TAG_ITEM_NAME);
+        Entry entry = series == null ? null : entries.get(series);
+        if (entry == null || !entry.covers(point.getTime())) {
+            return;
+        }
+        InfluxRow row = new InfluxRow(point.getTime(), entry.itemName, point.getValue());
+        int index = Collections.binarySearch(entry.rows, row, BY_TIME);
+        if (index >= 0) {
+            // a point with the same timestamp replaces the existing one
+            entry.rows.set(index, row);
+        } else {
+            entry.rows.add(-index - 1, row);
+        }
+        patches.incrementAndGet();
+        if (entry.rows.size() > MAX_ROWS_PER_ENTRY) {
+            entries.remove(series);
+        }
+    }
+
+    /**
+     * Remove the cached entry of an item, e.g. after data has been removed
+     *
+     * @param itemName the name of the item or its alias
+     */
+    public synchronized void invalidate(String itemName) {
+        entries.remove(itemName);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public Statistics getStatistics() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Statistics(hits.get(), misses.get(), patches.get(), size);
+    }
+
+    private static @Nullable Instant toInstant(@Nullable ZonedDateTime date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private static String seriesName(String itemName, @Nullable String alias) {
+        return alias != null ? alias : itemName;
+    }
+
+    private static class Entry {
+        private final String itemName;
+        private final @Nullable Instant begin;
+        private final @Nullable Instant end;
+        private final List<InfluxRow> rows;
+        private final long created;
+
+        /**
+         * @param itemName the item name used in the query
+         * @param begin start of the covered range, <code>null</code> if unbounded
+         * @param end end of the covered range, <code>null</code> if unbounded
+         * @param rows all rows of the range, sorted by time
+         * @param created creation time in milliseconds
+         */
+        Entry(String itemName, @Nullable Instant begin, @Nullable Instant end, List<InfluxRow> rows, long created) {
+            this.itemName = itemName;
+            this.begin = begin;
+            this.end = end;
+            this.rows = rows;
+            this.created = created;
+        }
+
+        boolean covers(Instant time) {
+            Instant localBegin = begin;
+            Instant localEnd = end;
+            return (localBegin == null || !time.isBefore(localBegin)) && (localEnd == null || !time.isAfter(localEnd));
+        }
+
+        boolean overlaps(Entry other) {
+            Instant localBegin = begin;
+            Instant localEnd = end;
+            Instant otherBegin = other.begin;
+            Instant otherEnd = other.end;
+            return (localBegin == null || otherEnd == null || !otherEnd.isBefore(localBegin))
+                    && (localEnd == null || otherBegin == null || !otherBegin.isAfter(localEnd));
+        }
+
+        /**
+         * Merge an older, overlapping entry into this one. Rows of this entry take precedence within its range.
+         */
+        Entry merge(Entry older) {
+            Instant localBegin = begin;
+            Instant localEnd = end;
+            Instant olderBegin = older.begin;
+            Instant olderEnd = older.end;
+            Instant mergedBegin = localBegin == null || olderBegin == null ? null
+                    : olderBegin.isBefore(localBegin) ? olderBegin : localBegin;
+            Instant mergedEnd = localEnd == null || olderEnd == null ? null
+                    : olderEnd.isAfter(localEnd) ? olderEnd : localEnd;
+            List<InfluxRow> merged = new ArrayList<>(rows);
+            for (InfluxRow row : older.rows) {
+                if (!covers(row.time())) {
+                    merged.add(row);
+                }
+            }
+            merged.sort(BY_TIME);
+            // keep the age of the older entry, so entries expire even if they are merged repeatedly
+            return new Entry(itemName, mergedBegin, mergedEnd, merged, Math.min(created, older.created));
+        }
+    }
+}
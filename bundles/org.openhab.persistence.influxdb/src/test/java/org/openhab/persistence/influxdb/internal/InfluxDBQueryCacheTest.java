@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Operator;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.persistence.influxdb.internal.InfluxDBRepository.InfluxRow;
+
+/**
+ * Tests for {@link InfluxDBQueryCache}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBQueryCacheTest {
+    private static final String ITEM_NAME = "sampleItem";
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+    private final InfluxDBQueryCache cache = new InfluxDBQueryCache(10, Duration.ofMinutes(5));
+
+    @Test
+    public void coveredQueriesShouldBeAnsweredFromCache() {
+        cache.put(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), null, rows(10, 20, 30, 40));
+
+        List<InfluxRow> rows = cache.get(filter(NOW.minusSeconds(85), NOW.minusSeconds(65), Ordering.ASCENDING), null);
+        assertThat(times(rows), is(equalTo(List.of(20L, 30L))));
+
+        rows = cache.get(filter(NOW.minusSeconds(100), null, Ordering.DESCENDING), null);
+        assertThat(times(rows), is(equalTo(List.of(40L, 30L, 20L, 10L))));
+
+        // older data is not cached
+        assertThat(cache.get(filter(NOW.minusSeconds(200), null, Ordering.ASCENDING), null), is(nullValue()));
+
+        InfluxDBQueryCache.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.hits(), is(2L));
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.entries(), is(1));
+    }
+
+    @Test
+    public void writtenPointsShouldBeAddedToOpenEntries() {
+        cache.put(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), null, rows(10, 20));
+
+        cache.patch(point(ITEM_NAME, 50));
+        cache.patch(point("otherItem", 60));
+
+        List<InfluxRow> rows = cache.get(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), null);
+        assertThat(times(rows), is(equalTo(List.of(10L, 20L, 50L))));
+        assertThat(cache.getStatistics().patches(), is(1L));
+    }
+
+    @Test
+    public void lastValueShouldBeAnsweredFromCache() {
+        FilterCriteria last = filter(null, null, Ordering.DESCENDING);
+        last.setPageSize(1);
+        cache.put(last, null, rows(30));
+
+        // the last value before now
+        FilterCriteria persisted = filter(null, NOW, Ordering.DESCENDING);
+        persisted.setPageSize(1);
+        assertThat(times(cache.get(persisted, null)), is(equalTo(List.of(30L))));
+
+        cache.patch(point(ITEM_NAME, 50));
+        assertThat(times(cache.get(persisted, null)), is(equalTo(List.of(50L))));
+
+        // values before the cached value are unknown
+        FilterCriteria ascending = filter(null, NOW, Ordering.ASCENDING);
+        assertThat(cache.get(ascending, null), is(nullValue()));
+        FilterCriteria twoValues = filter(null, NOW, Ordering.DESCENDING);
+        twoValues.setPageSize(3);
+        assertThat(cache.get(twoValues, null), is(nullValue()));
+    }
+
+    @Test
+    public void queriesWithStateFilterShouldNotBeCached() {
+        FilterCriteria filter = filter(NOW.minusSeconds(100), null, Ordering.ASCENDING);
+        filter.setState(new DecimalType(5));
+        filter.setOperator(Operator.GT);
+        cache.put(filter, null, rows(10));
+        assertThat(cache.get(filter, null), is(nullValue()));
+        assertThat(cache.getStatistics().entries(), is(0));
+    }
+
+    @Test
+    public void emptyResultsShouldNotBeCached() {
+        cache.put(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), null, List.of());
+        assertThat(cache.getStatistics().entries(), is(0));
+    }
+
+    @Test
+    public void aliasShouldBeUsedAsSeries() {
+        cache.put(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), "alias", rows(10));
+        cache.patch(point("alias", 20));
+
+        assertThat(cache.get(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), null), is(nullValue()));
+        List<InfluxRow> rows = cache.get(filter(NOW.minusSeconds(100), null, Ordering.ASCENDING), "alias");
+        assertThat(times(rows), is(equalTo(List.of(10L, 20L))));
+    }
+
+    private static FilterCriteria filter(@Nullable Instant begin, @Nullable Instant end, Ordering ordering) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setBeginDate(begin != null ? ZonedDateTime.ofInstant(begin, ZoneId.systemDefault()) : null);
+        filter.setEndDate(end != null ? ZonedDateTime.ofInstant(end, ZoneId.systemDefault()) : null);
+        filter.setOrdering(ordering);
+        return filter;
+    }
+
+    /**
+     * Rows at the given seconds after now minus 100 seconds
+     */
+    private static List<InfluxRow> rows(long... seconds) {
+        return Arrays.stream(seconds).mapToObj(s -> new InfluxRow(time(s), ITEM_NAME, (double) s)).toList();
+    }
+
+    private static InfluxPoint point(String itemName, long seconds) {
+        return InfluxPoint.newBuilder(itemName).withTime(time(seconds)).withValue((double) seconds)
+                .withTag(TAG_ITEM_NAME, itemName).build();
+    }
+
+    private static Instant time(long seconds) {
+        return NOW.minusSeconds(100).plusSeconds(seconds);
+    }
+
+    private static List<Long> times(@Nullable List<InfluxRow> rows) {
+        return Objects.requireNonNull(rows).stream().map(r -> r.time().getEpochSecond() - time(0).getEpochSecond())
+                .toList();
+    }
+}
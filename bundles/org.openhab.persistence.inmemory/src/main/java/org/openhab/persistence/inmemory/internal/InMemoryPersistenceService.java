@@ -13,7 +13,9 @@
 package org.openhab.persistence.inmemory.internal;
 
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -66,11 +68,16 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String NUMERIC_STORAGE_CONFIG = "numericStorage";
+    private final String NUMERIC_STORAGE_NONE = "none";
+    private final String NUMERIC_STORAGE_HEAP = "heap";
+    private final String NUMERIC_STORAGE_DIRECT = "direct";
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
     private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private String numericStorage = NUMERIC_STORAGE_NONE;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,11 +88,24 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        numericStorage = ConfigParser.valueAsOrElse(config.get(NUMERIC_STORAGE_CONFIG), String.class,
+                NUMERIC_STORAGE_NONE);
+        if (!NUMERIC_STORAGE_HEAP.equals(numericStorage) && !NUMERIC_STORAGE_DIRECT.equals(numericStorage)) {
+            numericStorage = NUMERIC_STORAGE_NONE;
+        }
 
         persistMap.values().forEach(persistItem -> {
             Lock lock = persistItem.lock();
             lock.lock();
             try {
+                NumericSeries series = persistItem.series;
+                if (series != null) {
+                    if (NUMERIC_STORAGE_NONE.equals(numericStorage)) {
+                        persistItem.migrateSeries();
+                    } else {
+                        series.setMaxSize(maxEntries);
+                    }
+                }
                 while (persistItem.database().size() > maxEntries) {
                     persistItem.database().pollFirst();
                 }
@@ -151,6 +171,11 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         Lock lock = persistItem.lock();
         lock.lock();
         try {
+            NumericSeries series = persistItem.series;
+            if (series != null) {
+                removeFromSeries(series, filter);
+                return true;
+            }
             List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
             toRemove.forEach(persistItem.database()::remove);
         } finally {
@@ -174,6 +199,15 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         Lock lock = persistItem.lock();
         lock.lock();
 
+        NumericSeries series = persistItem.series;
+        if (series != null) {
+            try {
+                return querySeries(itemName, series, filter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
         Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
                 ? Comparator.comparing(PersistEntry::timestamp)
                 : Comparator.comparing(PersistEntry::timestamp).reversed();
@@ -192,14 +226,63 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return List.of(PersistenceStrategy.Globals.FORECAST);
     }
 
+    /**
+     * Query a numeric series. The time range is resolved by binary search, states are only created for the values
+     * within that range.
+     */
+    private List<HistoricItem> querySeries(String itemName, NumericSeries series, FilterCriteria filter) {
+        int from = seriesFrom(series, filter);
+        int to = seriesTo(series, filter);
+        List<HistoricItem> result = new ArrayList<>(Math.max(to - from, 0));
+        boolean ascending = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING;
+        for (int n = from; n < to; n++) {
+            int i = ascending ? n : from + to - 1 - n;
+            State state = series.stateAt(i);
+            if (appliesState(state, filter)) {
+                result.add(toHistoricItem(itemName, new PersistEntry(toZonedDateTime(series.timestampAt(i)), state)));
+            }
+        }
+        return result;
+    }
+
+    private void removeFromSeries(NumericSeries series, FilterCriteria filter) {
+        int from = seriesFrom(series, filter);
+        int to = seriesTo(series, filter);
+        series.removeIf(i -> i >= from && i < to && appliesState(series.stateAt(i), filter));
+    }
+
+    private int seriesFrom(NumericSeries series, FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        return beginDate == null ? 0 : series.lowerBound(beginDate.toInstant().toEpochMilli());
+    }
+
+    private int seriesTo(NumericSeries series, FilterCriteria filter) {
+        ZonedDateTime endDate = filter.getEndDate();
+        return endDate == null ? series.size() : series.upperBound(endDate.toInstant().toEpochMilli());
+    }
+
+    private static ZonedDateTime toZonedDateTime(long timestamp) {
+        return Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault());
+    }
+
     private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
         Lock lock = itemEntry.getValue().lock();
         lock.lock();
         try {
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            NumericSeries series = itemEntry.getValue().series;
+            Integer count;
+            Instant earliest;
+            Instant latest;
+            if (series != null && series.size() > 0) {
+                count = series.size();
+                earliest = Instant.ofEpochMilli(series.timestampAt(0));
+                latest = Instant.ofEpochMilli(series.timestampAt(series.size() - 1));
+            } else {
+                count = itemEntry.getValue().database().size();
+                earliest = itemEntry.getValue().database().first().timestamp().toInstant();
+                latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            }
             return new PersistenceItemInfo() {
 
                 @Override
@@ -251,13 +334,26 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName, k -> new PersistItem()));
 
         Lock lock = persistItem.lock();
         lock.lock();
         try {
+            if (persistItem.series == null && persistItem.database().isEmpty()
+                    && !NUMERIC_STORAGE_NONE.equals(numericStorage)) {
+                persistItem.series = NumericSeries.forState(state, NUMERIC_STORAGE_DIRECT.equals(numericStorage),
+                        maxEntries);
+            }
+            NumericSeries series = persistItem.series;
+            if (series != null) {
+                if (series.add(timestamp.toInstant().toEpochMilli(), state)) {
+                    return;
+                }
+                // the state does not fit into the numeric series, continue with the generic storage
+                logger.debug("State '{}' of item '{}' is not compatible with numeric storage, falling back.", state,
+                        itemName);
+                persistItem.migrateSeries();
+            }
             persistItem.database().add(new PersistEntry(timestamp, state));
 
             while (persistItem.database.size() > maxEntries) {
@@ -268,7 +364,6 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
     }
 
-    @SuppressWarnings("unchecked")
     private boolean applies(PersistEntry entry, FilterCriteria filter) {
         ZonedDateTime beginDate = filter.getBeginDate();
         if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
@@ -278,7 +373,11 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         if (endDate != null && endDate.isBefore(entry.timestamp())) {
             return false;
         }
+        return appliesState(entry.state(), filter);
+    }
 
+    @SuppressWarnings("unchecked")
+    private boolean appliesState(State state, FilterCriteria filter) {
         State refState = filter.getState();
         FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
@@ -287,14 +386,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
 
         if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
+            return state.equals(refState);
         }
 
         if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
+            return !state.equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -316,6 +415,30 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     private record PersistEntry(ZonedDateTime timestamp, State state) {
     }
 
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+    private static class PersistItem {
+        private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+        private final Lock lock = new ReentrantLock();
+        private @Nullable NumericSeries series;
+
+        public TreeSet<PersistEntry> database() {
+            return database;
+        }
+
+        public Lock lock() {
+            return lock;
+        }
+
+        /**
+         * Move all values from the numeric series to the generic storage. Has to be called with the lock held.
+         */
+        public void migrateSeries() {
+            NumericSeries series = this.series;
+            if (series != null) {
+                for (int i = 0; i < series.size(); i++) {
+                    database.add(new PersistEntry(toZonedDateTime(series.timestampAt(i)), series.stateAt(i)));
+                }
+                this.series = null;
+            }
+        }
     }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.function.IntPredicate;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumericSeries} stores the values of a single numeric item as primitive epoch milliseconds and
+ * {@code double} values in a circular buffer, sorted by timestamp.
+ * <p>
+ * The buffers are either plain heap buffers or direct (off-heap) buffers. They grow on demand up to the configured
+ * maximum size, after which the oldest value is overwritten. All {@link DecimalType} values or all
+ * {@link QuantityType} values with the same unit can be stored, other states are rejected.
+ * <p>
+ * This class is not thread-safe, callers have to synchronize access.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class NumericSeries {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private final boolean direct;
+    private final @Nullable Unit<?> unit;
+
+    private int maxSize;
+    private LongBuffer timestamps;
+    private DoubleBuffer values;
+    private int capacity;
+    private int head = 0;
+    private int size = 0;
+
+    private NumericSeries(boolean direct, @Nullable Unit<?> unit, long maxSize) {
+        this.direct = direct;
+        this.unit = unit;
+        this.maxSize = toMaxSize(maxSize);
+        this.capacity = this.maxSize == 0 ? INITIAL_CAPACITY : Math.min(INITIAL_CAPACITY, this.maxSize);
+        this.timestamps = allocateTimestamps(capacity);
+        this.values = allocateValues(capacity);
+    }
+
+    /**
+     * Create a series suitable for the given state.
+     *
+     * @param state the first state that shall be stored
+     * @param direct whether direct (off-heap) buffers shall be used
+     * @param maxSize the maximum number of values (0 = unlimited)
+     * @return the new series or {@code null} if the state can't be stored in a numeric series
+     */
+    public static @Nullable NumericSeries forState(State state, boolean direct, long maxSize) {
+        if (state.getClass() == DecimalType.class) {
+            return new NumericSeries(direct, null, maxSize);
+        } else if (state.getClass() == QuantityType.class) {
+            return new NumericSeries(direct, ((QuantityType<?>) state).getUnit(), maxSize);
+        }
+        return null;
+    }
+
+    /**
+     * Add a value. If a value with the same timestamp already exists, the existing value is kept.
+     *
+     * @param timestamp the timestamp in epoch milliseconds
+     * @param state the state to store
+     * @return {@code false} if the state is not compatible with this series, {@code true} otherwise
+     */
+    public boolean add(long timestamp, State state) {
+        double value;
+        Unit<?> unit = this.unit;
+        if (unit == null) {
+            if (state.getClass() != DecimalType.class) {
+                return false;
+            }
+            value = ((DecimalType) state).doubleValue();
+        } else {
+            if (state.getClass() != QuantityType.class) {
+                return false;
+            }
+            QuantityType<?> converted = ((QuantityType<?>) state).toUnit(unit);
+            if (converted == null) {
+                return false;
+            }
+            value = converted.doubleValue();
+        }
+
+        int position = lowerBound(timestamp);
+        if (position < size && timestampAt(position) == timestamp) {
+            return true;
+        }
+        if (maxSize > 0 && size >= maxSize) {
+            if (position == 0) {
+                // older than everything we keep, would be removed immediately
+                return true;
+            }
+            removeFirst(1);
+            position--;
+        }
+        if (size == capacity) {
+            resize(maxSize == 0 ? Math.min(capacity * 2, MAX_CAPACITY) : Math.min(capacity * 2, maxSize));
+        }
+        for (int i = size; i > position; i--) {
+            int to = physical(i);
+            int from = physical(i - 1);
+            timestamps.put(to, timestamps.get(from));
+            values.put(to, values.get(from));
+        }
+        timestamps.put(physical(position), timestamp);
+        values.put(physical(position), value);
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long timestampAt(int index) {
+        return timestamps.get(physical(index));
+    }
+
+    public State stateAt(int index) {
+        BigDecimal value = BigDecimal.valueOf(values.get(physical(index)));
+        Unit<?> unit = this.unit;
+        return unit == null ? new DecimalType(value) : toQuantityType(value, unit);
+    }
+
+    /**
+     * Find the first index with a timestamp equal to or after the given timestamp.
+     *
+     * @param timestamp the timestamp in epoch milliseconds
+     * @return the index, {@link #size()} if all values are older
+     */
+    public int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first index with a timestamp after the given timestamp.
+     *
+     * @param timestamp the timestamp in epoch milliseconds
+     * @return the index, {@link #size()} if no value is newer
+     */
+    public int upperBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Remove all values whose index matches the given predicate. Indices refer to the state before the removal.
+     *
+     * @param predicate the predicate
+     */
+    public void removeIf(IntPredicate predicate) {
+        int target = 0;
+        for (int index = 0; index < size; index++) {
+            if (!predicate.test(index)) {
+                if (target != index) {
+                    timestamps.put(physical(target), timestampAt(index));
+                    values.put(physical(target), values.get(physical(index)));
+                }
+                target++;
+            }
+        }
+        size = target;
+    }
+
+    /**
+     * Change the maximum size, dropping the oldest values if necessary.
+     *
+     * @param maxSize the new maximum number of values (0 = unlimited)
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = toMaxSize(maxSize);
+        if (this.maxSize > 0) {
+            if (size > this.maxSize) {
+                removeFirst(size - this.maxSize);
+            }
+            if (capacity > this.maxSize) {
+                resize(Math.max(this.maxSize, 1));
+            }
+        }
+    }
+
+    private void removeFirst(int count) {
+        head = (head + count) % capacity;
+        size -= count;
+    }
+
+    private void resize(int newCapacity) {
+        LongBuffer newTimestamps = allocateTimestamps(newCapacity);
+        DoubleBuffer newValues = allocateValues(newCapacity);
+        for (int i = 0; i < size; i++) {
+            newTimestamps.put(i, timestampAt(i));
+            newValues.put(i, values.get(physical(i)));
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        capacity = newCapacity;
+        head = 0;
+    }
+
+    private int physical(int index) {
+        int position = head + index;
+        return position >= capacity ? position - capacity : position;
+    }
+
+    private LongBuffer allocateTimestamps(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(capacity);
+    }
+
+    private DoubleBuffer allocateValues(int capacity) {
+        return direct
+                ? ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer()
+                : DoubleBuffer.allocate(capacity);
+    }
+
+    private static int toMaxSize(long maxSize) {
+        return (int) Math.min(Math.max(maxSize, 0), MAX_CAPACITY);
+    }
+
+    private static <T extends Quantity<T>> QuantityType<T> toQuantityType(BigDecimal value, Unit<T> unit) {
+        return new QuantityType<>(value, unit);
+    }
+}
@@ -21,6 +21,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,7 +36,9 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
@@ -275,4 +278,74 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void numericStorageSupportsOrderingAndRange() {
+        service.activate(Map.of("numericStorage", "heap"));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        // store out of order to verify sorted insertion
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(3), new DecimalType(4));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(1, 2, 3, 4));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        filterCriteria.setBeginDate(start.plusHours(1));
+        filterCriteria.setEndDate(start.plusHours(2));
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(3, 2));
+
+        List<ZonedDateTime> timestamps = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> timestamps.add(h.getTimestamp()));
+        assertThat(timestamps, contains(start.plusHours(2), start.plusHours(1)));
+    }
+
+    @Test
+    public void numericStorageRemoveAndMaxEntries() {
+        service.activate(Map.of("numericStorage", "direct", "maxEntries", 3L));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 5; i++) {
+            service.store(item, start.plusHours(i), new QuantityType<>(i, SIUnits.CELSIUS));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> states = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> states.add(h.getState()));
+        assertThat(states, contains(new QuantityType<>(2, SIUnits.CELSIUS), new QuantityType<>(3, SIUnits.CELSIUS),
+                new QuantityType<>(4, SIUnits.CELSIUS)));
+
+        filterCriteria.setBeginDate(start.plusHours(3));
+        filterCriteria.setEndDate(start.plusHours(3));
+        service.remove(filterCriteria);
+
+        filterCriteria = new FilterCriteria();
+        filterCriteria.setItemName(ITEM_NAME);
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        states.clear();
+        service.query(filterCriteria).forEach(h -> states.add(h.getState()));
+        assertThat(states,
+                contains(new QuantityType<>(2, SIUnits.CELSIUS), new QuantityType<>(4, SIUnits.CELSIUS)));
+    }
+
+    @Test
+    public void numericStorageFallsBackForIncompatibleStates() {
+        service.activate(Map.of("numericStorage", "heap"));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new StringType("value"));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> states = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> states.add(h.getState()));
+        assertThat(states, contains(new DecimalType(1), new StringType("value")));
+    }
 }
@@ -66,6 +66,13 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private boolean writeBehind = false;
+    private int writeBehindBatchSize = 500;
+    private int writeBehindFlushInterval = 1000;
+    private int writeBehindQueueCapacity = 10000;
+
+    private int queryFetchSize = 0;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +198,36 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String wb = (String) configuration.get("writeBehind");
+        if (wb != null && !wb.isBlank()) {
+            writeBehind = Boolean.parseBoolean(wb);
+            logger.debug("JDBC::updateConfig: writeBehind={}", writeBehind);
+        }
+
+        String wbs = (String) configuration.get("writeBehindBatchSize");
+        if (wbs != null && !wbs.isBlank() && isNumericPattern.matcher(wbs).matches()) {
+            writeBehindBatchSize = Math.max(1, Integer.parseInt(wbs));
+            logger.debug("JDBC::updateConfig: writeBehindBatchSize={}", writeBehindBatchSize);
+        }
+
+        String wfi = (String) configuration.get("writeBehindFlushInterval");
+        if (wfi != null && !wfi.isBlank() && isNumericPattern.matcher(wfi).matches()) {
+            writeBehindFlushInterval = Math.max(100, Integer.parseInt(wfi));
+            logger.debug("JDBC::updateConfig: writeBehindFlushInterval={}", writeBehindFlushInterval);
+        }
+
+        String wqc = (String) configuration.get("writeBehindQueueCapacity");
+        if (wqc != null && !wqc.isBlank() && isNumericPattern.matcher(wqc).matches()) {
+            writeBehindQueueCapacity = Math.max(1, Integer.parseInt(wqc));
+            logger.debug("JDBC::updateConfig: writeBehindQueueCapacity={}", writeBehindQueueCapacity);
+        }
+
+        String qfs = (String) configuration.get("queryFetchSize");
+        if (qfs != null && !qfs.isBlank() && isNumericPattern.matcher(qfs).matches()) {
+            queryFetchSize = Math.max(0, Integer.parseInt(qfs));
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -400,6 +437,29 @@ public class JdbcConfiguration {
         return tableUseRealItemNames && tableCaseSensitiveItemNames;
     }
 
+    public boolean getWriteBehind() {
+        return writeBehind;
+    }
+
+    public int getWriteBehindBatchSize() {
+        return writeBehindBatchSize;
+    }
+
+    public int getWriteBehindFlushInterval() {
+        return writeBehindFlushInterval;
+    }
+
+    public int getWriteBehindQueueCapacity() {
+        return writeBehindQueueCapacity;
+    }
+
+    /**
+     * @return number of rows fetched at once when query results are streamed, 0 if results are read completely
+     */
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
     public int getTableIdDigitCount() {
         return tableIdDigitCount;
     }
@@ -32,9 +32,11 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -226,6 +228,45 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Stores pending values belonging to the same item name or alias with one batch statement. If the batch is
+     * rejected, the values are written one by one so that a single bad row does not discard the others.
+     *
+     * @param values pending values, all with the same item name or alias
+     * @return number of values written
+     * @throws JdbcException if the item table cannot be resolved or created
+     */
+    protected int storeItemValues(List<JdbcPendingValue> values) throws JdbcException {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        JdbcPendingValue first = values.get(0);
+        logger.debug("JDBC::storeItemValues: item={} rows={}", first.getName(), values.size());
+        String tableName = getTable(first.getItem(), first.getAlias());
+        long timerStart = System.currentTimeMillis();
+        int stored = values.size();
+        try {
+            conf.getDBDAO().doStoreItemValues(tableName, values);
+        } catch (JdbcSQLException e) {
+            logger.debug("JDBC::storeItemValues: batch insert into '{}' failed, storing rows one by one: {}", tableName,
+                    e.getMessage());
+            stored = 0;
+            for (JdbcPendingValue value : values) {
+                try {
+                    conf.getDBDAO().doStoreItemValue(value.getItem(), value.getState(), new ItemVO(tableName, null),
+                            value.getDate());
+                    stored++;
+                } catch (JdbcSQLException rowException) {
+                    logger.warn("JDBC::storeItemValues: Unable to store state '{}' of item '{}' at {}: {}",
+                            value.getState(), value.getName(), value.getDate(), rowException.getMessage());
+                }
+            }
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return stored;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -243,6 +284,25 @@ public class JdbcMapper {
         return result;
     }
 
+    protected Iterable<HistoricItem> getHistItemFilterCursor(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item, int fetchSize) {
+        logger.debug("JDBC::getHistItemFilterCursor table='{}' itemName='{}' fetchSize='{}'", table, item.getName(),
+                fetchSize);
+        return conf.getDBDAO().doGetHistItemFilterCursor(item, filter, numberDecimalcount, table, item.getName(),
+                timeZoneProvider.getTimeZone(), fetchSize);
+    }
+
+    protected @Nullable Number getAggregate(AggregateFunction function, FilterCriteria filter, String table)
+            throws JdbcSQLException {
+        logger.debug("JDBC::getAggregate function='{}' table='{}' itemName='{}'", function, table,
+                filter.getItemName());
+        long timerStart = System.currentTimeMillis();
+        Number result = conf.getDBDAO().doGetAggregate(function, filter, table, timeZoneProvider.getTimeZone());
+        logTime("getAggregate", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
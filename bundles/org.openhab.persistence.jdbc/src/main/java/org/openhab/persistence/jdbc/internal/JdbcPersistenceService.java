@@ -21,10 +21,17 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
@@ -34,6 +41,11 @@ import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.DimmerItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.RollershutterItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -44,8 +56,10 @@ import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -77,6 +91,10 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private @Nullable JdbcWriteBehindQueue writeBehindQueue;
+    private @Nullable ScheduledFuture<?> writeBehindJob;
+    private final AtomicBoolean writeBehindFlushPending = new AtomicBoolean();
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -120,6 +138,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        stopWriteBehind();
         // closeConnection();
         initialized = false;
     }
@@ -137,22 +156,155 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        if (!enqueue(item, null, item.getState(), null)) {
+            scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        }
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        if (!enqueue(item, null, item.getState(), alias)) {
+            scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        }
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        if (!enqueue(item, date, state, null)) {
+            scheduler.execute(() -> internalStore(item, date, state, null));
+        }
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        if (!enqueue(item, date, state, alias)) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+        }
+    }
+
+    /**
+     * Hands a state over to the write-behind queue if write-behind mode is enabled.
+     *
+     * @return true if the state was handled by the write-behind queue (queued, dropped or ignored), false if it must
+     *         be stored directly
+     */
+    private boolean enqueue(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcWriteBehindQueue writeBehindQueue = this.writeBehindQueue;
+        if (writeBehindQueue == null) {
+            return false;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return true;
+        }
+        // The timestamp is taken now, as the row is written later
+        ZonedDateTime timestamp = date != null ? date : ZonedDateTime.now();
+        if (writeBehindQueue.offer(new JdbcPendingValue(item, state, timestamp, alias))
+                && writeBehindFlushPending.compareAndSet(false, true)) {
+            scheduler.execute(this::flushWriteBehindQueue);
+        }
+        return true;
+    }
+
+    private synchronized void flushWriteBehindQueue() {
+        writeBehindFlushPending.set(false);
+        JdbcWriteBehindQueue writeBehindQueue = this.writeBehindQueue;
+        if (writeBehindQueue == null || writeBehindQueue.isEmpty()) {
+            return;
+        }
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::flush: No connection to database. {} states are waiting in the write-behind queue. Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    writeBehindQueue.getQueueDepth(), errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+        // only drain what is queued now, so that a steady inflow cannot keep the scheduler thread busy forever
+        int remaining = writeBehindQueue.getQueueDepth();
+        while (remaining > 0 && !writeBehindQueue.isEmpty()) {
+            long timerStart = System.currentTimeMillis();
+            int rows = 0;
+            for (List<JdbcPendingValue> values : writeBehindQueue.drainBatch().values()) {
+                remaining -= values.size();
+                rows += storePendingValues(writeBehindQueue, values);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: Stored {} states from write-behind queue in {} ms, {} states left.", rows,
+                        System.currentTimeMillis() - timerStart, writeBehindQueue.getQueueDepth());
+            }
+        }
+    }
+
+    /**
+     * Writes the pending states of an item or alias, so that queries and removals see them.
+     *
+     * @param name the item name or alias
+     */
+    private synchronized void flushWriteBehindQueue(String name) {
+        JdbcWriteBehindQueue writeBehindQueue = this.writeBehindQueue;
+        if (writeBehindQueue == null) {
+            return;
+        }
+        List<JdbcPendingValue> values = writeBehindQueue.drain(name);
+        if (!values.isEmpty()) {
+            int rows = storePendingValues(writeBehindQueue, values);
+            logger.debug("JDBC: Stored {} pending states of item '{}' from write-behind queue.", rows, name);
+        }
+    }
+
+    private int storePendingValues(JdbcWriteBehindQueue writeBehindQueue, List<JdbcPendingValue> values) {
+        try {
+            int stored = storeItemValues(values);
+            writeBehindQueue.recordStored(stored);
+            writeBehindQueue.recordDropped(values.size() - stored);
+            return stored;
+        } catch (JdbcException e) {
+            writeBehindQueue.recordDropped(values.size());
+            logger.warn("JDBC::flush: Unable to store {} states of item '{}'", values.size(), values.get(0).getName(),
+                    e);
+            return 0;
+        }
+    }
+
+    private void startWriteBehind() {
+        stopWriteBehind();
+        if (!conf.getWriteBehind()) {
+            return;
+        }
+        logger.debug("JDBC::startWriteBehind: batchSize={} flushInterval={} ms queueCapacity={}",
+                conf.getWriteBehindBatchSize(), conf.getWriteBehindFlushInterval(),
+                conf.getWriteBehindQueueCapacity());
+        writeBehindQueue = new JdbcWriteBehindQueue(conf.getWriteBehindQueueCapacity(),
+                conf.getWriteBehindBatchSize());
+        int flushInterval = conf.getWriteBehindFlushInterval();
+        writeBehindJob = scheduler.scheduleWithFixedDelay(this::flushWriteBehindQueue, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void stopWriteBehind() {
+        ScheduledFuture<?> writeBehindJob = this.writeBehindJob;
+        if (writeBehindJob != null) {
+            writeBehindJob.cancel(false);
+            this.writeBehindJob = null;
+        }
+        if (writeBehindQueue != null) {
+            // write what is left before switching back to direct writes
+            try {
+                scheduler.submit(this::flushWriteBehindQueue).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                logger.warn("JDBC::stopWriteBehind: Unable to flush write-behind queue", e);
+            }
+            writeBehindQueue = null;
+        }
+    }
+
+    /**
+     * Get the write-behind queue, if write-behind mode is enabled.
+     */
+    public @Nullable JdbcWriteBehindQueue getWriteBehindQueue() {
+        return writeBehindQueue;
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -214,35 +366,19 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
-        Item item = null;
         String itemName = filter.getItemName();
         if (itemName == null) {
             logger.warn("Item name is missing in filter {}", filter);
             return List.of();
         }
         logger.debug("JDBC::query: item is {}", itemName);
-        try {
-            item = itemRegistry.getItem(itemName);
-        } catch (ItemNotFoundException e1) {
-            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+        Item item = getQueryItem(itemName);
+        if (item == null) {
             return List.of();
         }
 
-        if (item instanceof GroupItem) {
-            // For Group Item is BaseItem needed to get correct Type of Value.
-            item = GroupItem.class.cast(item).getBaseItem();
-            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
-            if (item == null) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
-                return List.of();
-            }
-            if (item instanceof GroupItem) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
-                return List.of();
-            }
-        }
-
         String localAlias = alias != null ? alias : itemName;
+        flushWriteBehindQueue(localAlias);
         String table = itemNameToTableNameMap.get(localAlias);
         if (table == null) {
             logger.debug("JDBC::query: unable to find table for item with name or alias: '{}', no data in database.",
@@ -250,6 +386,17 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return List.of();
         }
 
+        int fetchSize = conf.getQueryFetchSize();
+        if (fetchSize > 0 && filter.getPageSize() == Integer.MAX_VALUE) {
+            // the query is executed when the result is iterated, so write the states queued until then first
+            Iterable<HistoricItem> cursor = getHistItemFilterCursor(filter, conf.getNumberDecimalcount(), table, item,
+                    fetchSize);
+            return () -> {
+                flushWriteBehindQueue(localAlias);
+                return cursor.iterator();
+            };
+        }
+
         try {
             long timerStart = System.currentTimeMillis();
             List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
@@ -266,6 +413,85 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    /**
+     * Computes an aggregate of the persisted values of a numeric item in the database, without reading the values.
+     * The time range of the filter is used; ordering, paging and state conditions are ignored.
+     *
+     * @param filter the filter to apply to the query
+     * @param alias for the item
+     * @param function the aggregate function
+     * @return the aggregate, with the unit of the item except for {@link AggregateFunction#COUNT}, or null if no
+     *         value was found or the item is not numeric
+     */
+    public @Nullable State aggregate(FilterCriteria filter, @Nullable String alias, AggregateFunction function) {
+        if (!checkDBAccessability()) {
+            logger.warn("JDBC::aggregate: database not connected, query aborted for item '{}'", filter.getItemName());
+            return null;
+        }
+        String itemName = filter.getItemName();
+        if (itemName == null) {
+            logger.warn("Item name is missing in filter {}", filter);
+            return null;
+        }
+        Item item = getQueryItem(itemName);
+        if (!(item instanceof NumberItem || item instanceof DimmerItem || item instanceof RollershutterItem)) {
+            logger.debug("JDBC::aggregate: item '{}' is not numeric", itemName);
+            return null;
+        }
+        String localAlias = alias != null ? alias : itemName;
+        flushWriteBehindQueue(localAlias);
+        String table = itemNameToTableNameMap.get(localAlias);
+        if (table == null) {
+            return null;
+        }
+
+        try {
+            long timerStart = System.currentTimeMillis();
+            Number value = getAggregate(function, filter, table);
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: {} of item '{}' is {}, computed in {} ms", function, itemName, value,
+                        System.currentTimeMillis() - timerStart);
+            }
+            if (value == null) {
+                return null;
+            }
+            Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+            return unit != null && function.hasItemUnit() ? QuantityType.valueOf(value.doubleValue(), unit)
+                    : new DecimalType(value);
+        } catch (JdbcSQLException e) {
+            logger.warn("JDBC::aggregate: Unable to query item", e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the item whose type determines how persisted values are converted, the base item for group items.
+     */
+    private @Nullable Item getQueryItem(String itemName) {
+        Item item;
+        try {
+            item = itemRegistry.getItem(itemName);
+        } catch (ItemNotFoundException e1) {
+            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+            return null;
+        }
+
+        if (item instanceof GroupItem) {
+            // For Group Item is BaseItem needed to get correct Type of Value.
+            item = GroupItem.class.cast(item).getBaseItem();
+            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
+            if (item == null) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
+                return null;
+            }
+            if (item instanceof GroupItem) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
+                return null;
+            }
+        }
+        return item;
+    }
+
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
@@ -283,6 +509,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         } else {
             initialized = false;
         }
+        startWriteBehind();
 
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
@@ -307,6 +534,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             throw new IllegalArgumentException("Item name must not be null");
         }
 
+        // states queued before the removal must not be written after it
+        flushWriteBehindQueue(itemName);
         String table = itemNameToTableNameMap.get(itemName);
         if (table == null) {
             logger.debug("JDBC::remove: unable to find table for item with name: '{}', no data in database.", itemName);
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of states waiting to be written to the database in batches (write-behind mode).
+ *
+ * States are accepted without blocking the caller. When the queue is full, new states are dropped and counted.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBehindQueue {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteBehindQueue.class);
+
+    private final BlockingQueue<JdbcPendingValue> queue;
+    private final int batchSize;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    public JdbcWriteBehindQueue(int capacity, int batchSize) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Adds a state to the queue.
+     *
+     * @param value the pending state
+     * @return true if a full batch is now waiting to be flushed
+     */
+    public boolean offer(JdbcPendingValue value) {
+        if (!queue.offer(value)) {
+            long dropped = droppedCount.incrementAndGet();
+            logger.debug("JDBC::offer: write-behind queue full, dropped state '{}' for item '{}' ({} dropped so far)",
+                    value.getState(), value.getName(), dropped);
+            return false;
+        }
+        return queue.size() >= batchSize;
+    }
+
+    /**
+     * Removes up to one batch of pending states and groups them by item name or alias, keeping insertion order
+     * within each group.
+     *
+     * @return pending states per item name or alias, empty if nothing is queued
+     */
+    public Map<String, List<JdbcPendingValue>> drainBatch() {
+        List<JdbcPendingValue> drained = new ArrayList<>(Math.min(batchSize, queue.size()));
+        queue.drainTo(drained, batchSize);
+        Map<String, List<JdbcPendingValue>> grouped = new LinkedHashMap<>();
+        for (JdbcPendingValue value : drained) {
+            grouped.computeIfAbsent(value.getName(), k -> new ArrayList<>()).add(value);
+        }
+        return grouped;
+    }
+
+    /**
+     * Removes all pending states of an item name or alias, keeping insertion order.
+     *
+     * @param name the item name or alias
+     * @return the pending states, empty if nothing is queued for the name
+     */
+    public List<JdbcPendingValue> drain(String name) {
+        List<JdbcPendingValue> drained = new ArrayList<>();
+        // removeIf visits the states in queue order while holding the queue lock
+        queue.removeIf(value -> value.getName().equals(name) && drained.add(value));
+        return drained;
+    }
+
+    /**
+     * Records the outcome of writing one group of pending states.
+     *
+     * @param rows number of states written
+     */
+    public void recordStored(int rows) {
+        storedCount.addAndGet(rows);
+        batchCount.incrementAndGet();
+    }
+
+    /**
+     * Records states that were taken from the queue but could not be written.
+     *
+     * @param rows number of states lost
+     */
+    public void recordDropped(int rows) {
+        droppedCount.addAndGet(rows);
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+}
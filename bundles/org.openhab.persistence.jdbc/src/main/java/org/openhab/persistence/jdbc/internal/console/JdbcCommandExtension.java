@@ -12,10 +12,12 @@
  */
 package org.openhab.persistence.jdbc.internal.console;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -28,12 +30,16 @@ import org.openhab.core.io.console.ConsoleCommandCompleter;
 import org.openhab.core.io.console.StringsCompleter;
 import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
 import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.core.types.State;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
+import org.openhab.persistence.jdbc.internal.JdbcWriteBehindQueue;
+import org.openhab.persistence.jdbc.internal.dto.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -51,6 +57,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_QUEUE = "queue";
+    private static final String CMD_AGGREGATE = "aggregate";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
@@ -58,11 +66,13 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_QUEUE, CMD_AGGREGATE), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_TABLES_LIST, SUBCMD_TABLES_CLEAN), false);
+    private static final StringsCompleter SUBCMD_AGGREGATE_COMPLETER = new StringsCompleter(
+            Stream.of(AggregateFunction.values()).map(f -> f.name().toLowerCase(Locale.ROOT)).toList(), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
 
@@ -135,6 +145,11 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_QUEUE.equalsIgnoreCase(args[0])) {
+            printQueue(persistenceService, console);
+            return true;
+        } else if (args.length > 2 && CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+            return printAggregate(persistenceService, console, args);
         }
         return false;
     }
@@ -252,6 +267,39 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void printQueue(JdbcPersistenceService persistenceService, Console console) {
+        JdbcWriteBehindQueue writeBehindQueue = persistenceService.getWriteBehindQueue();
+        if (writeBehindQueue == null) {
+            console.println("Write-behind mode is disabled.");
+            return;
+        }
+        console.println("Queue depth:        " + writeBehindQueue.getQueueDepth());
+        console.println("Remaining capacity: " + writeBehindQueue.getRemainingCapacity());
+        console.println("Stored states:      " + writeBehindQueue.getStoredCount());
+        console.println("Batches written:    " + writeBehindQueue.getBatchCount());
+        console.println("Dropped states:     " + writeBehindQueue.getDroppedCount());
+    }
+
+    private boolean printAggregate(JdbcPersistenceService persistenceService, Console console, String[] args) {
+        AggregateFunction function;
+        int hours = 24;
+        try {
+            function = AggregateFunction.valueOf(args[1].toUpperCase(Locale.ROOT));
+            if (args.length == 4) {
+                hours = Integer.parseInt(args[3]);
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(args[2]);
+        filter.setBeginDate(ZonedDateTime.now().minusHours(hours));
+        State result = persistenceService.aggregate(filter, null, function);
+        console.println(function + " of " + args[2] + " in the last " + hours + " hours: "
+                + (result != null ? result.toFullString() : "no values"));
+        return true;
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -261,7 +309,10 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_QUEUE, "show write-behind queue statistics"),
+                buildCommandUsage(CMD_AGGREGATE + " <function> <itemName> [<hours>]",
+                        "compute min, max, avg, sum or count of the values of the last hours (default 24)"));
     }
 
     @Override
@@ -278,6 +329,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 return SUBCMD_TABLES_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
             } else if (CMD_SCHEMA.equalsIgnoreCase(args[0])) {
                 return SUBCMD_SCHEMA_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+            } else if (CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+                return SUBCMD_AGGREGATE_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
             }
         } else if (cursorArgumentIndex == 2) {
             if (CMD_TABLES.equalsIgnoreCase(args[0])) {
@@ -291,6 +344,12 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                     new StringsCompleter(List.of(PARAMETER_ALL), false).complete(args, cursorArgumentIndex,
                             cursorPosition, candidates);
                 }
+            } else if (CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+                JdbcPersistenceService persistenceService = getPersistenceService();
+                if (persistenceService != null) {
+                    return new StringsCompleter(persistenceService.getItemNames(), true).complete(args,
+                            cursorArgumentIndex, cursorPosition, candidates);
+                }
             } else if (CMD_SCHEMA.equalsIgnoreCase(args[0])) {
                 if (SUBCMD_SCHEMA_FIX.equalsIgnoreCase(args[1])) {
                     JdbcPersistenceService persistenceService = getPersistenceService();
@@ -33,6 +33,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.items.ColorItem;
@@ -56,10 +57,12 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.jdbc.internal.dto.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -97,6 +100,7 @@ public class JdbcBaseDAO {
     protected String sqlAlterTableColumn = "ALTER TABLE #tableName# MODIFY COLUMN #columnName# #columnType#";
     protected String sqlInsertItemValue = "INSERT INTO #tableName# (time, value) VALUES( #tablePrimaryValue#, ? ) ON DUPLICATE KEY UPDATE VALUE= ?";
     protected String sqlGetRowCount = "SELECT COUNT(*) FROM #tableName#";
+    protected String sqlGetAggregate = "SELECT #function#(value) FROM #tableName#";
 
     /********
      * INIT *
@@ -446,12 +450,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = insertItemValueSqlProvider(storedVO);
+        Object[] params = insertItemValueParamsProvider(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +460,47 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values of the same item table with a single JDBC batch.
+     *
+     * @param tableName table the values are written to
+     * @param values pending values, each carrying its own item, state and timestamp
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(String tableName, List<JdbcPendingValue> values) throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = "";
+        Object[][] params = new Object[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            JdbcPendingValue value = values.get(i);
+            ItemVO storedVO = storeItemValueProvider(value.getItem(), value.getState(), new ItemVO(tableName, null));
+            if (i == 0) {
+                // all rows target the same table and item type, so they share one statement
+                sql = insertItemValueSqlProvider(storedVO);
+            }
+            params[i] = insertItemValueParamsProvider(storedVO, value.getDate());
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    protected String insertItemValueSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    protected Object[] insertItemValueParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -481,6 +523,47 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries historic items with a forward-only cursor. The query is executed when the result is iterated, and
+     * states are created one row at a time.
+     *
+     * @param fetchSize number of rows fetched from the database at once
+     * @return the result, iterating it opens a new cursor
+     */
+    public Iterable<HistoricItem> doGetHistItemFilterCursor(Item item, FilterCriteria filter, int numberDecimalcount,
+            String table, String name, ZoneId timeZone, int fetchSize) {
+        String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
+        logger.debug("JDBC::doGetHistItemFilterCursor sql={} fetchSize={}", sql, fetchSize);
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        return new JdbcHistoricItemCursor(sql, fetchSize, () -> Yank.getDefaultConnectionPool().getConnection(),
+                ThreadPoolManager.getScheduledPool("org.openhab.jdbc"), JdbcHistoricItemCursor.DEFAULT_IDLE_TIMEOUT,
+                (time, value) -> new JdbcHistoricItem(itemName, objectAsState(item, unit, value),
+                        objectAsInstant(time)));
+    }
+
+    /**
+     * Computes an aggregate over the values of an item table within the time range of the filter.
+     *
+     * @return the aggregate or null if there are no values in the range
+     * @throws JdbcSQLException on SQL errors
+     */
+    public @Nullable Number doGetAggregate(AggregateFunction function, FilterCriteria filter, String table,
+            ZoneId timeZone) throws JdbcSQLException {
+        String sql = aggregateQueryProvider(function, filter, table, timeZone);
+        logger.debug("JDBC::doGetAggregate sql={}", sql);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        // aggregates over no rows are NULL, except COUNT
+        Object result = m == null || m.isEmpty() || m.get(0).length == 0 ? null : m.get(0)[0];
+        return result == null ? null : objectAsNumber(result);
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -531,6 +614,16 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    protected String aggregateQueryProvider(AggregateFunction function, FilterCriteria filter, String table,
+            ZoneId timeZone) {
+        String queryString = StringUtilsExt.replaceArrayMerge(sqlGetAggregate,
+                new String[] { "#function#", "#tableName#" },
+                new String[] { function.name(), formattedIdentifier(table) });
+        queryString += resolveTimeFilter(filter, timeZone);
+        logger.debug("JDBC::aggregate queryString = {}", queryString);
+        return queryString;
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Query result that is read from a forward-only database cursor while it is iterated.
+ *
+ * Every call to {@link #iterator()} executes the query on its own connection, which is returned to the pool when the
+ * last row has been read. Rows are fetched from the database in chunks of the fetch size and mapped to
+ * {@link HistoricItem}s one at a time, so only the current chunk is held in memory. Iterators that are abandoned
+ * before the end return their connection once no row has been requested for the idle timeout; iterating them further
+ * ends the result early.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemCursor implements Iterable<HistoricItem> {
+
+    /**
+     * The time after which the connection of an iterator that is not read anymore is returned to the pool.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Maps the <code>time</code> and <code>value</code> column of a row to a {@link HistoricItem}.
+     */
+    @FunctionalInterface
+    public interface RowMapper {
+        HistoricItem map(Object time, Object value);
+    }
+
+    /**
+     * Borrows a connection from the connection pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+        Connection getConnection() throws SQLException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcHistoricItemCursor.class);
+
+    private final String sql;
+    private final int fetchSize;
+    private final ConnectionSupplier connectionSupplier;
+    private final ScheduledExecutorService scheduler;
+    private final Duration idleTimeout;
+    private final RowMapper rowMapper;
+
+    /**
+     * @param sql the query, which must select the <code>time</code> and <code>value</code> column
+     * @param fetchSize number of rows fetched from the database at once
+     * @param connectionSupplier borrows the connection the query is executed on
+     * @param scheduler the scheduler the idle timeout is checked on
+     * @param idleTimeout the time after which the connection of an iterator that is not read anymore is closed
+     * @param rowMapper maps the rows to {@link HistoricItem}s
+     */
+    public JdbcHistoricItemCursor(String sql, int fetchSize, ConnectionSupplier connectionSupplier,
+            ScheduledExecutorService scheduler, Duration idleTimeout, RowMapper rowMapper) {
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.connectionSupplier = connectionSupplier;
+        this.scheduler = scheduler;
+        this.idleTimeout = idleTimeout;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new CursorIterator();
+    }
+
+    private class CursorIterator implements Iterator<HistoricItem> {
+        // guards the database resources below, which are also closed by the idle check
+        private final ReentrantLock lock = new ReentrantLock();
+        private @Nullable Connection connection;
+        private @Nullable PreparedStatement statement;
+        private @Nullable ResultSet resultSet;
+        private volatile @Nullable ScheduledFuture<?> idleCheck;
+        private volatile boolean closed;
+        private volatile long lastReadNanos;
+
+        // only used by the iterating thread
+        private @Nullable Object time;
+        private @Nullable Object value;
+        private boolean done;
+
+        @Override
+        public boolean hasNext() {
+            if (time == null && !done) {
+                advance();
+            }
+            return !done;
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object rowTime = time;
+            Object rowValue = value;
+            time = null;
+            value = null;
+            if (rowTime == null || rowValue == null) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return rowMapper.map(rowTime, rowValue);
+            } catch (RuntimeException e) {
+                done = true;
+                close();
+                throw e;
+            }
+        }
+
+        private void advance() {
+            lock.lock();
+            try {
+                if (closed) {
+                    done = true;
+                    return;
+                }
+                ResultSet resultSet = this.resultSet;
+                if (resultSet == null) {
+                    resultSet = open();
+                }
+                while (resultSet.next()) {
+                    Object rowTime = resultSet.getObject(1);
+                    Object rowValue = resultSet.getObject(2);
+                    if (rowTime != null && rowValue != null) {
+                        time = rowTime;
+                        value = rowValue;
+                        lastReadNanos = System.nanoTime();
+                        return;
+                    }
+                    logger.debug("JDBC::JdbcHistoricItemCursor: skipping row without value at {}", rowTime);
+                }
+            } catch (SQLException e) {
+                logger.warn("JDBC::JdbcHistoricItemCursor: Unable to read query result, result is incomplete: {}",
+                        e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+            done = true;
+            close();
+        }
+
+        private ResultSet open() throws SQLException {
+            logger.debug("JDBC::JdbcHistoricItemCursor: open cursor fetchSize={} sql={}", fetchSize, sql);
+            lastReadNanos = System.nanoTime();
+            Connection connection = connectionSupplier.getConnection();
+            this.connection = connection;
+            idleCheck = scheduler.schedule(this::checkIdle, idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            // some drivers, e.g. PostgreSQL, only fetch in chunks within a transaction
+            connection.setAutoCommit(false);
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            this.statement = statement;
+            statement.setFetchSize(fetchSize);
+            ResultSet resultSet = statement.executeQuery();
+            this.resultSet = resultSet;
+            return resultSet;
+        }
+
+        private void checkIdle() {
+            if (closed) {
+                return;
+            }
+            long idleNanos = System.nanoTime() - lastReadNanos;
+            if (idleNanos >= idleTimeout.toNanos() && lock.tryLock()) {
+                try {
+                    logger.debug("JDBC::JdbcHistoricItemCursor: closing cursor not read for {} ms, sql={}",
+                            TimeUnit.NANOSECONDS.toMillis(idleNanos), sql);
+                    close();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            // read recently, or a chunk is being fetched right now
+            long delayNanos = idleNanos < idleTimeout.toNanos() ? idleTimeout.toNanos() - idleNanos
+                    : idleTimeout.toNanos();
+            idleCheck = scheduler.schedule(this::checkIdle, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                ScheduledFuture<?> idleCheck = this.idleCheck;
+                if (idleCheck != null) {
+                    idleCheck.cancel(false);
+                    this.idleCheck = null;
+                }
+                closeResources();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void closeResources() {
+            ResultSet resultSet = this.resultSet;
+            PreparedStatement statement = this.statement;
+            Connection connection = this.connection;
+            this.resultSet = null;
+            this.statement = null;
+            this.connection = null;
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                if (statement != null) {
+                    statement.close();
+                }
+            } catch (SQLException e) {
+                logger.debug("JDBC::JdbcHistoricItemCursor: Unable to close cursor: {}", e.getMessage());
+            }
+            if (connection != null) {
+                try {
+                    // nothing was written, ending the read-only transaction
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    logger.debug("JDBC::JdbcHistoricItemCursor: Unable to end transaction: {}", e.getMessage());
+                }
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    logger.debug("JDBC::JdbcHistoricItemCursor: Unable to return connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -76,6 +76,7 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
         databaseProps.setProperty("dataSource.jdbcCompliantTruncation", "false");// jdbc standard max varchar max length
                                                                                  // of 21845
+        databaseProps.setProperty("dataSource.rewriteBatchedStatements", "true");// batches become multi-row inserts
 
         // Properties for HikariCP
         // Use driverClassName
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Aggregate functions that are computed by the database over the <code>value</code> column of an item table.
+ *
+ * Unlike the persistence extensions, {@link #AVG} is the plain average of the stored values and not weighted by the
+ * time each value was valid.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum AggregateFunction {
+    MIN,
+    MAX,
+    AVG,
+    SUM,
+    COUNT;
+
+    /**
+     * @return true if the result has the unit of the item
+     */
+    public boolean hasItemUnit() {
+        return this != COUNT;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
+
+/**
+ * Tests the {@link JdbcWriteBehindQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBehindQueueTest {
+
+    private static final NumberItem ITEM_A = new NumberItem("ItemA");
+    private static final NumberItem ITEM_B = new NumberItem("ItemB");
+
+    private static JdbcPendingValue value(NumberItem item, int value, @Nullable String alias) {
+        return new JdbcPendingValue(item, new DecimalType(value), ZonedDateTime.now(), alias);
+    }
+
+    @Test
+    void offerSignalsFullBatch() {
+        JdbcWriteBehindQueue queue = new JdbcWriteBehindQueue(10, 2);
+        assertThat(queue.offer(value(ITEM_A, 1, null)), is(false));
+        assertThat(queue.offer(value(ITEM_A, 2, null)), is(true));
+        assertThat(queue.getQueueDepth(), is(2));
+    }
+
+    @Test
+    void offerDropsWhenFull() {
+        JdbcWriteBehindQueue queue = new JdbcWriteBehindQueue(2, 10);
+        queue.offer(value(ITEM_A, 1, null));
+        queue.offer(value(ITEM_A, 2, null));
+        assertThat(queue.offer(value(ITEM_A, 3, null)), is(false));
+        assertThat(queue.getQueueDepth(), is(2));
+        assertThat(queue.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    void drainBatchGroupsByNameAndKeepsOrder() {
+        JdbcWriteBehindQueue queue = new JdbcWriteBehindQueue(10, 10);
+        queue.offer(value(ITEM_A, 1, null));
+        queue.offer(value(ITEM_B, 2, null));
+        queue.offer(value(ITEM_A, 3, null));
+        queue.offer(value(ITEM_A, 4, "Alias"));
+
+        Map<String, List<JdbcPendingValue>> batch = queue.drainBatch();
+
+        assertThat(batch.size(), is(3));
+        List<JdbcPendingValue> itemA = Objects.requireNonNull(batch.get("ItemA"));
+        assertThat(itemA.size(), is(2));
+        assertThat(itemA.get(0).getState(), is(new DecimalType(1)));
+        assertThat(itemA.get(1).getState(), is(new DecimalType(3)));
+        assertThat(Objects.requireNonNull(batch.get("ItemB")).size(), is(1));
+        assertThat(Objects.requireNonNull(batch.get("Alias")).size(), is(1));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    void drainBatchIsLimitedToBatchSize() {
+        JdbcWriteBehindQueue queue = new JdbcWriteBehindQueue(10, 2);
+        queue.offer(value(ITEM_A, 1, null));
+        queue.offer(value(ITEM_A, 2, null));
+        queue.offer(value(ITEM_A, 3, null));
+
+        assertThat(Objects.requireNonNull(queue.drainBatch().get("ItemA")).size(), is(2));
+        assertThat(queue.getQueueDepth(), is(1));
+    }
+
+    @Test
+    void drainRemovesOnlyStatesOfName() {
+        JdbcWriteBehindQueue queue = new JdbcWriteBehindQueue(10, 10);
+        queue.offer(value(ITEM_A, 1, null));
+        queue.offer(value(ITEM_B, 2, null));
+        queue.offer(value(ITEM_A, 3, null));
+        queue.offer(value(ITEM_A, 4, "Alias"));
+
+        List<JdbcPendingValue> itemA = queue.drain("ItemA");
+
+        assertThat(itemA.size(), is(2));
+        assertThat(itemA.get(0).getState(), is(new DecimalType(1)));
+        assertThat(itemA.get(1).getState(), is(new DecimalType(3)));
+        assertThat(queue.getQueueDepth(), is(2));
+        assertThat(queue.drain("ItemA").isEmpty(), is(true));
+    }
+}
@@ -66,6 +66,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.AggregateFunction;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -210,6 +211,26 @@ public class JdbcBaseDAOTest {
                 + "'"));
     }
 
+    @Test
+    void testAggregateQueryProviderWithoutDatesReturnsQueryWithoutWhereClause() {
+        String sql = jdbcBaseDAO.aggregateQueryProvider(AggregateFunction.MAX, filter, DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT MAX(value) FROM " + DB_TABLE_NAME));
+    }
+
+    @Test
+    void testAggregateQueryProviderWithStartAndEndDateIgnoresOrderingAndPaging() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+        filter.setPageSize(1);
+
+        String sql = jdbcBaseDAO.aggregateQueryProvider(AggregateFunction.AVG, filter, DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT AVG(value) FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
+                + "'"));
+    }
+
     @Test
     void testResolveTimeFilterWithNoDatesReturnsEmptyString() {
         String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+
+/**
+ * Tests the {@link JdbcHistoricItemCursor}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemCursorTest {
+    private static final String SQL = "SELECT time, value FROM item0001";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private JdbcHistoricItemCursor cursor(Duration idleTimeout) {
+        return new JdbcHistoricItemCursor(SQL, 100, () -> connection, scheduler, idleTimeout,
+                (time, value) -> new JdbcHistoricItem("Item", new DecimalType((Integer) value),
+                        Instant.ofEpochMilli((Long) time)));
+    }
+
+    private static List<Integer> values(Iterator<HistoricItem> iterator) {
+        List<Integer> values = new ArrayList<>();
+        iterator.forEachRemaining(item -> values.add(((DecimalType) item.getState()).intValue()));
+        return values;
+    }
+
+    @Test
+    public void testFullIterationReturnsConnection() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1000L, 2000L, 3000L);
+        when(resultSet.getObject(2)).thenReturn(1, null, 3);
+
+        assertThat(values(cursor(Duration.ofMinutes(1)).iterator()), is(equalTo(List.of(1, 3))));
+
+        verify(statement).setFetchSize(100);
+        verify(connection).setAutoCommit(false);
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testQueryIsExecutedOnIteration() throws SQLException {
+        JdbcHistoricItemCursor cursor = cursor(Duration.ofMinutes(1));
+        verifyNoInteractions(connection);
+
+        when(resultSet.next()).thenReturn(false);
+        assertThat(cursor.iterator().hasNext(), is(false));
+        assertThat(cursor.iterator().hasNext(), is(false));
+
+        verify(statement, times(2)).executeQuery();
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    public void testAbandonedIteratorReturnsConnectionAfterIdleTimeout() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn(1000L);
+        when(resultSet.getObject(2)).thenReturn(1);
+
+        Iterator<HistoricItem> iterator = cursor(Duration.ofMillis(100)).iterator();
+        iterator.next();
+        assertThat(iterator.hasNext(), is(true));
+
+        verify(connection, timeout(5000)).close();
+        verify(connection).rollback();
+        verify(resultSet).close();
+        // the buffered row is still returned, then the result ends
+        assertThat(iterator.hasNext(), is(true));
+        iterator.next();
+        assertThat(iterator.hasNext(), is(false));
+        verify(connection).close();
+    }
+
+    @Test
+    public void testIteratorInUseIsNotClosed() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1000L, 2000L, 3000L);
+        when(resultSet.getObject(2)).thenReturn(1, 2, 3);
+
+        Iterator<HistoricItem> iterator = cursor(Duration.ofMillis(300)).iterator();
+        List<Integer> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            values.add(((DecimalType) iterator.next().getState()).intValue());
+            Thread.sleep(100);
+        }
+
+        assertThat(values, is(equalTo(List.of(1, 2, 3))));
+        verify(connection).close();
+    }
+
+    @Test
+    public void testSQLExceptionEndsResultAndReturnsConnection() throws SQLException {
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("connection lost"));
+        when(resultSet.getObject(1)).thenReturn(1000L);
+        when(resultSet.getObject(2)).thenReturn(1);
+
+        assertThat(values(cursor(Duration.ofMinutes(1)).iterator()), is(equalTo(List.of(1))));
+
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testFailingQueryReturnsConnection() throws SQLException {
+        when(statement.executeQuery()).thenThrow(new SQLException("syntax error"));
+
+        assertThat(cursor(Duration.ofMinutes(1)).iterator().hasNext(), is(false));
+
+        verify(statement).close();
+        verify(connection).close();
+    }
+}
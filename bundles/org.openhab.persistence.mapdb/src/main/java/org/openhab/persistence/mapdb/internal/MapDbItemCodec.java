@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes {@link MapDbItem}s in a compact binary format.
+ * <p>
+ * The most common states are written with a dedicated tag, all other states are written with their class name and
+ * their full string representation, like the {@link StateTypeAdapter} does.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class MapDbItemCodec {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte FLAG_LAST_STATE = 0x01;
+    private static final byte FLAG_LAST_STATE_CHANGE = 0x02;
+
+    private static final byte TAG_GENERIC = 0;
+    private static final byte TAG_ON = 1;
+    private static final byte TAG_OFF = 2;
+    private static final byte TAG_OPEN = 3;
+    private static final byte TAG_CLOSED = 4;
+    private static final byte TAG_UP = 5;
+    private static final byte TAG_DOWN = 6;
+    private static final byte TAG_DECIMAL = 7;
+    private static final byte TAG_PERCENT = 8;
+    private static final byte TAG_STRING = 9;
+
+    private final Logger logger = LoggerFactory.getLogger(MapDbItemCodec.class);
+
+    byte[] encode(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        State lastState = item.getLastState();
+        Date lastStateChange = item.getLastStateChangeDate();
+
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(
+                (lastState != null ? FLAG_LAST_STATE : 0) | (lastStateChange != null ? FLAG_LAST_STATE_CHANGE : 0));
+        writeString(out, item.getName());
+        out.writeLong(item.getTimestampDate().getTime());
+        writeState(out, item.getState());
+        if (lastState != null) {
+            writeState(out, lastState);
+        }
+        if (lastStateChange != null) {
+            out.writeLong(lastStateChange.getTime());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes an item.
+     *
+     * @param data the encoded item
+     * @return the item or <code>null</code> if it could not be decoded
+     */
+    @Nullable
+    MapDbItem decode(byte[] data) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                logger.warn("Couldn't decode item: unknown format version {}", version);
+                return null;
+            }
+            byte flags = in.readByte();
+            MapDbItem item = new MapDbItem();
+            item.setName(readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            State state = readState(in);
+            if (state == null) {
+                return null;
+            }
+            item.setState(state);
+            if ((flags & FLAG_LAST_STATE) != 0) {
+                item.setLastState(readState(in));
+            }
+            if ((flags & FLAG_LAST_STATE_CHANGE) != 0) {
+                item.setLastStateChange(new Date(in.readLong()));
+            }
+            return item;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Couldn't decode item: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeState(DataOutput out, State state) throws IOException {
+        if (state instanceof OnOffType) {
+            out.writeByte(state == OnOffType.ON ? TAG_ON : TAG_OFF);
+        } else if (state instanceof OpenClosedType) {
+            out.writeByte(state == OpenClosedType.OPEN ? TAG_OPEN : TAG_CLOSED);
+        } else if (state instanceof UpDownType) {
+            out.writeByte(state == UpDownType.UP ? TAG_UP : TAG_DOWN);
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TAG_PERCENT);
+            writeDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TAG_DECIMAL);
+            writeDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TAG_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TAG_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private @Nullable State readState(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_ON:
+                return OnOffType.ON;
+            case TAG_OFF:
+                return OnOffType.OFF;
+            case TAG_OPEN:
+                return OpenClosedType.OPEN;
+            case TAG_CLOSED:
+                return OpenClosedType.CLOSED;
+            case TAG_UP:
+                return UpDownType.UP;
+            case TAG_DOWN:
+                return UpDownType.DOWN;
+            case TAG_DECIMAL:
+                return new DecimalType(readDecimal(in));
+            case TAG_PERCENT:
+                return new PercentType(readDecimal(in));
+            case TAG_STRING:
+                return new StringType(readString(in));
+            case TAG_GENERIC:
+                String typeName = readString(in);
+                String value = readString(in);
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends State> type = (Class<? extends State>) Class.forName(typeName);
+                    return TypeParser.parseState(List.of(type), value);
+                } catch (ClassNotFoundException | ClassCastException e) {
+                    logger.warn("Couldn't decode state '{}' of type '{}': {}", value, typeName, e.getMessage());
+                    return null;
+                }
+            default:
+                throw new IOException("unknown state tag " + tag);
+        }
+    }
+
+    private void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private BigDecimal readDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readInt()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private void writeString(DataOutput out, String value) throws IOException {
+        // writeUTF is limited to 64 kB
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -14,27 +14,34 @@ package org.openhab.persistence.mapdb.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -50,6 +57,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,39 +67,95 @@ import com.google.gson.GsonBuilder;
 /**
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
+ * <p>
+ * Updates are collected per item and committed together, either after the configured commit interval or when the
+ * configured number of items is pending.
  *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", property = Constants.SERVICE_PID
+                + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String CONFIG_COMMIT_INTERVAL = "commitInterval";
+    private static final String CONFIG_COMMIT_THRESHOLD = "commitThreshold";
+    private static final int DEFAULT_COMMIT_INTERVAL = 1000; // in ms
+    private static final int DEFAULT_COMMIT_THRESHOLD = 100;
+
     private static final String SERVICE_ID = "mapdb";
     private static final String SERVICE_LABEL = "MapDB";
+    private static final String JSON_STORE_NAME = "itemStore";
+    private static final String STORE_NAME = "items";
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName());
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    private final MapDbItemCodec codec = new MapDbItemCodec();
 
-    private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
-            .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+    /**
+     * holds the items that have not been committed yet, only the latest update of an item is kept
+     */
+    private final Map<String, MapDbItem> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean commitScheduled = new AtomicBoolean();
+    private volatile int commitInterval = DEFAULT_COMMIT_INTERVAL;
+    private volatile int commitThreshold = DEFAULT_COMMIT_THRESHOLD;
+    private @Nullable ScheduledFuture<?> commitJob;
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        openDatabase();
+        modified(config);
+        logger.debug("MapDB persistence service is now activated");
+    }
+
+    @Modified
+    protected synchronized void modified(Map<String, Object> config) {
+        commitInterval = getIntConfig(config, CONFIG_COMMIT_INTERVAL, DEFAULT_COMMIT_INTERVAL);
+        commitThreshold = getIntConfig(config, CONFIG_COMMIT_THRESHOLD, DEFAULT_COMMIT_THRESHOLD);
+
+        ScheduledFuture<?> commitJob = this.commitJob;
+        if (commitJob != null) {
+            commitJob.cancel(false);
+        }
+        this.commitJob = commitInterval > 0
+                ? scheduler.scheduleWithFixedDelay(this::commit, commitInterval, commitInterval, TimeUnit.MILLISECONDS)
+                : null;
+        // commit what was collected with the previous configuration
+        scheduleCommit();
+    }
+
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return new BigDecimal(value.toString()).intValue();
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring illegal value '{}' for '{}'", value, key);
+            return defaultValue;
+        }
+    }
 
+    private void openDatabase() {
         try {
             Files.createDirectories(DB_DIR);
         } catch (IOException e) {
@@ -103,7 +167,8 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
             db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            map = db.createTreeMap(STORE_NAME).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+            migrateJsonStore();
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -135,18 +200,90 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 }
 
                 db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                map = db.createTreeMap(STORE_NAME).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
-        logger.debug("MapDB persistence service is now activated");
+    }
+
+    /**
+     * Converts the items stored as JSON by previous versions to the binary format. The JSON store is only removed once
+     * all items have been converted without loss, otherwise the remaining items are converted again on the next start.
+     * Items that already exist in the binary format have been converted or stored since and are skipped.
+     */
+    private void migrateJsonStore() {
+        if (!db.exists(JSON_STORE_NAME)) {
+            return;
+        }
+        Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
+                .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        Map<String, String> jsonMap = db.getTreeMap(JSON_STORE_NAME);
+        int migrated = 0;
+        int failed = 0;
+        for (Map.Entry<String, String> entry : jsonMap.entrySet()) {
+            if (map.containsKey(entry.getKey())) {
+                continue;
+            }
+            MapDbItem item = mapper.fromJson(entry.getValue(), MapDbItem.class);
+            if (item == null || !item.isValid()) {
+                logger.warn("Skipping invalid item '{}' during migration: {}", entry.getKey(), entry.getValue());
+                failed++;
+                continue;
+            }
+            try {
+                byte[] data = codec.encode(item);
+                if (decodesToSameItem(item, data)) {
+                    map.put(entry.getKey(), data);
+                    migrated++;
+                } else {
+                    logger.warn("Skipping item '{}' during migration: its state cannot be converted without loss",
+                            entry.getKey());
+                    failed++;
+                }
+            } catch (IOException e) {
+                logger.warn("Skipping item '{}' during migration: {}", entry.getKey(), e.getMessage());
+                failed++;
+            }
+        }
+        if (failed == 0) {
+            db.delete(JSON_STORE_NAME);
+        }
+        db.commit();
+        if (failed == 0) {
+            logger.info("Migrated {} items of the MapDB to the binary format", migrated);
+        } else {
+            logger.warn("Migrated {} items of the MapDB to the binary format, keeping the old store for {} items",
+                    migrated, failed);
+        }
+    }
+
+    private boolean decodesToSameItem(MapDbItem item, byte[] data) {
+        MapDbItem decoded = codec.decode(data);
+        return decoded != null && decoded.getName().equals(item.getName())
+                && decoded.getTimestampDate().equals(item.getTimestampDate())
+                && isSameState(decoded.getState(), item.getState())
+                && isSameState(decoded.getLastState(), item.getLastState())
+                && Objects.equals(decoded.getLastStateChangeDate(), item.getLastStateChangeDate());
+    }
+
+    private static boolean isSameState(@Nullable State decoded, @Nullable State state) {
+        return decoded == null ? state == null : state != null && decoded.getClass() == state.getClass()
+                && decoded.equals(state);
     }
 
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        synchronized (this) {
+            ScheduledFuture<?> commitJob = this.commitJob;
+            if (commitJob != null) {
+                commitJob.cancel(false);
+                this.commitJob = null;
+            }
+        }
+        commit();
         if (db != null) {
             db.close();
         }
@@ -164,8 +301,10 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        Map<String, PersistenceItemInfo> items = new HashMap<>();
+        map.forEach((name, data) -> deserialize(data).ifPresent(item -> items.put(name, item)));
+        items.putAll(pending);
+        return Set.copyOf(items.values());
     }
 
     @Override
@@ -192,59 +331,94 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
-        threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+        pending.put(localAlias, mItem);
+        if (commitInterval <= 0 || pending.size() >= commitThreshold) {
+            scheduleCommit();
+        }
+    }
+
+    private void scheduleCommit() {
+        if (commitScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::commit);
+        }
+    }
+
+    /**
+     * Writes all pending items to the database and commits them in a single transaction.
+     */
+    private synchronized void commit() {
+        commitScheduled.set(false);
+        if (pending.isEmpty() || db == null || db.isClosed()) {
+            return;
+        }
+        int count = 0;
+        for (String name : pending.keySet()) {
+            MapDbItem item = pending.remove(name);
+            if (item == null) {
+                continue;
+            }
+            try {
+                map.put(name, codec.encode(item));
+                count++;
+                logger.debug("Stored '{}' with state '{}' in MapDB database", name, item.getState());
+            } catch (IOException e) {
+                logger.warn("Failed to store '{}' in MapDB database: {}", name, e.getMessage());
+            }
+        }
+        db.commit();
+        logger.debug("Committed {} items to MapDB database", count);
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
-            return List.of();
-        }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = load(filter.getItemName());
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
+        MapDbItem dbItem = load(alias != null ? alias : itemName).orElse(null);
         if (dbItem != null) {
+            dbItem = copy(dbItem);
             dbItem.setName(itemName);
         }
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private Optional<MapDbItem> load(@Nullable String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        MapDbItem pendingItem = pending.get(name);
+        if (pendingItem != null) {
+            return Optional.of(pendingItem);
+        }
+        byte[] data = map.get(name);
+        return data == null ? Optional.empty() : deserialize(data);
     }
 
-    @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
-        MapDbItem item = mapper.fromJson(json, MapDbItem.class);
+    private MapDbItem copy(MapDbItem item) {
+        MapDbItem copy = new MapDbItem();
+        copy.setName(item.getName());
+        copy.setState(item.getState());
+        copy.setTimestamp(item.getTimestampDate());
+        copy.setLastState(item.getLastState());
+        copy.setLastStateChange(item.getLastStateChangeDate());
+        return copy;
+    }
+
+    private Optional<MapDbItem> deserialize(byte[] data) {
+        MapDbItem item = codec.decode(data);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
             return Optional.empty();
         } else if (logger.isDebugEnabled()) {
-            logger.debug("Deserialized '{}' with state '{}' from '{}'", item.getName(), item.getState(), json);
+            logger.debug("Deserialized '{}' with state '{}'", item.getName(), item.getState());
         }
 
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests cases for {@link MapDbItemCodec}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodecTest {
+    private final MapDbItemCodec codec = new MapDbItemCodec();
+
+    public static Stream<State> roundtripShouldRecreateTheItem() {
+        return Stream.of(OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN, OpenClosedType.CLOSED, UpDownType.UP,
+                UpDownType.DOWN, DecimalType.ZERO, new DecimalType(-1.123), new DecimalType(new BigDecimal("1E+30")),
+                PercentType.HUNDRED, PercentType.valueOf("0.0000001"), StringType.valueOf(""),
+                StringType.valueOf("@@@###   äöü"), StringType.valueOf("x".repeat(70000)), HSBType.fromRGB(1, 2, 3),
+                new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void roundtripShouldRecreateTheItem(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("Item");
+        item.setState(state);
+        item.setTimestamp(new Date(1700000000123L));
+        item.setLastState(state);
+        item.setLastStateChange(new Date(1600000000456L));
+
+        MapDbItem actual = Objects.requireNonNull(codec.decode(codec.encode(item)));
+        assertThat(actual.getName(), is(equalTo("Item")));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getState().getClass(), is(equalTo(state.getClass())));
+        assertThat(actual.getTimestamp(), is(equalTo(item.getTimestamp())));
+        assertThat(actual.getLastState(), is(equalTo(state)));
+        assertThat(actual.getLastStateChange(), is(equalTo(item.getLastStateChange())));
+    }
+
+    @Test
+    public void roundtripWithoutLastStateShouldRecreateTheItem() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("Item");
+        item.setState(OnOffType.ON);
+        item.setTimestamp(new Date(1700000000123L));
+
+        MapDbItem actual = Objects.requireNonNull(codec.decode(codec.encode(item)));
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    @Test
+    public void binaryFormatShouldBeSmallerThanJson() throws IOException {
+        Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
+                .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        MapDbItem item = new MapDbItem();
+        item.setName("Livingroom_Temperature");
+        item.setState(new DecimalType(21.5));
+        item.setTimestamp(new Date());
+        item.setLastState(new DecimalType(21.4));
+        item.setLastStateChange(new Date());
+
+        assertThat(codec.encode(item).length < mapper.toJson(item).length(), is(true));
+    }
+
+    @Test
+    public void invalidDataShouldNotBeDecoded() {
+        assertThat(codec.decode(new byte[0]), is(nullValue()));
+        assertThat(codec.decode(new byte[] { 42 }), is(nullValue()));
+        assertThat(codec.decode(new byte[] { 1, 0, 0, 0, 0, 1, 'a', 0, 0, 0, 0, 0, 0, 0, 0, 99 }), is(nullValue()));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * The {@link MongoDBBulkWriter} buffers documents and writes them with unordered <code>insertMany</code> calls, one per
+ * collection.
+ * <p>
+ * The buffer is written at a fixed interval. If the buffer is full, the caller writes it.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class MongoDBBulkWriter {
+
+    /**
+     * Resolves the collection documents are written to.
+     */
+    @FunctionalInterface
+    interface CollectionProvider {
+        @Nullable
+        MongoCollection<Document> getCollection(String collectionName);
+    }
+
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBBulkWriter.class);
+    private final BlockingQueue<PendingDocument> buffer;
+    private final CollectionProvider collectionProvider;
+    private final ScheduledFuture<?> flushJob;
+
+    MongoDBBulkWriter(int bufferSize, int intervalMillis, ScheduledExecutorService scheduler,
+            CollectionProvider collectionProvider) {
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.collectionProvider = collectionProvider;
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a document to the buffer. If the buffer is full, it is written before.
+     *
+     * @param collectionName the name of the collection
+     * @param document the document
+     */
+    void add(String collectionName, Document document) {
+        PendingDocument pendingDocument = new PendingDocument(collectionName, document);
+        while (!buffer.offer(pendingDocument)) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all buffered documents.
+     */
+    synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<PendingDocument> pending = new ArrayList<>(buffer.size());
+        buffer.drainTo(pending);
+
+        Map<String, List<Document>> documentsByCollection = new LinkedHashMap<>();
+        for (PendingDocument pendingDocument : pending) {
+            documentsByCollection.computeIfAbsent(pendingDocument.collectionName(), k -> new ArrayList<>())
+                    .add(pendingDocument.document());
+        }
+        documentsByCollection.forEach(this::insert);
+    }
+
+    private void insert(String collectionName, List<Document> documents) {
+        MongoCollection<Document> collection = collectionProvider.getCollection(collectionName);
+        if (collection == null) {
+            logger.warn("No connection to collection {}, {} documents not persisted", collectionName,
+                    documents.size());
+            return;
+        }
+        try {
+            collection.insertMany(documents, UNORDERED);
+            logger.debug("MongoDB saved {} documents to collection {}", documents.size(), collectionName);
+        } catch (MongoBulkWriteException e) {
+            // unordered writes continue after a failed document
+            logger.warn("MongoDB failed to save {} of {} documents to collection {}: {}",
+                    e.getWriteErrors().size(), documents.size(), collectionName, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("MongoDB failed to save {} documents to collection {}: {}", documents.size(), collectionName,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the periodic writing and writes all buffered documents.
+     */
+    void close() {
+        flushJob.cancel(false);
+        flush();
+    }
+
+    private record PendingDocument(String collectionName, Document document) {
+    }
+}
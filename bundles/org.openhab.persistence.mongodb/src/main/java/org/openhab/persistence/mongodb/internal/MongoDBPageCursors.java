@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link MongoDBPageCursors} remembers where the last returned page of a query ended, so the next page can be
+ * queried by timestamp instead of skipping all documents of the previous pages.
+ * <p>
+ * Documents with the same timestamp cannot be told apart by the cursor, so the number of already returned documents
+ * with the timestamp of the last document is kept and skipped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class MongoDBPageCursors {
+
+    /**
+     * Identifies a query independent of the requested page.
+     */
+    record Query(String collectionName, String filter, int sortDirection, int pageSize) {
+    }
+
+    /**
+     * The position where a page starts.
+     *
+     * @param pageNumber the number of the page
+     * @param timestamp the timestamp of the last document of the previous page
+     * @param skip the number of documents with this timestamp that were already returned
+     */
+    record Cursor(int pageNumber, Date timestamp, int skip) {
+    }
+
+    private final Map<Query, Cursor> cursors;
+
+    MongoDBPageCursors(int maxEntries) {
+        this.cursors = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<Query, Cursor> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cursor for the given page, if the previous page of the same query was the last one returned.
+     */
+    synchronized @Nullable Cursor get(Query query, int pageNumber) {
+        Cursor cursor = cursors.get(query);
+        return cursor != null && cursor.pageNumber() == pageNumber ? cursor : null;
+    }
+
+    /**
+     * Remembers where the page following the given page starts.
+     *
+     * @param query the query
+     * @param pageNumber the number of the returned page
+     * @param previous the cursor the page was queried with or <code>null</code>
+     * @param lastTimestamp the timestamp of the last document of the page
+     * @param sameTimestampCount the number of documents on the page having the timestamp of the last document
+     * @param pageComplete whether the page was complete and another page may follow
+     */
+    synchronized void update(Query query, int pageNumber, @Nullable Cursor previous, Date lastTimestamp,
+            int sameTimestampCount, boolean pageComplete) {
+        if (!pageComplete) {
+            cursors.remove(query);
+            return;
+        }
+        int skip = sameTimestampCount;
+        if (previous != null && previous.timestamp().equals(lastTimestamp)) {
+            // the whole page had the timestamp of the previous page
+            skip += previous.skip();
+        }
+        cursors.put(query, new Cursor(pageNumber + 1, lastTimestamp, skip));
+    }
+
+    synchronized void clear() {
+        cursors.clear();
+    }
+}
@@ -20,11 +20,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -69,6 +71,10 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final int DEFAULT_BULK_WRITE_INTERVAL = 1000; // in ms
+    private static final int DEFAULT_BULK_WRITE_BUFFER_SIZE = 10000;
+    private static final int PAGE_CURSOR_CACHE_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
@@ -81,6 +87,9 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     protected final ItemRegistry itemRegistry;
 
     private @Nullable MongoClient cl;
+    private final Map<String, MongoCollection<Document>> collections = new ConcurrentHashMap<>();
+    private final MongoDBPageCursors pageCursors = new MongoDBPageCursors(PAGE_CURSOR_CACHE_SIZE);
+    private @Nullable MongoDBBulkWriter bulkWriter;
 
     @Activate
     public MongoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
@@ -113,6 +122,14 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        int bulkWriteInterval = getIntConfig(config, "bulkWriteInterval", DEFAULT_BULK_WRITE_INTERVAL);
+        int bulkWriteBufferSize = getIntConfig(config, "bulkWriteBufferSize", DEFAULT_BULK_WRITE_BUFFER_SIZE);
+        if (bulkWriteInterval > 0) {
+            logger.debug("MongoDB bulk writes every {} ms, buffer size {}", bulkWriteInterval, bulkWriteBufferSize);
+            bulkWriter = new MongoDBBulkWriter(bulkWriteBufferSize, bulkWriteInterval,
+                    ThreadPoolManager.getScheduledPool("org.openhab.mongodb"), this::getBulkWriteCollection);
+        }
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
@@ -120,10 +137,51 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         initialized = true;
     }
 
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for mongodb:{}, using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBBulkWriter bulkWriter = this.bulkWriter;
+        if (bulkWriter != null) {
+            bulkWriter.close();
+            this.bulkWriter = null;
+        }
         disconnectFromDatabase();
+        pageCursors.clear();
+    }
+
+    /**
+     * Writes all documents buffered by the bulk writer.
+     */
+    void flush() {
+        MongoDBBulkWriter bulkWriter = this.bulkWriter;
+        if (bulkWriter != null) {
+            bulkWriter.flush();
+        }
+    }
+
+    private @Nullable MongoCollection<Document> getBulkWriteCollection(String collectionName) {
+        MongoCollection<Document> cachedCollection = collections.get(collectionName);
+        if (cachedCollection != null) {
+            // the driver reconnects by itself, no need to check the connection for every batch
+            return cachedCollection;
+        }
+        if (!tryConnectToDatabase()) {
+            return null;
+        }
+        return connectToCollection(collectionName);
     }
 
     @Override
@@ -211,6 +269,10 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * @return The collection object when collection creation was successful. Null otherwise.
      */
     private @Nullable MongoCollection<Document> connectToCollection(String collectionName) {
+        MongoCollection<Document> cachedCollection = collections.get(collectionName);
+        if (cachedCollection != null) {
+            return cachedCollection;
+        }
         try {
             @Nullable
             MongoClient db = getDatabase();
@@ -226,6 +288,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
             mongoCollection.createIndex(idx);
 
+            collections.put(collectionName, mongoCollection);
             return mongoCollection;
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
@@ -237,6 +300,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * Disconnects from the database
      */
     private synchronized void disconnectFromDatabase() {
+        collections.clear();
         MongoClient localCl = cl;
         if (localCl != null) {
             localCl.close();
@@ -256,6 +320,8 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         if (alias != null) {
             filter.setItemName(alias);
         }
+        // make sure buffered documents are found
+        flush();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -282,18 +348,38 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
         logger.debug("Query: {}", query);
 
-        Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
+        int sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
+        int pageNumber = filter.getPageNumber();
+        int pageSize = filter.getPageSize();
+        MongoDBPageCursors.Query pageQuery = new MongoDBPageCursors.Query(collection.getNamespace().getFullName(),
+                query.toJson(), sortDir, pageSize);
+        MongoDBPageCursors.Cursor pageCursor = pageNumber > 0 ? pageCursors.get(pageQuery, pageNumber) : null;
+        int skip;
+        if (pageCursor != null) {
+            // continue after the previous page instead of skipping all documents of the previous pages
+            addCursorToQuery(query, pageCursor, sortDir);
+            skip = pageCursor.skip();
+        } else {
+            skip = pageNumber * pageSize;
+        }
+
+        Date lastTimestamp = null;
+        int sameTimestampCount = 0;
         MongoCursor<Document> cursor = null;
         try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
+            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir)).skip(skip)
+                    .limit(pageSize).iterator();
 
             while (cursor.hasNext()) {
                 Document obj = cursor.next();
 
                 final State state = MongoDBTypeConversions.getStateFromDocument(item, obj);
+                Date timestamp = obj.getDate(MongoDBFields.FIELD_TIMESTAMP);
+
+                items.add(new MongoDBItem(realItemName, state, timestamp.toInstant()));
 
-                items.add(new MongoDBItem(realItemName, state, obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant()));
+                sameTimestampCount = timestamp.equals(lastTimestamp) ? sameTimestampCount + 1 : 1;
+                lastTimestamp = timestamp;
             }
         } finally {
             if (cursor != null) {
@@ -301,9 +387,22 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             }
         }
 
+        if (lastTimestamp != null) {
+            pageCursors.update(pageQuery, pageNumber, pageCursor, lastTimestamp, sameTimestampCount,
+                    items.size() == pageSize);
+        }
+
         return items;
     }
 
+    private void addCursorToQuery(Document query, MongoDBPageCursors.Cursor pageCursor, int sortDir) {
+        Object dateQuery = query.get(MongoDBFields.FIELD_TIMESTAMP);
+        Document dateQueries = dateQuery instanceof Document document ? document : new Document();
+        // documents of the previous page are within the requested range, so the cursor narrows it
+        dateQueries.put(sortDir > 0 ? "$gte" : "$lte", pageCursor.timestamp());
+        query.put(MongoDBFields.FIELD_TIMESTAMP, dateQueries);
+    }
+
     private @Nullable Item getItem(String itemName) {
         try {
             return itemRegistry.getItem(itemName);
@@ -351,6 +450,20 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+
+        Document obj = createDocument(item, date, state, name);
+
+        MongoDBBulkWriter bulkWriter = this.bulkWriter;
+        if (bulkWriter != null) {
+            // the bulk writer connects to the database when writing
+            bulkWriter.add(collectionName, obj);
+            logger.debug("MongoDB buffered {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -360,10 +473,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -372,24 +481,28 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        }
+        logger.debug("MongoDB save {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+    }
+
+    private Document createDocument(Item item, Date date, State state, String name) {
         Object value = MongoDBTypeConversions.convertValue(state);
 
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
         obj.put(MongoDBFields.FIELD_VALUE, value);
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
-        try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
-        }
-        logger.debug("MongoDB save {}={}", name, value);
+        return obj;
     }
 
     @Nullable
@@ -472,6 +585,8 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        // make sure buffered documents are removed as well
+        flush();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -487,6 +602,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         logger.debug("Query: {}", query);
 
         DeleteResult result = collection.deleteMany(query);
+        pageCursors.clear();
 
         logger.debug("Deleted {} documents", result.getDeletedCount());
         return true;
@@ -356,6 +356,8 @@ public class DataCreationHelper {
         if (collectionName != null) {
             config.put("collection", collectionName);
         }
+        // write synchronously, so stored documents can be verified directly
+        config.put("bulkWriteInterval", "0");
 
         // Create a MongoClient connected to the mock server
         MongoClient mongoClient = MongoClients.create(dbContainer.getConnectionString());
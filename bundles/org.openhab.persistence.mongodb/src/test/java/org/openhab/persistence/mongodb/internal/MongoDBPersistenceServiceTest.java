@@ -1033,4 +1033,98 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /**
+     * Tests the bulk writer of the MongoDBPersistenceService.
+     *
+     * This test checks if stored items are buffered until the buffer is flushed and if buffered items are found by
+     * queries.
+     */
+    @Test
+    public void testBulkWrite() throws ItemNotFoundException {
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("bulkWriteInterval", "60000");
+            service.activate(setupResult.bundleContext, setupResult.config);
+            MongoCollection<Document> collection = database.getCollection("testCollection");
+
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 10.1);
+            Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(item);
+
+            // Execution
+            for (int i = 0; i < 5; i++) {
+                service.store(item, null);
+            }
+
+            // Verification
+            assertEquals(0, collection.countDocuments());
+            service.flush();
+            assertEquals(5, collection.countDocuments());
+
+            service.store(item, null);
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+            assertEquals(6, ((List<HistoricItem>) result).size());
+
+            service.store(item, null);
+            service.deactivate(1);
+            assertEquals(7, collection.countDocuments());
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /**
+     * Tests the paging of the query method of the MongoDBPersistenceService.
+     *
+     * This test checks if reading all pages one after the other returns every document exactly once, also if several
+     * documents have the same timestamp.
+     */
+    @Test
+    public void testQueryPages() throws ItemNotFoundException {
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 0);
+            Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(item);
+
+            ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            for (int i = 0; i < 25; i++) {
+                // every timestamp is used three times, some of them span two pages
+                service.store(item, start.plusSeconds(i / 3), new DecimalType(i));
+            }
+
+            for (FilterCriteria.Ordering ordering : FilterCriteria.Ordering.values()) {
+                // Execution
+                List<Double> values = new ArrayList<>();
+                List<ZonedDateTime> timestamps = new ArrayList<>();
+                for (int page = 0; page < 4; page++) {
+                    FilterCriteria filter = DataCreationHelper.createFilterCriteria("TestItem");
+                    filter.setOrdering(ordering);
+                    filter.setPageNumber(page);
+                    for (HistoricItem historicItem : service.query(filter)) {
+                        values.add(((DecimalType) historicItem.getState()).doubleValue());
+                        timestamps.add(historicItem.getTimestamp());
+                    }
+                }
+
+                // Verification
+                assertEquals(25, values.size(), ordering.toString());
+                assertEquals(25, Set.copyOf(values).size(), ordering.toString());
+                for (int i = 1; i < timestamps.size(); i++) {
+                    int comparison = timestamps.get(i - 1).compareTo(timestamps.get(i));
+                    assertTrue(ordering == FilterCriteria.Ordering.ASCENDING ? comparison <= 0 : comparison >= 0);
+                }
+            }
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
@@ -135,6 +135,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final String DATASOURCE_STATE = "state";
 
+    private static final String CONFIG_WRITER_THREADS = "writerthreads";
+    private static final String CONFIG_OPEN_DATABASES = "opendatabases";
+    private static final int DEFAULT_WRITER_THREADS = 2;
+    private static final int DEFAULT_OPEN_DATABASES = 150;
+    // the pool blocks if more databases are requested, leave room for queries and charts
+    private static final int DATABASE_POOL_RESERVE = 100;
+
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
@@ -143,6 +150,12 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private final ItemRegistry itemRegistry;
     private boolean active = false;
 
+    /* All access must be guarded by "writerLock" */
+    private @Nullable RRD4jWriter writer;
+    private int writerThreads;
+    private int maxOpenDatabases;
+    private final Object writerLock = new Object();
+
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
     }
@@ -163,6 +176,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Modified
     protected void modified(final Map<String, Object> config) {
+        configureWriter(config);
+
         // clean existing definitions
         rrdDefs.clear();
 
@@ -214,8 +229,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key)
+                    || CONFIG_WRITER_THREADS.equalsIgnoreCase(key) || CONFIG_OPEN_DATABASES.equalsIgnoreCase(key)) {
+                // ignore service.pid and name and the writer configuration
                 continue;
             }
 
@@ -276,6 +292,66 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        synchronized (writerLock) {
+            RRD4jWriter writer = this.writer;
+            if (writer != null) {
+                writer.close();
+                this.writer = null;
+            }
+        }
+    }
+
+    private void configureWriter(Map<String, Object> config) {
+        int threads = getIntConfig(config, CONFIG_WRITER_THREADS, DEFAULT_WRITER_THREADS);
+        int openDatabases = getIntConfig(config, CONFIG_OPEN_DATABASES, DEFAULT_OPEN_DATABASES);
+
+        synchronized (writerLock) {
+            RRD4jWriter writer = this.writer;
+            if (writer != null) {
+                if (threads == writerThreads && openDatabases == maxOpenDatabases) {
+                    return;
+                }
+                writer.close();
+            }
+            writerThreads = threads;
+            maxOpenDatabases = openDatabases;
+            DATABASE_POOL.setCapacity(Math.max(DATABASE_POOL.getCapacity(), openDatabases + DATABASE_POOL_RESERVE));
+            this.writer = new RRD4jWriter(threads, openDatabases, this::openDatabaseForWriting,
+                    this::writePointToDatabase);
+            logger.debug("Using {} writer thread(s), keeping up to {} databases open", threads, openDatabases);
+        }
+    }
+
+    private @Nullable RrdDb openDatabaseForWriting(String name) {
+        try {
+            return getDB(name, true);
+        } catch (Exception e) {
+            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            return null;
+        }
+    }
+
+    private int getIntConfig(Map<String, Object> config, String name, int defaultValue) {
+        for (Map.Entry<String, Object> entry : config.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                try {
+                    return Integer.parseInt(entry.getValue().toString().trim());
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring illegal configuration {}={}", entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns the statistics of the writer threads, or <code>null</code> if the service is not active.
+     */
+    public RRD4jWriter.@Nullable Statistics getWriterStatistics() {
+        synchronized (writerLock) {
+            RRD4jWriter writer = this.writer;
+            return writer != null ? writer.getStatistics() : null;
+        }
     }
 
     @Override
@@ -343,30 +419,26 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
+        synchronized (writerLock) {
+            RRD4jWriter writer = this.writer;
+            if (writer == null) {
                 return;
             }
+            while (!storageMap.isEmpty()) {
+                Key key = storageMap.firstKey();
+                if (now > key.timestamp || force) {
+                    // no new elements can be added for this timestamp because we are already past that time or the
+                    // service requires forced storing
+                    Double value = storageMap.pollFirstEntry().getValue();
+                    writer.write(key.name, value, key.timestamp);
+                } else {
+                    return;
+                }
+            }
         }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
-        try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
-        }
-        if (db == null) {
-            return;
-        }
-
+    private void writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -401,11 +473,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
     }
 
     @Override
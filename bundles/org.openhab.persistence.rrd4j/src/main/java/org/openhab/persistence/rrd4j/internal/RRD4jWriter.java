@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jWriter} writes samples to the rrd4j databases on several writer threads.
+ * <p>
+ * Items are assigned to a writer thread by the hash of their name, so all samples of an item are written in order by
+ * the same thread. Each writer keeps the databases it recently wrote to open, so a sample does not require opening
+ * and closing the database file. Databases that are not written to for {@link #IDLE_TIMEOUT} are closed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriter {
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    @FunctionalInterface
+    interface DatabaseOpener {
+        @Nullable
+        RrdDb open(String name);
+    }
+
+    @FunctionalInterface
+    interface PointWriter {
+        void write(RrdDb db, String name, double value, long timestamp);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jWriter.class);
+    private final DatabaseOpener opener;
+    private final PointWriter pointWriter;
+    private final Shard[] shards;
+    private final int maxOpenDatabasesPerShard;
+    private final long idleTimeoutNanos;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+    private volatile long lastLagSeconds;
+    private final AtomicLong maxLagSeconds = new AtomicLong();
+
+    /**
+     * Creates a new writer.
+     *
+     * @param threads the number of writer threads
+     * @param maxOpenDatabases the maximum number of databases kept open, 0 to close databases after every write
+     * @param opener opens (or creates) the database of an item
+     * @param pointWriter writes a sample to an open database
+     */
+    RRD4jWriter(int threads, int maxOpenDatabases, DatabaseOpener opener, PointWriter pointWriter) {
+        this(threads, maxOpenDatabases, IDLE_TIMEOUT, opener, pointWriter);
+    }
+
+    RRD4jWriter(int threads, int maxOpenDatabases, Duration idleTimeout, DatabaseOpener opener,
+            PointWriter pointWriter) {
+        this.opener = opener;
+        this.pointWriter = pointWriter;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        int shardCount = Math.max(1, threads);
+        this.maxOpenDatabasesPerShard = maxOpenDatabases <= 0 ? 0 : Math.max(1, maxOpenDatabases / shardCount);
+        this.shards = new Shard[shardCount];
+        NamedThreadFactory threadFactory = new NamedThreadFactory("RRD4j-writer");
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(Executors.newSingleThreadScheduledExecutor(threadFactory));
+        }
+    }
+
+    /**
+     * Queue a sample for writing.
+     *
+     * @param name the name of the database
+     * @param value the value
+     * @param timestamp the timestamp in seconds
+     */
+    public void write(String name, double value, long timestamp) {
+        Shard shard = shards[Math.floorMod(name.hashCode(), shards.length)];
+        pending.incrementAndGet();
+        try {
+            shard.executor.execute(() -> {
+                pending.decrementAndGet();
+                shard.write(name, value, timestamp);
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            logger.debug("Discarding value {} for '{}' with timestamp {}, the writer is shut down", value, name,
+                    timestamp);
+        }
+    }
+
+    /**
+     * Write all queued samples, close all open databases and stop the writer threads.
+     */
+    public void close() {
+        for (Shard shard : shards) {
+            try {
+                shard.executor.execute(shard::closeAll);
+            } catch (RejectedExecutionException e) {
+                // already closed
+            }
+            shard.executor.shutdown();
+        }
+        for (Shard shard : shards) {
+            try {
+                if (!shard.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    logger.warn("rrd4j writer did not finish writing within 30 seconds");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int getThreads() {
+        return shards.length;
+    }
+
+    public int getMaxOpenDatabases() {
+        return maxOpenDatabasesPerShard * shards.length;
+    }
+
+    public Statistics getStatistics() {
+        long count = writes.get();
+        int open = 0;
+        for (Shard shard : shards) {
+            open += shard.openCount;
+        }
+        return new Statistics(count, pending.get(), open,
+                count == 0 ? 0.0 : totalWriteNanos.get() / (double) count / 1_000_000.0,
+                maxWriteNanos.get() / 1_000_000.0, lastLagSeconds, maxLagSeconds.get());
+    }
+
+    /**
+     * Writer statistics.
+     *
+     * @param writes number of samples written
+     * @param pending number of samples waiting for a writer thread
+     * @param openDatabases number of databases kept open
+     * @param averageWriteMillis average time needed to write a sample, including opening the database if needed
+     * @param maxWriteMillis maximum time needed to write a sample
+     * @param lastLagSeconds the delay between the timestamp of the last written sample and its writing
+     * @param maxLagSeconds the maximum delay between the timestamp of a sample and its writing
+     */
+    public record Statistics(long writes, int pending, int openDatabases, double averageWriteMillis,
+            double maxWriteMillis, long lastLagSeconds, long maxLagSeconds) {
+    }
+
+    private class Shard {
+        private final ScheduledExecutorService executor;
+        // only accessed by the writer thread
+        private final Map<String, OpenDatabase> databases = new LinkedHashMap<>(16, 0.75f, true);
+        private volatile int openCount;
+
+        Shard(ScheduledExecutorService executor) {
+            this.executor = executor;
+            executor.scheduleWithFixedDelay(this::closeIdle, idleTimeoutNanos, idleTimeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void write(String name, double value, long timestamp) {
+            long lag = System.currentTimeMillis() / 1000 - timestamp;
+            lastLagSeconds = lag;
+            maxLagSeconds.accumulateAndGet(lag, Math::max);
+
+            long start = System.nanoTime();
+            OpenDatabase database = databases.get(name);
+            RrdDb db = database != null ? database.db : opener.open(name);
+            if (db == null) {
+                return;
+            }
+            try {
+                pointWriter.write(db, name, value, timestamp);
+            } finally {
+                if (database != null) {
+                    database.lastWrite = start;
+                } else if (maxOpenDatabasesPerShard > 0) {
+                    databases.put(name, new OpenDatabase(db, start));
+                    evict();
+                } else {
+                    close(name, db);
+                }
+                openCount = databases.size();
+            }
+            long duration = System.nanoTime() - start;
+            writes.incrementAndGet();
+            totalWriteNanos.addAndGet(duration);
+            maxWriteNanos.accumulateAndGet(duration, Math::max);
+        }
+
+        private void evict() {
+            Iterator<Map.Entry<String, OpenDatabase>> it = databases.entrySet().iterator();
+            while (databases.size() > maxOpenDatabasesPerShard && it.hasNext()) {
+                Map.Entry<String, OpenDatabase> eldest = it.next();
+                it.remove();
+                close(eldest.getKey(), eldest.getValue().db);
+            }
+        }
+
+        void closeIdle() {
+            long idleSince = System.nanoTime() - idleTimeoutNanos;
+            Iterator<Map.Entry<String, OpenDatabase>> it = databases.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, OpenDatabase> entry = it.next();
+                if (entry.getValue().lastWrite - idleSince < 0) {
+                    it.remove();
+                    close(entry.getKey(), entry.getValue().db);
+                }
+            }
+            openCount = databases.size();
+        }
+
+        void closeAll() {
+            databases.forEach((name, database) -> close(name, database.db));
+            databases.clear();
+            openCount = 0;
+        }
+
+        private void close(String name, RrdDb db) {
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database '{}': {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private static class OpenDatabase {
+        final RrdDb db;
+        long lastWrite;
+
+        OpenDatabase(RrdDb db, long lastWrite) {
+            this.db = db;
+            this.lastWrite = lastWrite;
+        }
+    }
+}
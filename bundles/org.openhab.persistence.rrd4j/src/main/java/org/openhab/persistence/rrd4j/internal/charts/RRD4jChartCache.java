@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link RRD4jChartCache} keeps recently rendered charts as encoded images.
+ * <p>
+ * A cached chart is only returned if none of the displayed databases got a new archive row since it was rendered and
+ * the requested time span moved by less than the time covered by one pixel.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jChartCache {
+
+    /**
+     * Identifies a chart independent of the time it is requested at.
+     */
+    record Key(@Nullable String items, @Nullable String groups, long periodSeconds, int width, int height,
+            @Nullable String theme) {
+    }
+
+    private final long maxBytes;
+    // ordered by last access, so the least recently used charts are removed first
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes = 0;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxBytes the maximum total size of the cached charts
+     */
+    RRD4jChartCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get a cached chart.
+     *
+     * @param key the key of the chart
+     * @param lastUpdates the last archive update times of the displayed databases
+     * @param endTime the end of the requested time span in seconds
+     * @return the encoded chart or <code>null</code> if there is no valid chart
+     */
+    synchronized byte @Nullable [] get(Key key, long[] lastUpdates, long endTime) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long secondsPerPixel = Math.max(1, key.periodSeconds() / Math.max(1, key.width()));
+        if (!Arrays.equals(entry.lastUpdates(), lastUpdates)
+                || Math.abs(endTime - entry.endTime()) >= secondsPerPixel) {
+            remove(key);
+            return null;
+        }
+        return entry.encoded();
+    }
+
+    /**
+     * Adds a chart, removing the least recently used charts if the cache gets too large. Charts larger than the
+     * cache are not added.
+     *
+     * @param key the key of the chart
+     * @param lastUpdates the last archive update times of the displayed databases
+     * @param endTime the end of the rendered time span in seconds
+     * @param encoded the encoded chart
+     */
+    synchronized void put(Key key, long[] lastUpdates, long endTime, byte[] encoded) {
+        remove(key);
+        if (encoded.length > maxBytes) {
+            return;
+        }
+        entries.put(key, new Entry(encoded, lastUpdates, endTime));
+        bytes += encoded.length;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().encoded().length;
+            iterator.remove();
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    private void remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            bytes -= entry.encoded().length;
+        }
+    }
+
+    private record Entry(byte[] encoded, long[] lastUpdates, long endTime) {
+    }
+}
@@ -17,11 +17,14 @@ import static java.util.Map.entry;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
 import javax.imageio.ImageIO;
@@ -68,6 +71,8 @@ import org.slf4j.LoggerFactory;
  * <li>items: A comma separated list of item names to display
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
+ * Width and height are limited to 3840 and 2160 pixels. Rendered charts are cached
+ * until one of the displayed databases gets a new archive row.
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
@@ -82,6 +87,9 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
     private static final int DEFAULT_HEIGHT = 240;
     private static final int DEFAULT_WIDTH = 480;
+    private static final int MAX_HEIGHT = 2160;
+    private static final int MAX_WIDTH = 3840;
+    private static final long CHART_CACHE_BYTES = 4 * 1024 * 1024;
 
     /** the URI of this servlet */
     public static final String SERVLET_NAME = "/rrdchart.png";
@@ -93,9 +101,9 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             new Color(0, 255, 255, 30), new Color(255, 0, 128, 30), new Color(255, 128, 128, 30),
             new Color(255, 255, 0, 30) };
 
-    private static final Duration DEFAULT_PERIOD = Duration.ofDays(1);
+    static final Duration DEFAULT_PERIOD = Duration.ofDays(1);
 
-    private static final Map<String, Duration> PERIODS = Map.ofEntries( //
+    static final Map<String, Duration> PERIODS = Map.ofEntries( //
             entry("h", Duration.ofHours(1)), entry("4h", Duration.ofHours(4)), //
             entry("8h", Duration.ofHours(8)), entry("12h", Duration.ofHours(12)), //
             entry("D", Duration.ofDays(1)), entry("2D", Duration.ofDays(2)), //
@@ -109,6 +117,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private final RRD4jChartCache chartCache = new RRD4jChartCache(CHART_CACHE_BYTES);
 
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
@@ -133,6 +142,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        chartCache.clear();
     }
 
     @Override
@@ -149,11 +159,11 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         ZonedDateTime timeBegin = timeEnd.minus(period);
 
         try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
-                    req.getParameter("groups"), null, null, null);
+            Chart chart = getChart(null, timeBegin, timeEnd, height, width, req.getParameter("items"),
+                    req.getParameter("groups"));
             // Set the content type to that provided by the chart provider
             res.setContentType("image/" + getChartType());
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
+            res.getOutputStream().write(chart.encoded());
         } catch (ItemNotFoundException e) {
             logger.debug("Item not found error while generating chart", e);
             throw new ServletException("Item not found error while generating chart: " + e.getMessage());
@@ -176,22 +186,16 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     }
 
     /**
-     * Adds a line for the item to the graph definition.
-     * The color of the line is determined by the counter, it simply picks the according index from LINECOLORS (and
-     * rolls over if necessary).
+     * Opens the database of an item to determine its consolidation function and the time of its newest archive row.
      *
-     * @param graphDef the graph definition to fill
-     * @param item the item to add a line for
-     * @param counter defines the number of the datasource and is used to determine the line color
+     * @param item the item to display
+     * @param alias the alias of the item or <code>null</code>
+     * @return the series to display
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
-        Color color = LINECOLORS[counter % LINECOLORS.length];
-        String label = itemUIRegistry.getLabel(item.getName());
+    private ChartSeries createSeries(Item item, @Nullable String alias) {
         String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
         ConsolFun consolFun;
-        if (label != null && label.contains("[") && label.contains("]")) {
-            label = label.substring(0, label.indexOf('['));
-        }
+        long lastUpdate;
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(RRD4jPersistenceService.getDatabasePool());
@@ -199,9 +203,31 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
             RrdDb db = builder.build();
             consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+            lastUpdate = db.getLastArchiveUpdateTime();
             db.close();
         } catch (IOException e) {
             consolFun = ConsolFun.MAX;
+            lastUpdate = -1;
+        }
+        return new ChartSeries(item, rrdName, consolFun, lastUpdate);
+    }
+
+    /**
+     * Adds a line for the item to the graph definition.
+     * The color of the line is determined by the counter, it simply picks the according index from LINECOLORS (and
+     * rolls over if necessary).
+     *
+     * @param graphDef the graph definition to fill
+     * @param item the item to add a line for
+     * @param rrdName the path of the database of the item
+     * @param consolFun the consolidation function of the database
+     * @param counter defines the number of the datasource and is used to determine the line color
+     */
+    protected void addLine(RrdGraphDef graphDef, Item item, String rrdName, ConsolFun consolFun, int counter) {
+        Color color = LINECOLORS[counter % LINECOLORS.length];
+        String label = itemUIRegistry.getLabel(item.getName());
+        if (label != null && label.contains("[") && label.contains("]")) {
+            label = label.substring(0, label.indexOf('['));
         }
         if (item instanceof NumberItem) {
             // we only draw a line
@@ -248,6 +274,43 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable String interpolation, @Nullable Boolean legend)
             throws ItemNotFoundException {
+        Chart chart = getChart(theme, startTime, endTime, height, width, items, groups);
+        @Nullable
+        RrdGraph graph = chart.graph();
+        if (graph != null) {
+            // freshly rendered, draw it again instead of decoding the PNG
+            BufferedImage image = new BufferedImage(graph.getRrdGraphInfo().getWidth(),
+                    graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
+            graph.render(image.getGraphics());
+            return image;
+        }
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(chart.encoded()));
+            if (image == null) {
+                throw new IOException("No reader for " + getChartType() + " images");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decoding RrdGraph", e);
+        }
+    }
+
+    private Chart getChart(@Nullable String theme, ZonedDateTime startTime, ZonedDateTime endTime,
+            int requestedHeight, int requestedWidth, @Nullable String items, @Nullable String groups)
+            throws ItemNotFoundException {
+        int height = Math.max(1, Math.min(MAX_HEIGHT, requestedHeight));
+        int width = Math.max(1, Math.min(MAX_WIDTH, requestedWidth));
+        List<ChartSeries> series = getSeries(items, groups);
+        long[] lastUpdates = series.stream().mapToLong(ChartSeries::lastUpdate).toArray();
+        long end = endTime.toEpochSecond();
+        RRD4jChartCache.Key key = new RRD4jChartCache.Key(items, groups, end - startTime.toEpochSecond(), width,
+                height, theme);
+        byte @Nullable [] cached = chartCache.get(key, lastUpdates, end);
+        if (cached != null) {
+            logger.trace("Returning cached chart for {}", key);
+            return new Chart(cached, null);
+        }
+
         RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
         graphDef.setWidth(width);
         graphDef.setHeight(height);
@@ -257,10 +320,26 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         graphDef.setFont(FontTag.TITLE, new Font("SansSerif", Font.PLAIN, 15));
         graphDef.setFont(FontTag.DEFAULT, new Font("SansSerif", Font.PLAIN, 11));
 
+        int seriesCounter = 0;
+        for (ChartSeries chartSeries : series) {
+            addLine(graphDef, chartSeries.item(), chartSeries.rrdName(), chartSeries.consolFun(), seriesCounter++);
+        }
+
+        // Render the chart as a PNG image
+        try {
+            RrdGraph graph = new RrdGraph(graphDef);
+            byte[] encoded = graph.getRrdGraphInfo().getBytes();
+            chartCache.put(key, lastUpdates, end, encoded);
+            return new Chart(encoded, graph);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error generating RrdGraph", e);
+        }
+    }
+
+    private List<ChartSeries> getSeries(@Nullable String items, @Nullable String groups) throws ItemNotFoundException {
         PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry
                 .get(RRD4jPersistenceService.SERVICE_ID);
-
-        int seriesCounter = 0;
+        List<ChartSeries> series = new ArrayList<>();
 
         // Loop through all the items
         if (items != null) {
@@ -268,7 +347,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                series.add(createSeries(item, alias));
             }
         }
 
@@ -280,28 +359,27 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        series.add(createSeries(member, alias));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
                 }
             }
         }
-
-        // Write the chart as a PNG image
-        try {
-            RrdGraph graph = new RrdGraph(graphDef);
-            BufferedImage bi = new BufferedImage(graph.getRrdGraphInfo().getWidth(),
-                    graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
-            graph.render(bi.getGraphics());
-            return bi;
-        } catch (IOException e) {
-            throw new UncheckedIOException("Error generating RrdGraph", e);
-        }
+        return series;
     }
 
     @Override
     public ImageType getChartType() {
         return ImageType.png;
     }
+
+    /**
+     * A chart encoded as PNG, and the graph it was rendered from if it was not taken from the cache.
+     */
+    private record Chart(byte[] encoded, @Nullable RrdGraph graph) {
+    }
+
+    private record ChartSeries(Item item, String rrdName, ConsolFun consolFun, long lastUpdate) {
+    }
 }
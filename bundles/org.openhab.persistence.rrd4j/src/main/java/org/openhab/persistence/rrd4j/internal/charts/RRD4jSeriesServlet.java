@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
+import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
+import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.HttpService;
+import org.osgi.service.http.NamespaceException;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDb.Builder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This servlet returns the stored values of a given set of items, so clients can draw charts themselves and only
+ * need to fetch the values added since their last request.
+ * It accepts the following HTTP parameters:
+ * <ul>
+ * <li>items: A comma separated list of item names</li>
+ * <li>period: the time span to return. Value can be h,4h,8h,12h,D,3D,W,2W,M,2M,4M,Y</li>
+ * <li>since: only return values with a newer timestamp (seconds since epoch)</li>
+ * <li>format: <code>json</code> (default) or <code>binary</code></li>
+ * </ul>
+ * The JSON format is an object with an array of <code>[timestamp, value]</code> pairs per item.
+ * The binary format contains for each item its name (as written by {@link DataOutputStream#writeUTF(String)}), the
+ * number of values (int) and the values as pairs of timestamp (long) and value (double).
+ * Like the {@link RRD4jChartServlet}, this servlet does not require authentication. Clients needing access control
+ * use the REST persistence endpoint instead.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = RRD4jSeriesServlet.class, immediate = true)
+public class RRD4jSeriesServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    /** the URI of this servlet */
+    public static final String SERVLET_NAME = "/rrdseries";
+
+    private static final String DATASOURCE_STATE = "state";
+    private static final String FORMAT_BINARY = "binary";
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jSeriesServlet.class);
+
+    private final HttpService httpService;
+    private final ItemRegistry itemRegistry;
+    private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+
+    @Activate
+    public RRD4jSeriesServlet(final @Reference HttpService httpService, final @Reference ItemRegistry itemRegistry,
+            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+        this.httpService = httpService;
+        this.itemRegistry = itemRegistry;
+        this.persistenceServiceConfigurationRegistry = persistenceServiceConfigurationRegistry;
+        try {
+            logger.debug("Starting up rrd series servlet at {}", SERVLET_NAME);
+            httpService.registerServlet(SERVLET_NAME, this, new Hashtable<>(), httpService.createDefaultHttpContext());
+        } catch (NamespaceException | ServletException e) {
+            logger.error("Error during servlet startup", e);
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        httpService.unregister(SERVLET_NAME);
+    }
+
+    @Override
+    protected void doGet(@Nullable HttpServletRequest req, @Nullable HttpServletResponse res)
+            throws ServletException, IOException {
+        if (req == null || res == null) {
+            return;
+        }
+        String items = req.getParameter("items");
+        if (items == null || items.isBlank()) {
+            res.sendError(HttpServletResponse.SC_BAD_REQUEST, "Parameter 'items' is missing");
+            return;
+        }
+        String periodParam = req.getParameter("period");
+        Duration period = periodParam == null ? RRD4jChartServlet.DEFAULT_PERIOD
+                : RRD4jChartServlet.PERIODS.getOrDefault(periodParam, RRD4jChartServlet.DEFAULT_PERIOD);
+        long end = Instant.now().getEpochSecond();
+        long start = end - period.getSeconds();
+        String since = req.getParameter("since");
+        if (since != null) {
+            try {
+                start = Math.max(start, Long.parseLong(since) + 1);
+            } catch (NumberFormatException e) {
+                res.sendError(HttpServletResponse.SC_BAD_REQUEST, "Parameter 'since' is not a number");
+                return;
+            }
+        }
+
+        Map<String, List<Point>> series = new LinkedHashMap<>();
+        try {
+            PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry
+                    .get(RRD4jPersistenceService.SERVICE_ID);
+            for (String itemName : items.split(",")) {
+                // make sure only databases of existing items are read
+                String name = itemRegistry.getItem(itemName.trim()).getName();
+                String alias = config != null ? config.getAliases().get(name) : null;
+                series.put(name, fetch(alias != null ? alias : name, start, end));
+            }
+        } catch (ItemNotFoundException e) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND, e.getMessage());
+            return;
+        }
+
+        if (FORMAT_BINARY.equals(req.getParameter("format"))) {
+            res.setContentType("application/octet-stream");
+            writeBinary(series, new DataOutputStream(new BufferedOutputStream(res.getOutputStream())));
+        } else {
+            res.setContentType("application/json");
+            writeJson(series, new JsonWriter(new OutputStreamWriter(res.getOutputStream(), StandardCharsets.UTF_8)));
+        }
+    }
+
+    private List<Point> fetch(String name, long start, long end) throws IOException {
+        Path path = RRD4jPersistenceService.getDatabasePath(name);
+        List<Point> points = new ArrayList<>();
+        if (start >= end || !Files.exists(path)) {
+            return points;
+        }
+        Builder builder = RrdDb.getBuilder();
+        builder.setPool(RRD4jPersistenceService.getDatabasePool());
+        builder.setPath(path.toString());
+        RrdDb db = builder.build();
+        try {
+            ConsolFun consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+            FetchData data = db.createFetchRequest(consolFun, start, end).fetchData();
+            long[] timestamps = data.getTimestamps();
+            double[] values = data.getValues(DATASOURCE_STATE);
+            for (int i = 0; i < timestamps.length; i++) {
+                // the archive may have a coarser resolution than requested
+                if (timestamps[i] >= start && Double.isFinite(values[i])) {
+                    points.add(new Point(timestamps[i], values[i]));
+                }
+            }
+        } finally {
+            db.close();
+        }
+        return points;
+    }
+
+    private void writeJson(Map<String, List<Point>> series, JsonWriter writer) throws IOException {
+        writer.beginObject();
+        for (Map.Entry<String, List<Point>> entry : series.entrySet()) {
+            writer.name(entry.getKey()).beginArray();
+            for (Point point : entry.getValue()) {
+                writer.beginArray().value(point.timestamp()).value(point.value()).endArray();
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+        writer.flush();
+    }
+
+    private void writeBinary(Map<String, List<Point>> series, DataOutputStream out) throws IOException {
+        for (Map.Entry<String, List<Point>> entry : series.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Point point : entry.getValue()) {
+                out.writeLong(point.timestamp());
+                out.writeDouble(point.value());
+            }
+        }
+        out.flush();
+    }
+
+    private record Point(long timestamp, double value) {
+    }
+}
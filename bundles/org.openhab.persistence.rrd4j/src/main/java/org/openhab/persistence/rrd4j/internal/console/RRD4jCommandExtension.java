@@ -17,6 +17,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -36,6 +37,7 @@ import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriter;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -52,8 +54,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +92,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return;
         }
         printUsage(console);
     }
@@ -152,11 +158,27 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         console.println(nb + " files " + (checkOnly ? "to delete." : "deleted."));
     }
 
+    private void printStatistics(RRD4jPersistenceService persistenceService, Console console) {
+        RRD4jWriter.Statistics statistics = persistenceService.getWriterStatistics();
+        if (statistics == null) {
+            console.println("RRD4j persistence service is not active.");
+            return;
+        }
+        console.println("Samples written:        " + statistics.writes());
+        console.println("Samples pending:        " + statistics.pending());
+        console.println("Open databases:         " + statistics.openDatabases());
+        console.println(String.format(Locale.ROOT, "Average write time:     %.3f ms", statistics.averageWriteMillis()));
+        console.println(String.format(Locale.ROOT, "Maximum write time:     %.3f ms", statistics.maxWriteMillis()));
+        console.println("Last queue lag:         " + statistics.lastLagSeconds() + " s");
+        console.println("Maximum queue lag:      " + statistics.maxLagSeconds() + " s");
+    }
+
     @Override
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATS, "show statistics of the RRD writer threads"));
     }
 
     @Override
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriter.DatabaseOpener;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriter.PointWriter;
+import org.rrd4j.core.RrdDb;
+
+/**
+ * Tests the {@link RRD4jWriter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriterTest {
+    private final DatabaseOpener opener = mock(DatabaseOpener.class);
+    private final PointWriter pointWriter = mock(PointWriter.class);
+    private final RrdDb dbA = mock(RrdDb.class);
+    private final RrdDb dbB = mock(RrdDb.class);
+    private final RrdDb dbC = mock(RrdDb.class);
+
+    private @NonNullByDefault({}) RRD4jWriter writer;
+
+    @BeforeEach
+    public void setup() {
+        when(opener.open("A")).thenReturn(dbA);
+        when(opener.open("B")).thenReturn(dbB);
+        when(opener.open("C")).thenReturn(dbC);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void testSamplesOfAnItemAreWrittenInOrderByOneThread() {
+        Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+        Map<String, List<Double>> values = new ConcurrentHashMap<>();
+        writer = new RRD4jWriter(4, 100, name -> mock(RrdDb.class), (db, name, value, timestamp) -> {
+            threads.computeIfAbsent(name, n -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+            values.computeIfAbsent(name, n -> new ArrayList<>()).add(value);
+        });
+
+        List<String> names = IntStream.range(0, 20).mapToObj(i -> "Item" + i).toList();
+        for (int value = 0; value < 10; value++) {
+            for (String name : names) {
+                writer.write(name, value, 1000 + value);
+            }
+        }
+        writer.close();
+
+        List<Double> expected = IntStream.range(0, 10).mapToObj(i -> (double) i).toList();
+        for (String name : names) {
+            assertThat(values.get(name), is(equalTo(expected)));
+            assertThat(threads.get(name).size(), is(equalTo(1)));
+        }
+        Set<String> usedThreads = threads.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+        assertThat(usedThreads.size() > 1, is(true));
+        assertThat(writer.getStatistics().writes(), is(equalTo(200L)));
+    }
+
+    @Test
+    public void testOpenDatabasesAreKeptOpen() throws IOException {
+        writer = new RRD4jWriter(1, 10, opener, pointWriter);
+
+        writer.write("A", 1, 1000);
+        writer.write("A", 2, 1001);
+        writer.write("A", 3, 1002);
+
+        verify(pointWriter, timeout(5000)).write(dbA, "A", 3, 1002);
+        verify(opener, times(1)).open("A");
+        verify(dbA, never()).close();
+    }
+
+    @Test
+    public void testLeastRecentlyWrittenDatabaseIsClosed() throws IOException {
+        writer = new RRD4jWriter(1, 2, opener, pointWriter);
+
+        writer.write("A", 1, 1000);
+        writer.write("B", 1, 1000);
+        writer.write("A", 2, 1001);
+        writer.write("C", 1, 1000);
+
+        verify(dbB, timeout(5000)).close();
+        verify(dbA, never()).close();
+        verify(dbC, never()).close();
+
+        writer.write("B", 2, 1001);
+        verify(dbA, timeout(5000)).close();
+        verify(opener, times(2)).open("B");
+    }
+
+    @Test
+    public void testDatabasesAreClosedAfterEveryWriteWithoutLimit() throws IOException {
+        writer = new RRD4jWriter(1, 0, opener, pointWriter);
+
+        writer.write("A", 1, 1000);
+        writer.write("A", 2, 1001);
+
+        verify(dbA, timeout(5000).times(2)).close();
+        verify(opener, times(2)).open("A");
+        assertThat(writer.getStatistics().openDatabases(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testIdleDatabaseIsClosed() throws IOException {
+        writer = new RRD4jWriter(1, 10, Duration.ofMillis(100), opener, pointWriter);
+
+        writer.write("A", 1, 1000);
+
+        verify(dbA, timeout(5000)).close();
+
+        writer.write("A", 2, 1001);
+        verify(pointWriter, timeout(5000)).write(dbA, "A", 2, 1001);
+        verify(opener, times(2)).open("A");
+    }
+
+    @Test
+    public void testMissingDatabaseIsSkipped() {
+        writer = new RRD4jWriter(1, 10, opener, pointWriter);
+
+        writer.write("Unknown", 1, 1000);
+        writer.write("A", 1, 1000);
+
+        verify(pointWriter, timeout(5000)).write(dbA, "A", 1, 1000);
+        verify(pointWriter, never()).write(any(), eq("Unknown"), anyDouble(), anyLong());
+    }
+
+    @Test
+    public void testCloseWritesQueuedSamplesAndClosesDatabases() throws IOException {
+        writer = new RRD4jWriter(2, 10, opener, (db, name, value, timestamp) -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pointWriter.write(db, name, value, timestamp);
+        });
+
+        for (int i = 0; i < 10; i++) {
+            writer.write("A", i, 1000 + i);
+            writer.write("B", i, 1000 + i);
+        }
+        writer.close();
+
+        verify(pointWriter, times(10)).write(eq(dbA), eq("A"), anyDouble(), anyLong());
+        verify(pointWriter, times(10)).write(eq(dbB), eq("B"), anyDouble(), anyLong());
+        verify(dbA).close();
+        verify(dbB).close();
+        assertThat(writer.getStatistics().pending(), is(equalTo(0)));
+        assertThat(writer.getStatistics().openDatabases(), is(equalTo(0)));
+
+        // samples arriving after shutdown are discarded
+        writer.write("C", 1, 1000);
+        verify(opener, never()).open("C");
+    }
+}
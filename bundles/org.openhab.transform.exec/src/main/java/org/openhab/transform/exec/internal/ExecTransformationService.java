@@ -12,7 +12,10 @@
  */
 package org.openhab.transform.exec.internal;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -22,6 +25,7 @@ import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,8 +41,11 @@ import org.slf4j.LoggerFactory;
 @Component(property = { "openhab.transform=EXEC" })
 public class ExecTransformationService implements TransformationService {
     private static final Pattern SPLIT_ON_SPACE = Pattern.compile("(['])((?:\\\\\\1|.)+?)\\1|([^\\s']+)");
+    private static final String WORKER_PREFIX = "worker:";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
     private final ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService;
+    private final Map<String, ExecTransformationWorkerPool> workerPools = new ConcurrentHashMap<>();
 
     @Activate
     public ExecTransformationService(
@@ -46,11 +53,18 @@ public class ExecTransformationService implements TransformationService {
         this.execTransformationWhitelistWatchService = execTransformationWhitelistWatchService;
     }
 
+    @Deactivate
+    public void deactivate() {
+        workerPools.values().forEach(ExecTransformationWorkerPool::close);
+        workerPools.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by the command line.
      *
      * @param commandLine the command to execute. Command line should contain %s string, which will be replaced by the
-     *            input data.
+     *            input data. If the command line starts with {@code worker:}, the command is started once and the
+     *            input data is written to its standard input instead.
      * @param source the input to transform
      */
     @Override
@@ -61,18 +75,43 @@ public class ExecTransformationService implements TransformationService {
 
         if (!execTransformationWhitelistWatchService.isWhitelisted(commandLine)) {
             logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+            ExecTransformationWorkerPool workerPool = workerPools.remove(commandLine);
+            if (workerPool != null) {
+                workerPool.close();
+            }
             return null;
         }
         logger.debug("about to transform '{}' by the commandline '{}'", source, commandLine);
 
         long startTime = System.currentTimeMillis();
 
-        String formattedCommandLine = String.format(commandLine, source);
-        String[] cmdLineParts = SPLIT_ON_SPACE.matcher(formattedCommandLine).results()
-                .map(mr -> mr.group(2) == null ? mr.group() : mr.group(2)).toArray(String[]::new);
-        String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(5), cmdLineParts);
+        String result;
+        if (commandLine.startsWith(WORKER_PREFIX)) {
+            result = transformByWorker(commandLine, source);
+        } else {
+            String formattedCommandLine = String.format(commandLine, source);
+            result = ExecUtil.executeCommandLineAndWaitResponse(TIMEOUT, splitCommandLine(formattedCommandLine));
+        }
         logger.trace("command line execution elapsed {} ms", System.currentTimeMillis() - startTime);
 
         return result;
     }
+
+    private @Nullable String transformByWorker(String commandLine, String source) throws TransformationException {
+        ExecTransformationWorkerPool workerPool = workerPools.computeIfAbsent(commandLine,
+                c -> new ExecTransformationWorkerPool(splitCommandLine(c.substring(WORKER_PREFIX.length())), TIMEOUT));
+        try {
+            return workerPool.process(source);
+        } catch (IOException e) {
+            throw new TransformationException("Failed to start worker for '" + commandLine + "'", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String[] splitCommandLine(String commandLine) {
+        return SPLIT_ON_SPACE.matcher(commandLine).results().map(mr -> mr.group(2) == null ? mr.group() : mr.group(2))
+                .toArray(String[]::new);
+    }
 }
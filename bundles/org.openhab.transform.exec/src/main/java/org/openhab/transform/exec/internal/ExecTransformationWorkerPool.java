@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecTransformationWorkerPool} keeps long-running worker processes for one command line.
+ * <p>
+ * Each value is written as a single line to the standard input of an idle worker, the next line the worker writes to
+ * its standard output is the result. Workers that terminate or do not answer in time are discarded and replaced by a
+ * new process on the next request.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ExecTransformationWorkerPool {
+    private static final int MAX_WORKERS = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(ExecTransformationWorkerPool.class);
+    private final String[] commandLine;
+    private final String command;
+    private final Duration timeout;
+    private final Semaphore permits = new Semaphore(MAX_WORKERS, true);
+    private final BlockingQueue<Worker> idleWorkers = new LinkedBlockingQueue<>();
+    private final NamedThreadFactory threadFactory = new NamedThreadFactory("transform-exec", true);
+    private volatile boolean closed = false;
+
+    public ExecTransformationWorkerPool(String[] commandLine, Duration timeout) {
+        this.commandLine = commandLine;
+        this.command = String.join(" ", commandLine);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Process a value by one of the workers of this pool.
+     *
+     * @param value the value, line breaks are replaced by the escape sequence {@code \n}
+     * @return the line returned by the worker or {@code null} if no result was received in time
+     * @throws IOException if no worker could be started
+     * @throws InterruptedException if the calling thread was interrupted
+     */
+    public @Nullable String process(String value) throws IOException, InterruptedException {
+        String line = value.replaceAll("\r\n|\r|\n", "\\\\n");
+
+        if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.warn("No worker for '{}' became available within {} ms", command, timeout.toMillis());
+            return null;
+        }
+        try {
+            // one retry in case an idle worker has terminated in the meantime
+            for (int attempt = 0; attempt < 2; attempt++) {
+                Worker worker = getWorker();
+                try {
+                    String result = worker.process(line, timeout);
+                    if (result == null) {
+                        logger.warn("Worker '{}' did not answer within {} ms, restarting it", command,
+                                timeout.toMillis());
+                        worker.destroy();
+                    } else if (closed) {
+                        worker.destroy();
+                    } else {
+                        idleWorkers.add(worker);
+                    }
+                    return result;
+                } catch (IOException e) {
+                    logger.debug("Worker '{}' terminated: {}", command, e.getMessage());
+                    worker.destroy();
+                }
+            }
+            return null;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Stop all idle workers. Workers that are currently in use are stopped when they are returned.
+     */
+    public void close() {
+        closed = true;
+        @Nullable
+        Worker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.destroy();
+        }
+    }
+
+    private Worker getWorker() throws IOException {
+        @Nullable
+        Worker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            if (worker.isAlive()) {
+                return worker;
+            }
+            worker.destroy();
+        }
+        return new Worker();
+    }
+
+    private class Worker {
+        private final Process process;
+        private final BufferedWriter writer;
+        // the lines written by the process, an empty value once its output is closed
+        private final BlockingQueue<Optional<String>> lines = new LinkedBlockingQueue<>();
+
+        public Worker() throws IOException {
+            process = new ProcessBuilder(commandLine).redirectError(Redirect.DISCARD).start();
+            writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            threadFactory.newThread(this::readOutput).start();
+            logger.debug("Started worker {} for '{}'", process.pid(), command);
+        }
+
+        public @Nullable String process(String line, Duration timeout) throws IOException, InterruptedException {
+            // discard unsolicited output, but do not wait for an answer of a worker that closed its output
+            @Nullable
+            Optional<String> unsolicited;
+            while ((unsolicited = lines.poll()) != null) {
+                if (unsolicited.isEmpty()) {
+                    throw new IOException("Worker " + process.pid() + " closed its output");
+                }
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+
+            @Nullable
+            Optional<String> result = lines.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (result == null) {
+                return null;
+            }
+            return result.orElseThrow(() -> new IOException("Worker " + process.pid() + " closed its output"));
+        }
+
+        public boolean isAlive() {
+            return process.isAlive();
+        }
+
+        public void destroy() {
+            process.destroy();
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // the process has already closed its input
+            }
+            try {
+                process.getInputStream().close();
+            } catch (IOException e) {
+                // the stream is closed anyway
+            }
+        }
+
+        private void readOutput() {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(Optional.of(line));
+                }
+            } catch (IOException e) {
+                // the process has been destroyed
+            }
+            lines.add(Optional.empty());
+        }
+    }
+}
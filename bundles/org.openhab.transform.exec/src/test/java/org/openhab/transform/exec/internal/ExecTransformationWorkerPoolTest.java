@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+/**
+ * Tests cases for {@link ExecTransformationWorkerPool} with real worker processes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@DisabledOnOs(OS.WINDOWS)
+public class ExecTransformationWorkerPoolTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<ProcessHandle> existingChildren = ProcessHandle.current().children().toList();
+    private @NonNullByDefault({}) ExecTransformationWorkerPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private List<ProcessHandle> startedWorkers() {
+        return ProcessHandle.current().children().filter(child -> !existingChildren.contains(child)).toList();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        pool = new ExecTransformationWorkerPool(new String[] { "cat" }, TIMEOUT);
+
+        assertThat(pool.process("first"), is(equalTo("first")));
+        assertThat(pool.process("second\nline"), is(equalTo("second\\nline")));
+        assertThat(startedWorkers().size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testWorkerThatClosedItsOutputIsReplaced() throws Exception {
+        // answers once, then closes its output but keeps running
+        pool = new ExecTransformationWorkerPool(
+                new String[] { "sh", "-c", "read line; echo \"$line\"; exec 1>&-; exec sleep 30" }, TIMEOUT);
+
+        assertThat(pool.process("first"), is(equalTo("first")));
+        long start = System.nanoTime();
+        assertThat(pool.process("second"), is(equalTo("second")));
+        assertThat(System.nanoTime() - start < TIMEOUT.toNanos(), is(true));
+    }
+
+    @Test
+    public void testTerminatedWorkerIsReplaced() throws Exception {
+        pool = new ExecTransformationWorkerPool(new String[] { "sh", "-c", "read line; echo \"$line\"" }, TIMEOUT);
+
+        assertThat(pool.process("first"), is(equalTo("first")));
+        assertThat(pool.process("second"), is(equalTo("second")));
+    }
+
+    @Test
+    public void testWorkerNotAnsweringInTimeIsDestroyed() throws Exception {
+        pool = new ExecTransformationWorkerPool(new String[] { "sh", "-c", "read line; exec sleep 30" },
+                Duration.ofMillis(200));
+
+        assertThat(pool.process("value"), is(nullValue()));
+        for (ProcessHandle worker : startedWorkers()) {
+            worker.onExit().get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCloseStopsIdleWorkers() throws Exception {
+        pool = new ExecTransformationWorkerPool(new String[] { "cat" }, TIMEOUT);
+        assertThat(pool.process("value"), is(equalTo("value")));
+        List<ProcessHandle> workers = startedWorkers();
+        assertThat(workers.size(), is(equalTo(1)));
+
+        pool.close();
+
+        workers.get(0).onExit().get(5, TimeUnit.SECONDS);
+        assertThat(workers.get(0).isAlive(), is(false));
+        // a closed pool still answers, but does not keep the worker
+        assertThat(pool.process("value"), is(equalTo("value")));
+        for (ProcessHandle worker : startedWorkers()) {
+            worker.onExit().get(5, TimeUnit.SECONDS);
+        }
+    }
+}
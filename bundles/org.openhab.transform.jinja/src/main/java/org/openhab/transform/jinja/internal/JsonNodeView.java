@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja.internal;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The {@link JsonNodeView} exposes a Jackson tree to templates as read-only {@link Map} and {@link java.util.List}
+ * views. Child nodes are only converted when a template actually accesses them.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class JsonNodeView {
+
+    private JsonNodeView() {
+        // prevent instantiation
+    }
+
+    /**
+     * Convert a node to the object exposed to templates. Containers are wrapped in lazy views, scalar values are
+     * converted directly.
+     *
+     * @param node the JSON node
+     * @return a {@link Map}, a {@link java.util.List}, a {@link java.math.BigDecimal}, a {@link String}, a
+     *         {@link Boolean} or {@code null}
+     */
+    public static @Nullable Object of(JsonNode node) {
+        switch (node.getNodeType()) {
+            case ARRAY:
+                return new ArrayView(node);
+            case NUMBER:
+                return node.decimalValue();
+            case OBJECT:
+                return new ObjectView(node);
+            case STRING:
+                return node.asText();
+            case BOOLEAN:
+                return node.asBoolean();
+            case NULL:
+            default:
+                return null;
+        }
+    }
+
+    private static class ArrayView extends AbstractList<@Nullable Object> {
+        private final JsonNode node;
+
+        ArrayView(JsonNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(int index) {
+            if (index < 0 || index >= node.size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return of(node.get(index));
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+    }
+
+    private static class ObjectView extends AbstractMap<String, @Nullable Object> {
+        private final JsonNode node;
+
+        ObjectView(JsonNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable Object key) {
+            if (key instanceof String field) {
+                JsonNode child = node.get(field);
+                return child == null ? null : of(child);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return key instanceof String field && node.has(field);
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+
+        @Override
+        public Set<Entry<String, @Nullable Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, @Nullable Object>> iterator() {
+                    Iterator<Entry<String, JsonNode>> fields = node.fields();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return fields.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, @Nullable Object> next() {
+                            Entry<String, JsonNode> field = fields.next();
+                            return new SimpleImmutableEntry<>(field.getKey(), of(field.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return node.size();
+                }
+            };
+        }
+    }
+}
@@ -113,4 +113,23 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testNestedArraysAndObjects() throws TransformationException {
+        String json = "{\"sensors\":[{\"name\":\"a\",\"value\":1.5},{\"name\":\"b\",\"value\":true}]}";
+
+        assertEquals("b", processor.transform("{{ value_json.sensors[1].name }}", json));
+        assertEquals("2", processor.transform("{{ value_json.sensors | length }}", json));
+        assertEquals("a=1.5 b=true ",
+                processor.transform("{% for s in value_json.sensors %}{{ s.name }}={{ s.value }} {% endfor %}", json));
+    }
+
+    @Test
+    public void testCachedTemplateIsRenderedWithNewBindings() throws TransformationException {
+        String template = "{{ value_json.state | upper }}";
+
+        assertEquals("ON", processor.transform(template, "{\"state\": \"on\"}"));
+        assertEquals("OFF", processor.transform(template, "{\"state\": \"off\"}"));
+        assertEquals("", processor.transform(template, "{\"other\": \"on\"}"));
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * The {@link JSonPathCache} keeps compiled {@link JsonPath} expressions and recently parsed JSON documents.
+ * <p>
+ * Compiled expressions are kept in a LRU cache. Parsed documents are kept for a short time and are looked up by the
+ * identity of the source string, so several expressions applied to the same payload (e.g. by multiple channels of
+ * one thing) only parse it once.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class JSonPathCache {
+    static final int PATH_CACHE_SIZE = 256;
+    static final int DOCUMENT_CACHE_SLOTS = 16;
+    static final long DOCUMENT_EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Configuration configuration = Configuration.defaultConfiguration();
+
+    private final Map<String, JsonPath> pathCache = new LinkedHashMap<>(PATH_CACHE_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, JsonPath> eldest) {
+            return size() > PATH_CACHE_SIZE;
+        }
+    };
+    private final AtomicReferenceArray<@Nullable ParsedDocument> documentCache = new AtomicReferenceArray<>(
+            DOCUMENT_CACHE_SLOTS);
+
+    private final AtomicLong pathHits = new AtomicLong();
+    private final AtomicLong pathMisses = new AtomicLong();
+    private final AtomicLong documentHits = new AtomicLong();
+    private final AtomicLong documentMisses = new AtomicLong();
+
+    /**
+     * Get the compiled expression, compiling it if it is not yet cached.
+     *
+     * @param expression the JsonPath expression
+     * @return the compiled expression
+     * @throws InvalidPathException if the expression is invalid
+     */
+    public JsonPath getPath(String expression) {
+        synchronized (pathCache) {
+            JsonPath path = pathCache.get(expression);
+            if (path != null) {
+                pathHits.incrementAndGet();
+                return path;
+            }
+        }
+        pathMisses.incrementAndGet();
+        JsonPath path = JsonPath.compile(expression);
+        synchronized (pathCache) {
+            pathCache.put(expression, path);
+        }
+        return path;
+    }
+
+    /**
+     * Get the parsed document for the given source, parsing it if the same source instance was not parsed recently.
+     *
+     * @param source the JSON string
+     * @return the parsed document
+     * @throws InvalidJsonException if the source is not valid JSON
+     */
+    public Object getDocument(String source) {
+        long now = System.nanoTime();
+        int slot = System.identityHashCode(source) & (DOCUMENT_CACHE_SLOTS - 1);
+        ParsedDocument cached = documentCache.get(slot);
+        if (cached != null && cached.source() == source && now - cached.parsedAt() < DOCUMENT_EXPIRY_NANOS) {
+            documentHits.incrementAndGet();
+            return cached.document();
+        }
+        documentMisses.incrementAndGet();
+        Object document = configuration.jsonProvider().parse(source);
+        documentCache.set(slot, new ParsedDocument(source, document, now));
+        return document;
+    }
+
+    /**
+     * Apply the expression to the source.
+     *
+     * @param expression the JsonPath expression
+     * @param source the JSON string
+     * @return the result of the expression
+     */
+    public @Nullable Object read(String expression, String source) {
+        JsonPath path = getPath(expression);
+        return path.read(getDocument(source), configuration);
+    }
+
+    public long getPathHits() {
+        return pathHits.get();
+    }
+
+    public long getPathMisses() {
+        return pathMisses.get();
+    }
+
+    public long getDocumentHits() {
+        return documentHits.get();
+    }
+
+    public long getDocumentMisses() {
+        return documentMisses.get();
+    }
+
+    private record ParsedDocument(String source, Object document, long parsedAt) {
+    }
+}
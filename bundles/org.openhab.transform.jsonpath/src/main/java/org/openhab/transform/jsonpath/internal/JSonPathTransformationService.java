@@ -26,7 +26,6 @@ import org.slf4j.LoggerFactory;
 
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
 /**
@@ -41,6 +40,8 @@ public class JSonPathTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final JSonPathCache cache = new JSonPathCache();
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,8 +63,13 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = cache.read(jsonPathExpression, source);
             logger.debug("transformation resulted in '{}'", transformationResult);
+            if (logger.isTraceEnabled()) {
+                logger.trace("cache statistics: paths {} hits/{} misses, documents {} hits/{} misses",
+                        cache.getPathHits(), cache.getPathMisses(), cache.getDocumentHits(),
+                        cache.getDocumentMisses());
+            }
             if (transformationResult == null) {
                 return null;
             } else if (transformationResult instanceof List<?> list) {
@@ -78,6 +84,10 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    JSonPathCache getCache() {
+        return cache;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -129,4 +129,30 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testCachesPathsAndDocuments() throws TransformationException {
+        JSonPathCache cache = processor.getCache();
+
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", JSON_ARRAY));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+
+        assertEquals(1, cache.getPathHits());
+        assertEquals(2, cache.getPathMisses());
+        assertEquals(2, cache.getDocumentHits());
+        assertEquals(1, cache.getDocumentMisses());
+    }
+
+    @Test
+    public void testDocumentCacheUsesIdentity() throws TransformationException {
+        JSonPathCache cache = processor.getCache();
+        String other = new String(JSON_ARRAY);
+
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("bob", processor.transform("$[0].name", other));
+
+        assertEquals(0, cache.getDocumentHits());
+        assertEquals(2, cache.getDocumentMisses());
+    }
 }
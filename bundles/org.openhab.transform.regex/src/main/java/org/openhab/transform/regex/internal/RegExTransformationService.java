@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,6 +41,17 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int PATTERN_CACHE_SIZE = 128;
+
+    private final Map<String, CompiledExpression> patternCache = new LinkedHashMap<>(PATTERN_CACHE_SIZE, 0.75f,
+            true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CompiledExpression> eldest) {
+            return size() > PATTERN_CACHE_SIZE;
+        }
+    };
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -48,50 +61,69 @@ public class RegExTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
 
-        String result = "";
+        CompiledExpression expression = getCompiledExpression(regExpression);
+        Matcher matcher = expression.pattern().matcher(source.trim());
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        String substitution = expression.substitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
-            } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
-            }
+            return expression.global() ? matcher.replaceAll(substitution) : matcher.replaceFirst(substitution);
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
                     regExpression, source);
             return null;
         }
-        matcher.reset();
-
-        while (matcher.find()) {
-            if (matcher.groupCount() == 0) {
-                logger.info(
-                        "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
-                        regExpression);
-                continue;
-            }
 
-            result = matcher.group(1);
+        if (matcher.groupCount() == 0) {
+            logger.info(
+                    "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
+                    regExpression);
+            return "";
+        }
 
-            if (matcher.groupCount() > 1) {
-                logger.debug(
-                        "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
-                        regExpression);
+        if (matcher.groupCount() > 1) {
+            logger.debug(
+                    "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
+                    regExpression);
+        }
+
+        return matcher.group(1);
+    }
+
+    /**
+     * Get the compiled form of the given expression. Both the substitution form and the anchored match form are
+     * cached, keyed by the complete expression.
+     */
+    private CompiledExpression getCompiledExpression(String regExpression) {
+        synchronized (patternCache) {
+            CompiledExpression expression = patternCache.get(regExpression);
+            if (expression != null) {
+                return expression;
             }
         }
 
-        return result;
+        CompiledExpression expression;
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            expression = new CompiledExpression(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        } else {
+            expression = new CompiledExpression(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null,
+                    false);
+        }
+
+        synchronized (patternCache) {
+            patternCache.put(regExpression, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * A compiled expression. If {@code substitution} is set, the expression is of the form {@code s/regex/subst/opts}.
+     */
+    private record CompiledExpression(Pattern pattern, @Nullable String substitution, boolean global) {
     }
 }
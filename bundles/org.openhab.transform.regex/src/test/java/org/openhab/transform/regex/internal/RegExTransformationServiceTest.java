@@ -75,4 +75,13 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_repeatedWithCachedPattern() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("21.5", processor.transform("T1:(.*?);.*", "T1:21.5;T2:19.0\r\n"));
+            assertEquals("OFF", processor.transform("s/^PW(ON|OFF)$/$1/", "PWOFF"));
+            assertNull(processor.transform("T1:(.*?);.*", "H1:45"));
+        }
+    }
 }
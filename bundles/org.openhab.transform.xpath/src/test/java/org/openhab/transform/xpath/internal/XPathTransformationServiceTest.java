@@ -38,4 +38,18 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testRepeatedTransformsReuseParserAndExpressions() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+            assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+        }
+    }
+
+    @Test
+    public void testInvalidExpressionThrowsException() {
+        assertThrows(TransformationException.class, () -> processor.transform("//[", source));
+        assertThrows(TransformationException.class, () -> processor.transform("//[", source));
+    }
 }
@@ -15,9 +15,12 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -43,6 +46,9 @@ public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final Map<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -50,6 +56,8 @@ public class XsltTransformationService implements TransformationService {
      * is stored under the 'configurations/transform' folder. To organize the
      * various transformations one should use subfolders.
      *
+     * The compiled stylesheet is cached and only recompiled when the file changes.
+     *
      * @param filename the name of the file which contains the XSLT transformation rule.
      *            The name may contain subfoldernames as well
      * @param source the input to transform
@@ -60,12 +68,16 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        File file;
+        long lastModified;
+        long length;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            file = new File(path);
+            lastModified = file.lastModified();
+            length = file.length();
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -73,15 +85,14 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException(message, e);
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, file);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            Templates templates = getTemplates(file, lastModified, length);
+            Transformer transformer = templates.newTransformer();
             transformer.transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
@@ -92,4 +103,25 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    private Templates getTemplates(File file, long lastModified, long length) throws TransformerConfigurationException {
+        String key = file.getPath();
+        CachedTemplates cached = templatesCache.get(key);
+        if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+            return cached.templates();
+        }
+
+        Templates templates;
+        // TransformerFactory is not thread-safe, the compiled Templates are
+        synchronized (transformerFactory) {
+            templates = transformerFactory.newTemplates(new StreamSource(file));
+        }
+        if (lastModified != 0L) {
+            templatesCache.put(key, new CachedTemplates(templates, lastModified, length));
+        }
+        return templates;
+    }
+
+    private record CachedTemplates(Templates templates, long lastModified, long length) {
+    }
 }
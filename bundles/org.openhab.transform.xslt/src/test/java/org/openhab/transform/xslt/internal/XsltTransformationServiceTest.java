@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +55,29 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformRecompilesChangedStylesheet() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("changing.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), stylesheet,
+                StandardCopyOption.REPLACE_EXISTING);
+        FileTime initialTime = Files.getLastModifiedTime(stylesheet);
+
+        assertEquals("8", processor.transform("http/changing.xsl", source));
+        assertEquals("8", processor.transform("http/changing.xsl", source));
+
+        Files.writeString(stylesheet, """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:output method="text" encoding="UTF-8" />
+                    <xsl:template match="//current_conditions">
+                        <xsl:value-of select="temp_f/@data" />
+                    </xsl:template>
+                    <xsl:template match="text()" />
+                </xsl:stylesheet>
+                """);
+        Files.setLastModifiedTime(stylesheet, FileTime.fromMillis(initialTime.toMillis() + 2000));
+
+        assertEquals("46", processor.transform("http/changing.xsl", source));
+    }
 }